@@ -0,0 +1,26 @@
+package com.tlam.backend.artist;
+
+import java.util.List;
+
+import com.tlam.backend.card.CardDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the cards of an artist
+ * Total counts every card of the artist, cards holds one page of them, newest set first.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArtistCardsDTO {
+    private Integer id;
+    private String name;
+    private int total;
+    private List<CardDTO> cards;
+    private String nextCursor;
+}
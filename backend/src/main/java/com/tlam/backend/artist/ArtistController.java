@@ -0,0 +1,117 @@
+package com.tlam.backend.artist;
+
+import java.util.Optional;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.catalog.PageDTO;
+import com.tlam.backend.config.CatalogConfig;
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.exception.InvalidCursorException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for browsing artists
+ * Lists the illustrators credited on cards and the cards each of them illustrated
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/artists")
+@RequiredArgsConstructor
+@Tag(name = "Artists", description = "Operations related to card illustrators")
+public class ArtistController {
+
+    private final ArtistService artistService;
+    private final CatalogConfig catalogConfig;
+
+    @Operation(
+        summary = "List artists",
+        description = "Returns the artists credited on at least one card, sorted by name, with the number of cards each illustrated."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of artists returned",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination cursor")
+    })
+    @GetMapping
+    public ResponseEntity<PageDTO<ArtistDTO>> getArtists(
+        @Parameter(description = "Cursor returned as nextCursor by the previous page, omit for the first page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to the configured page size")
+        @RequestParam(required = false) Integer limit
+    ) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : catalogConfig.getDefaultPageSize(), catalogConfig.getMaxPageSize()));
+
+        try {
+            PageDTO<ArtistDTO> page = artistService.getArtists(cursor, pageSize);
+            log.info("Returning page of {} artists", page.getItems().size());
+            return ResponseEntity.ok(page);
+        } catch (CatalogUnavailableException | InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving artists", e);
+            throw new RuntimeException("Failed to retrieve artists");
+        }
+    }
+
+    @Operation(
+        summary = "Get the cards of an artist",
+        description = "Returns the cards illustrated by the artist, newest set first."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Page of cards returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ArtistCardsDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination cursor"),
+        @ApiResponse(responseCode = "404", description = "No card with this artist")
+    })
+    @GetMapping("/{artistID}/cards")
+    public ResponseEntity<ArtistCardsDTO> getArtistCards(
+        @Parameter(description = "ID of the artist", example = "1", required = true)
+        @PathVariable int artistID,
+        @Parameter(description = "Cursor returned as nextCursor by the previous page, omit for the first page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to the configured page size")
+        @RequestParam(required = false) Integer limit
+    ) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : catalogConfig.getDefaultPageSize(), catalogConfig.getMaxPageSize()));
+
+        try {
+            Optional<ArtistCardsDTO> cards = artistService.getCards(artistID, cursor, pageSize);
+            if (cards.isEmpty()) {
+                log.info("No cards found for artist with ID: {}", artistID);
+                return ResponseEntity.notFound().build();
+            }
+
+            log.info("Returning {} of {} cards of artist with ID: {}", cards.get().getCards().size(), cards.get().getTotal(), artistID);
+            return ResponseEntity.ok(cards.get());
+        } catch (CatalogUnavailableException | InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving cards of artist with ID: {}", artistID, e);
+            throw new RuntimeException("Failed to retrieve cards of artist with ID: " + artistID);
+        }
+    }
+}
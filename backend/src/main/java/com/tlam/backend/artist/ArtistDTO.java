@@ -0,0 +1,19 @@
+package com.tlam.backend.artist;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for an artist and the number of cards they illustrated
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ArtistDTO {
+    private Integer id;
+    private String name;
+    private int cardCount;
+}
@@ -0,0 +1,73 @@
+package com.tlam.backend.artist;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encodes artist names as ids of the artists table while cards are seeded
+ * Known names are cached, so a full seed inserts each new artist once and otherwise never reaches the database.
+ */
+@Slf4j
+@Component
+public class ArtistDictionary {
+
+    private final ArtistRepository artistRepository;
+
+    // Loaded from the table on first use
+    private volatile Map<String, Integer> ids;
+
+    public ArtistDictionary(ArtistRepository artistRepository) {
+        this.artistRepository = artistRepository;
+    }
+
+    /**
+     * Returns the id of the artist, adding the artist to the dictionary if needed, or null for a missing name
+     * Safe to call from the seeding threads.
+     */
+    public Integer idOf(String name) {
+        if (name == null || name.isBlank()) {
+            return null;
+        }
+        String trimmed = name.trim();
+
+        Integer id = ids().get(trimmed);
+        return id != null ? id : add(trimmed);
+    }
+
+    private synchronized Integer add(String name) {
+        Integer id = ids.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        try {
+            id = artistRepository.save(Artist.builder().name(name).build()).getId();
+            log.debug("Added artist {} ({})", name, id);
+        } catch (DataIntegrityViolationException e) {
+            // Added by another instance since the dictionary was loaded
+            id = artistRepository.findByName(name).orElseThrow(() -> e).getId();
+        }
+        ids.put(name, id);
+        return id;
+    }
+
+    private Map<String, Integer> ids() {
+        Map<String, Integer> current = ids;
+        if (current == null) {
+            synchronized (this) {
+                if (ids == null) {
+                    Map<String, Integer> loaded = new ConcurrentHashMap<>();
+                    artistRepository.findAll().forEach(artist -> loaded.put(artist.getName(), artist.getId()));
+                    ids = loaded;
+                }
+                current = ids;
+            }
+        }
+        return current;
+    }
+}
@@ -0,0 +1,104 @@
+package com.tlam.backend.artist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+/**
+ * Index from artist id to the ordinals of every card the artist illustrated
+ * Artists are kept sorted by name for listing, postings are stored newest set first (and in card order within a set).
+ */
+final class ArtistIndex {
+
+    // One artist with the ordinals of its cards
+    record Entry(int id, String name, int[] ordinals) {
+    }
+
+    private static final Comparator<Entry> BY_NAME = Comparator.comparing(Entry::name, String.CASE_INSENSITIVE_ORDER)
+            .thenComparingInt(Entry::id);
+
+    private final Entry[] byName;
+    // Artist id to its position in byName
+    private final Map<Integer, Integer> positions;
+
+    private ArtistIndex(Entry[] byName, Map<Integer, Integer> positions) {
+        this.byName = byName;
+        this.positions = positions;
+    }
+
+    static ArtistIndex empty() {
+        return new ArtistIndex(new Entry[0], Map.of());
+    }
+
+    static ArtistIndex build(CatalogSnapshot snapshot) {
+        Map<Integer, String> names = new HashMap<>();
+        Map<Integer, Postings> postings = new HashMap<>();
+        for (CardSetView set : snapshot.getSets()) {
+            for (CardView card : snapshot.getCardViewsBySet(set.id())) {
+                if (card.artistId() == null) {
+                    continue;
+                }
+                names.putIfAbsent(card.artistId(), card.artist());
+                postings.computeIfAbsent(card.artistId(), id -> new Postings()).add(snapshot.getOrdinal(card.id()));
+            }
+        }
+
+        List<Entry> artists = new ArrayList<>(postings.size());
+        postings.forEach((id, ordinals) -> artists.add(new Entry(id, names.get(id), ordinals.toArray())));
+        artists.sort(BY_NAME);
+
+        Map<Integer, Integer> positions = HashMap.newHashMap(artists.size());
+        for (int i = 0; i < artists.size(); i++) {
+            positions.put(artists.get(i).id(), i);
+        }
+        return new ArtistIndex(artists.toArray(Entry[]::new), positions);
+    }
+
+    int size() {
+        return byName.length;
+    }
+
+    Entry get(int id) {
+        Integer position = positions.get(id);
+        return position != null ? byName[position] : null;
+    }
+
+    /**
+     * Artists sorted by name, starting after the artist with the given id (from the first if null)
+     * Returns null if there is no artist with that id.
+     */
+    List<Entry> page(Integer afterId, int limit) {
+        int from = 0;
+        if (afterId != null) {
+            Integer position = positions.get(afterId);
+            if (position == null) {
+                return null;
+            }
+            from = position + 1;
+        }
+        return Arrays.asList(byName).subList(from, Math.min(byName.length, from + limit));
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[8];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
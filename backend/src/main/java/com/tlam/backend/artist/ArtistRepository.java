@@ -0,0 +1,9 @@
+package com.tlam.backend.artist;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArtistRepository extends JpaRepository<Artist, Integer> {
+    Optional<Artist> findByName(String name);
+}
@@ -0,0 +1,130 @@
+package com.tlam.backend.artist;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.catalog.Cursors;
+import com.tlam.backend.catalog.PageDTO;
+import com.tlam.backend.exception.InvalidCursorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for listing artists and the cards they illustrated
+ * The artist index is rebuilt with every catalog snapshot, requests never reach the database
+ */
+@Slf4j
+@Service
+public class ArtistService {
+
+    private final CatalogService catalogService;
+
+    // Index and the snapshot its ordinals refer to, replaced as a whole on rebuild
+    private record ArtistState(CatalogSnapshot snapshot, ArtistIndex index) {
+    }
+
+    private volatile ArtistState state = new ArtistState(CatalogSnapshot.empty(), ArtistIndex.empty());
+
+    public ArtistService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        ArtistIndex index = ArtistIndex.build(event.snapshot());
+        state = new ArtistState(event.snapshot(), index);
+        log.info("Built artist index with {} artists in {} ms", index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns the page of artists following the cursor (the first page if the cursor is null), sorted by name
+     */
+    public PageDTO<ArtistDTO> getArtists(String cursor, int limit) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        // One artist more than the page tells whether there is a next page
+        List<ArtistIndex.Entry> artists = state.index().page(cursor != null ? artistIdOf(cursor) : null, limit + 1);
+        if (artists == null) {
+            // The artist has no cards left in the catalog since the previous page
+            throw new InvalidCursorException(cursor);
+        }
+
+        List<ArtistIndex.Entry> page = artists.subList(0, Math.min(limit, artists.size()));
+        return PageDTO.<ArtistDTO>builder()
+                .items(page.stream().map(ArtistService::toDTO).toList())
+                .nextCursor(artists.size() > limit ? Cursors.encode(String.valueOf(page.get(page.size() - 1).id())) : null)
+                .build();
+    }
+
+    /**
+     * Returns the page of the artist's cards following the cursor (the first page if the cursor is null), newest set first,
+     * or empty if no card in the catalog has this artist
+     */
+    public Optional<ArtistCardsDTO> getCards(int artistId, String cursor, int limit) {
+        catalogService.snapshot();
+
+        ArtistState current = state;
+        ArtistIndex.Entry artist = current.index().get(artistId);
+        if (artist == null) {
+            return Optional.empty();
+        }
+        return Optional.of(page(current.snapshot(), artist, cursor, limit));
+    }
+
+    static ArtistCardsDTO page(CatalogSnapshot snapshot, ArtistIndex.Entry artist, String cursor, int limit) {
+        int[] ordinals = artist.ordinals();
+        int from = cursor != null ? positionAfter(snapshot, ordinals, cursor) : 0;
+        int to = Math.min(ordinals.length, from + limit);
+
+        List<CardDTO> cards = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            cards.add(snapshot.getCard(snapshot.getCardByOrdinal(ordinals[i]).id()).orElseThrow());
+        }
+
+        return ArtistCardsDTO.builder()
+                .id(artist.id())
+                .name(artist.name())
+                .total(ordinals.length)
+                .cards(cards)
+                .nextCursor(to < ordinals.length ? Cursors.encode(snapshot.getCardByOrdinal(ordinals[to - 1]).id()) : null)
+                .build();
+    }
+
+    static ArtistDTO toDTO(ArtistIndex.Entry artist) {
+        return ArtistDTO.builder()
+                .id(artist.id())
+                .name(artist.name())
+                .cardCount(artist.ordinals().length)
+                .build();
+    }
+
+    private static int artistIdOf(String cursor) {
+        try {
+            return Integer.parseInt(Cursors.decode(cursor, 1)[0]);
+        } catch (NumberFormatException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    // Position following the cursor's card, artists have few enough cards that a scan is cheap
+    private static int positionAfter(CatalogSnapshot snapshot, int[] ordinals, String cursor) {
+        int after = snapshot.findOrdinal(Cursors.decode(cursor, 1)[0]);
+        for (int i = 0; after >= 0 && i < ordinals.length; i++) {
+            if (ordinals[i] == after) {
+                return i + 1;
+            }
+        }
+        // The card was removed from the catalog or changed artist since the previous page
+        throw new InvalidCursorException(cursor);
+    }
+}
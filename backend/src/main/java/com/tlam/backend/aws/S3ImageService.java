@@ -1,8 +1,10 @@
 package com.tlam.backend.aws;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import com.tlam.backend.config.S3Config;
+import com.tlam.backend.image.ImageStore;
 
 import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -14,7 +16,8 @@ import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 @Slf4j
 @Service
-public class S3ImageService {
+@ConditionalOnProperty(prefix = "image-store", name = "type", havingValue = "s3", matchIfMissing = true)
+public class S3ImageService implements ImageStore {
     private final S3Client s3Client;
     private final S3Config s3Config;
 
@@ -23,12 +26,8 @@ public class S3ImageService {
         this.s3Config = s3Config;
     }
 
-    // Uploads an image to S3 and returns the URL of the uploaded image
-    public String uploadImage(byte[] imageData, String fileName, String contentType) {
-        return uploadImage(imageData, fileName, contentType, "cards");
-    }
-
     // Uploads an image to S3 with a specified folder and returns the URL of the uploaded image
+    @Override
     public String uploadImage(byte[] imageData, String fileName, String contentType, String folder) {
         try {
             String key = folder + "/" + fileName;
@@ -64,6 +63,7 @@ public class S3ImageService {
     }
 
     // Deletes an image from S3
+    @Override
     public void deleteImage(String key) {
         try {
             DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
@@ -81,6 +81,7 @@ public class S3ImageService {
     }
 
     // Checks if an image exists in S3
+    @Override
     public boolean imageExists(String key) {
         try {
             HeadObjectRequest headRequest = HeadObjectRequest.builder()
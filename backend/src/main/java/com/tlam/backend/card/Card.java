@@ -1,9 +1,12 @@
 package com.tlam.backend.card;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -42,12 +45,71 @@ public class Card {
     @Column(nullable = false)
     private String rarity;
 
+    // Illustrator credited on the card, an id in the artists dictionary
+    // Null for cards without a credit or seeded before it was recorded
+    @Column(name = "artist_id")
+    private Integer artistId;
+
+    // Pokémon, Trainer or Energy
+    @Column(length = 32)
+    private String supertype;
+
+    // Stage and mechanic, e.g. "Stage 2" or "Basic" and "V"
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "varchar(64)[]")
+    private List<String> subtypes;
+
+    // Energy types of a Pokémon card, empty for trainers and energies
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(columnDefinition = "varchar(32)[]")
+    private List<String> types;
+
+    // Letter printed on cards since Sword & Shield, decides Standard format legality
+    @Column(name = "regulation_mark", length = 4)
+    private String regulationMark;
+
+    // National Pokédex numbers of the Pokémon on the card, several for tag teams, empty for trainers and energies
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "national_pokedex_numbers", columnDefinition = "integer[]")
+    private List<Integer> nationalPokedexNumbers;
+
+    // Name of the Pokémon this card evolves from, null for basic Pokémon, trainers and energies
+    @Column(name = "evolves_from")
+    private String evolvesFrom;
+
+    // Names of the Pokémon this card evolves into
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "evolves_to", columnDefinition = "varchar(255)[]")
+    private List<String> evolvesTo;
+
+    // "Legal" or "Banned" per format, null when the card is not allowed in the format
+    @Column(name = "standard_legality", length = 16)
+    private String standardLegality;
+
+    @Column(name = "expanded_legality", length = 16)
+    private String expandedLegality;
+
+    @Column(name = "unlimited_legality", length = 16)
+    private String unlimitedLegality;
+
+    // Natural order of the card number within its set, see CardNumberSortKey
+    @Column(nullable = false, name = "sort_key", length = CardNumberSortKey.MAX_LENGTH)
+    private String sortKey;
+
     @Column(name = "small_image_url")
     private String smallImageUrl;;
 
     @Column(name = "large_image_url")
     private String largeImageUrl;
 
+    // BlurHash of the small image, rendered by clients while the real image loads
+    @Column(name = "image_placeholder", length = 64)
+    private String imagePlaceholder;
+
+    // 64-bit perceptual hash of the large image, used to recognize photographed cards
+    @Column(name = "image_hash")
+    private Long imageHash;
+
     @CreationTimestamp
     @Column(updatable = false, name = "created_at")
     private LocalDateTime createdAt;
@@ -0,0 +1,21 @@
+package com.tlam.backend.card;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a batch card lookup
+ * Cards are in the order their IDs were requested (duplicates returned once), IDs that match no card are listed in missing
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardBatchDTO {
+    private List<CardDTO> cards;
+    private List<String> missing;
+}
@@ -0,0 +1,19 @@
+package com.tlam.backend.card;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+@Data
+public class CardBatchRequest {
+
+    // Upper bound on IDs per lookup, larger lists have to be split by the client
+    public static final int MAX_IDS = 500;
+
+    @NotEmpty(message = "At least one card ID is required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " card IDs can be looked up at once")
+    private List<@NotBlank(message = "Card ID must not be blank") String> ids;
+}
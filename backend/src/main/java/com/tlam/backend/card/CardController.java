@@ -1,15 +1,41 @@
 package com.tlam.backend.card;
 
-import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.tlam.backend.catalog.CatalogFormat;
+import com.tlam.backend.catalog.CatalogResponseCache;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.catalog.CatalogValidator;
+import com.tlam.backend.catalog.PageDTO;
+import com.tlam.backend.catalog.SerializedResponse;
+import com.tlam.backend.config.CatalogConfig;
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.exception.InvalidCursorException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,49 +50,238 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Tag(name = "Cards", description = "Operations related to Pokémon cards")
 public class CardController {
-    private final CardRepository cardRepository;
+    private final CatalogService catalogService;
+    private final CatalogResponseCache catalogResponseCache;
+    private final CatalogConfig catalogConfig;
+    private final CardDetailStore cardDetailStore;
+    private final ObjectMapper objectMapper;
 
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cards retrieved successfully",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = CardDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    array = @ArraySchema(schema = @Schema(implementation = CardDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/x-jackson-smile",
+                    array = @ArraySchema(schema = @Schema(implementation = CardDTO.class))
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Cards not modified since the ETag in If-None-Match"
+        )
+    })
     @GetMapping("/set/{setID}")
-    public ResponseEntity<List<CardDTO>> getCardsBySet(
+    public ResponseEntity<?> getCardsBySet(
         @Parameter(
             description = "ID of the set to retrieve cards for", 
             example = "sv1",
             required = true
         )
-        @PathVariable String setID
+        @PathVariable String setID,
+        @Parameter(description = "Cursor returned as nextCursor by the previous page, omit for the first page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to the configured page size. The full list is returned when neither cursor nor limit is given")
+        @RequestParam(required = false) Integer limit,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest
     ) {
         try {
             log.info("Fetching cards for set with ID: {}", setID);
 
-            // Fetch cards from repository
-            List<Card> cards = cardRepository.findBySetId(setID);
+            if (cursor != null || limit != null) {
+                return getCardsBySetPage(setID, cursor, limit);
+            }
+
+            CatalogFormat format = CatalogFormat.negotiate(accept);
+            boolean gzip = SerializedResponse.acceptsGzip(acceptEncoding);
 
+            // The validator and the body come from the same snapshot, so a reload can never pair a new ETag with an old body
+            Optional<CatalogResponseCache.Listing> cards = catalogResponseCache.getCardsBySet(setID);
             if (cards.isEmpty()) {
                 log.info("No cards found for set with ID: {}", setID);
                 return ResponseEntity.noContent().build();
             }
 
-            // Convert entities to DTOs
-            List<CardDTO> cardDTOs = cards.stream()
-                .map(this::convertToDTO)
-                .toList();
+            // Revalidation is answered from the validator, before any serialization
+            CatalogValidator validator = cards.get().validator();
+            if (webRequest.checkNotModified(validator.etag(format, gzip), validator.lastModifiedMillis())) {
+                log.info("Cards for set with ID {} not modified", setID);
+                return validator.notModified(format, gzip);
+            }
 
-            log.info("Successfully retrieved {} cards for set with ID: {}", cardDTOs.size(), setID);
-            return ResponseEntity.ok(cardDTOs);
+            // The list is serialized (and gzipped) once per catalog snapshot and format, and written as is
+            log.info("Successfully retrieved cards for set with ID: {}", setID);
+            return cards.get().body(format).toResponseEntity(gzip, validator);
+        } catch (CatalogUnavailableException | InvalidCursorException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error retrieving cards for set with ID: {}", setID, e);
             throw new RuntimeException("Failed to retrieve cards for set with ID: " + setID);
         }
     }
 
-    private CardDTO convertToDTO(Card card) {
-        return CardDTO.builder()
-                .id(card.getId())
-                .name(card.getName())
-                .number(card.getNumber())
-                .rarity(card.getRarity())
-                .smallImageUrl(card.getSmallImageUrl())
-                .largeImageUrl(card.getLargeImageUrl())
+    @Operation(
+        summary = "Get cards by ID",
+        description = "Looks up to " + CardBatchRequest.MAX_IDS + " cards at once. Cards are returned in the order they were requested, " +
+                     "and IDs that match no card are listed in missing."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cards looked up successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CardBatchDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "No IDs, too many IDs or a blank ID provided",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<CardBatchDTO> getCardsByIds(@Valid @RequestBody CardBatchRequest request) {
+        try {
+            log.info("Looking up {} cards by ID", request.getIds().size());
+
+            // Resolved from the in-memory catalog, without a database round trip
+            CardBatchDTO batch = catalogService.snapshot().getCards(request.getIds());
+
+            log.info("Found {} cards, {} missing", batch.getCards().size(), batch.getMissing().size());
+            return ResponseEntity.ok(batch);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error looking up {} cards by ID", request.getIds().size(), e);
+            throw new RuntimeException("Failed to look up cards by ID");
+        }
+    }
+
+    @Operation(
+        summary = "Get card details",
+        description = "Returns the full card, including attacks, abilities, rules, weaknesses, resistances, flavor text and legalities. " +
+                     "Cards seeded before details were stored only carry their listing attributes."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Card details retrieved successfully",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = CardDetailDTO.class)
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    schema = @Schema(implementation = CardDetailDTO.class)
+                ),
+                @Content(
+                    mediaType = "application/x-jackson-smile",
+                    schema = @Schema(implementation = CardDetailDTO.class)
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Card details not modified since the ETag in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "No card with this ID"
+        )
+    })
+    @GetMapping("/{cardID}")
+    public ResponseEntity<?> getCardDetails(
+        @Parameter(
+            description = "ID of the card to retrieve",
+            example = "sv1-1",
+            required = true
+        )
+        @PathVariable String cardID,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        WebRequest webRequest
+    ) {
+        try {
+            log.info("Fetching details for card with ID: {}", cardID);
+
+            // The catalog decides which cards exist, the detail store may still hold cards that were removed
+            Optional<CardView> card = catalogService.snapshot().getCardView(cardID);
+            if (card.isEmpty()) {
+                log.info("No card found with ID: {}", cardID);
+                return ResponseEntity.notFound().build();
+            }
+
+            Optional<byte[]> stored = cardDetailStore.get(cardID);
+            if (stored.isEmpty()) {
+                log.info("No stored details for card with ID: {}, returning its listing attributes", cardID);
+            }
+            byte[] json = stored.isPresent() ? stored.get() : objectMapper.writeValueAsBytes(toDetails(card.get()));
+
+            // The ETag fingerprints the JSON, every format is a different representation of the same details
+            CatalogFormat format = CatalogFormat.negotiate(accept);
+            CatalogValidator validator = CatalogValidator.ofJson(json, card.get().updatedAt());
+            if (webRequest.checkNotModified(validator.etag(format, false), validator.lastModifiedMillis())) {
+                log.info("Details for card with ID {} not modified", cardID);
+                return validator.notModified(format, false);
+            }
+
+            // Stored JSON is written as is, binary formats are converted from it by the message converters
+            if (format == CatalogFormat.JSON) {
+                return validator.ok(format, false).body(json);
+            }
+            return validator.ok(format, false).body(objectMapper.readValue(json, CardDetailDTO.class));
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving details for card with ID: {}", cardID, e);
+            throw new RuntimeException("Failed to retrieve details for card with ID: " + cardID);
+        }
+    }
+
+    private static CardDetailDTO toDetails(CardView card) {
+        return CardDetailDTO.builder()
+                .id(card.id())
+                .name(card.name())
+                .setId(card.setId())
+                .number(card.number())
+                .rarity(card.rarity())
+                .artist(card.artist())
+                .supertype(card.supertype())
+                .subtypes(card.subtypes())
+                .types(card.types())
+                .regulationMark(card.regulationMark())
+                .nationalPokedexNumbers(card.nationalPokedexNumbers())
+                .evolvesFrom(card.evolvesFrom())
+                .evolvesTo(card.evolvesTo())
+                .smallImageUrl(card.smallImageUrl())
+                .largeImageUrl(card.largeImageUrl())
+                .imagePlaceholder(card.imagePlaceholder())
                 .build();
     }
+
+    private ResponseEntity<PageDTO<CardDTO>> getCardsBySetPage(String setID, String cursor, Integer limit) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : catalogConfig.getDefaultPageSize(), catalogConfig.getMaxPageSize()));
+        CatalogSnapshot catalog = catalogService.snapshot();
+
+        if (catalog.getCardsBySet(setID).isEmpty()) {
+            log.info("No cards found for set with ID: {}", setID);
+            return ResponseEntity.noContent().build();
+        }
+
+        PageDTO<CardDTO> page = catalog.getCardsBySetPage(setID, cursor, pageSize);
+        log.info("Successfully retrieved page of {} cards for set with ID: {}", page.getItems().size(), setID);
+        return ResponseEntity.ok(page);
+    }
 }
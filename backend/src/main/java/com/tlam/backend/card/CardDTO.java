@@ -20,4 +20,5 @@ public class CardDTO {
     private String rarity;
     private String smallImageUrl;
     private String largeImageUrl;
+    private String imagePlaceholder;
 }
@@ -0,0 +1,101 @@
+package com.tlam.backend.card;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the card detail page
+ * Carries the full card text (attacks, abilities, rules, flavor text and legalities) on top of the listing fields.
+ * Attributes a card does not have are left out of the JSON.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CardDetailDTO {
+    private String id;
+    private String name;
+    private String setId;
+    private String number;
+    private String rarity;
+    private String artist;
+    private String supertype;
+    private List<String> subtypes;
+    private String level;
+    private String hp;
+    private List<String> types;
+    private String evolvesFrom;
+    private List<String> evolvesTo;
+    private List<String> rules;
+    private AncientTrait ancientTrait;
+    private List<Ability> abilities;
+    private List<Attack> attacks;
+    private List<TypeModifier> weaknesses;
+    private List<TypeModifier> resistances;
+    private List<String> retreatCost;
+    private Integer convertedRetreatCost;
+    private String flavorText;
+    private List<Integer> nationalPokedexNumbers;
+    private Legalities legalities;
+    private String regulationMark;
+    private String smallImageUrl;
+    private String largeImageUrl;
+    private String imagePlaceholder;
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class AncientTrait {
+        private String name;
+        private String text;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Ability {
+        private String name;
+        private String text;
+        private String type;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Attack {
+        private List<String> cost;
+        private String name;
+        private String text;
+        private String damage;
+        private Integer convertedEnergyCost;
+    }
+
+    // A weakness or resistance, e.g. Fire ×2 or Fighting -30
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class TypeModifier {
+        private String type;
+        private String value;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Legalities {
+        private String standard;
+        private String expanded;
+        private String unlimited;
+    }
+}
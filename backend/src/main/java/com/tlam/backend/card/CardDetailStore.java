@@ -0,0 +1,173 @@
+package com.tlam.backend.card;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tlam.backend.config.CatalogConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Memory-mapped store of the full card details, written by the seeders
+ * Every card is one serialized CardDetailDTO in a single file, followed by an index of card ID to offset and length.
+ * Only the index lives on the heap, the card text stays in the page cache and a lookup is one read of the mapping.
+ *
+ * File layout: records | index entries (id length, id, offset, length) | index offset, count, version, magic
+ */
+@Slf4j
+@Component
+public class CardDetailStore {
+
+    private static final String FILE_NAME = "card-details.bin";
+    private static final int MAGIC = 0x50434454; // "PCDT"
+    private static final int VERSION = 1;
+    private static final int FOOTER_SIZE = 4 * Integer.BYTES;
+
+    private record Mapping(ByteBuffer buffer, Map<String, Long> entries) {
+
+        static final Mapping EMPTY = new Mapping(ByteBuffer.allocate(0), Map.of());
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    private volatile Mapping current = Mapping.EMPTY;
+
+    public CardDetailStore(ObjectMapper objectMapper, CatalogConfig catalogConfig) {
+        this.objectMapper = objectMapper;
+        this.file = Paths.get(catalogConfig.getDetailsDirectory()).toAbsolutePath().normalize().resolve(FILE_NAME);
+
+        // Details written by an earlier run are served until the next seed replaces them
+        if (Files.exists(file)) {
+            try {
+                current = map(file);
+                log.info("Mapped details of {} cards from {}", current.entries().size(), file);
+            } catch (IOException | RuntimeException e) {
+                log.error("Failed to map card details from {}", file, e);
+            }
+        }
+    }
+
+    /**
+     * Returns the serialized CardDetailDTO of the card, ready to be written to the response as is
+     */
+    public Optional<byte[]> get(String cardId) {
+        Mapping mapping = current;
+        Long entry = mapping.entries().get(cardId);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        // Absolute bulk get, the shared buffer's position is never touched
+        byte[] json = new byte[(int) (entry & 0xFFFFFFFFL)];
+        mapping.buffer().get((int) (entry >>> 32), json);
+        return Optional.of(json);
+    }
+
+    public int size() {
+        return current.entries().size();
+    }
+
+    /**
+     * Replaces the stored details with the given cards
+     * The file is written next to the current one and moved over it, so readers keep the old mapping until the swap.
+     */
+    public synchronized void write(Collection<CardDetailDTO> details) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(file.getParent());
+
+        List<String> ids = new ArrayList<>(details.size());
+        List<long[]> positions = new ArrayList<>(details.size());
+
+        Path temporary = Files.createTempFile(file.getParent(), "card-details-", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(temporary), 64 * 1024))) {
+                for (CardDetailDTO detail : details) {
+                    byte[] json = objectMapper.writeValueAsBytes(detail);
+                    positions.add(new long[] { out.size(), json.length });
+                    ids.add(detail.getId());
+                    out.write(json);
+                }
+
+                // DataOutputStream counts up to Integer.MAX_VALUE, which is also the largest mappable buffer
+                int indexOffset = out.size();
+                if (indexOffset == Integer.MAX_VALUE) {
+                    throw new IOException("Card details do not fit in a single mapped file");
+                }
+                for (int i = 0; i < ids.size(); i++) {
+                    byte[] id = ids.get(i).getBytes(StandardCharsets.UTF_8);
+                    out.writeShort(id.length);
+                    out.write(id);
+                    out.writeInt((int) positions.get(i)[0]);
+                    out.writeInt((int) positions.get(i)[1]);
+                }
+
+                out.writeInt(indexOffset);
+                out.writeInt(ids.size());
+                out.writeInt(VERSION);
+                out.writeInt(MAGIC);
+            }
+
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+
+        current = map(file);
+        log.info("Wrote details of {} cards ({} bytes) in {} ms", current.entries().size(), Files.size(file),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private static Mapping map(Path file) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+
+        int limit = buffer.limit();
+        if (limit < FOOTER_SIZE || buffer.getInt(limit - Integer.BYTES) != MAGIC) {
+            throw new IOException("Not a card details file: " + file);
+        }
+        if (buffer.getInt(limit - 2 * Integer.BYTES) != VERSION) {
+            throw new IOException("Unsupported card details version in " + file);
+        }
+
+        int count = buffer.getInt(limit - 3 * Integer.BYTES);
+        int position = buffer.getInt(limit - 4 * Integer.BYTES);
+
+        Map<String, Long> entries = HashMap.newHashMap(count);
+        for (int i = 0; i < count; i++) {
+            byte[] id = new byte[buffer.getShort(position)];
+            buffer.get(position + Short.BYTES, id);
+            position += Short.BYTES + id.length;
+
+            long offset = buffer.getInt(position);
+            long length = buffer.getInt(position + Integer.BYTES);
+            position += 2 * Integer.BYTES;
+
+            entries.put(new String(id, StandardCharsets.UTF_8), offset << 32 | length);
+        }
+        return new Mapping(buffer, entries);
+    }
+}
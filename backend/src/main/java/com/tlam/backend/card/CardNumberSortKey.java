@@ -0,0 +1,67 @@
+package com.tlam.backend.card;
+
+import java.util.Locale;
+
+/**
+ * Computes the natural sort key of a printed card number
+ * A number is split into prefix, numeric part and suffix ("TG05" -> "TG", 5, "", "177a" -> "", 177, "A")
+ * and encoded so that plain byte-wise string order is the natural order:
+ *  - numbers without a prefix come first, then prefixed subsets grouped by prefix (GG.., SV.., TG..)
+ *  - numeric parts compare by value, so "2" sorts before "10"
+ *  - suffixes break ties ("177" before "177a")
+ * The key is stored in cards.sort_key, a "C" collated column, so the database orders by it the same way.
+ * Migration V4 backfilled existing cards with a frozen copy of this code, a change here needs a migration re-keying them.
+ */
+public final class CardNumberSortKey {
+
+    public static final int MAX_LENGTH = 64;
+
+    private static final int PREFIX_WIDTH = 8;
+    private static final int NUMBER_WIDTH = 9;
+
+    private CardNumberSortKey() {
+    }
+
+    public static String of(String number) {
+        String normalized = number == null ? "" : number.trim().toUpperCase(Locale.ROOT);
+
+        int prefixEnd = 0;
+        while (prefixEnd < normalized.length() && !isDigit(normalized.charAt(prefixEnd))) {
+            prefixEnd++;
+        }
+        int numberEnd = prefixEnd;
+        while (numberEnd < normalized.length() && isDigit(normalized.charAt(numberEnd))) {
+            numberEnd++;
+        }
+
+        String prefix = sanitize(normalized.substring(0, prefixEnd));
+        String digits = normalized.substring(prefixEnd, numberEnd).replaceFirst("^0+(?=.)", "");
+        String suffix = sanitize(normalized.substring(numberEnd));
+
+        StringBuilder key = new StringBuilder(MAX_LENGTH);
+        key.append(prefix.isEmpty() ? '0' : '1');
+        key.append(pad(prefix.length() > PREFIX_WIDTH ? prefix.substring(0, PREFIX_WIDTH) : prefix, PREFIX_WIDTH));
+        if (digits.isEmpty() || digits.length() > NUMBER_WIDTH) {
+            // No numeric part (or an absurdly long one): after every numbered card of the same prefix
+            key.append("9".repeat(NUMBER_WIDTH));
+        } else {
+            key.append("0".repeat(NUMBER_WIDTH - digits.length())).append(digits);
+        }
+        key.append(suffix);
+        return key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH) : key.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // Keep ASCII letters and digits only, so byte order and Java string order agree
+    private static String sanitize(String part) {
+        return part.replaceAll("[^A-Z0-9]", "");
+    }
+
+    // '0' sorts before every letter, so shorter prefixes sort first ("H" < "HGSS")
+    private static String pad(String prefix, int width) {
+        return prefix + "0".repeat(width - prefix.length());
+    }
+}
@@ -3,7 +3,17 @@ package com.tlam.backend.card;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CardRepository extends JpaRepository<Card, String> {
-    List<Card> findBySetId(String setId);
+    // Whole catalog in set and card-number order
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.tlam.backend.card.CardView(c.id, c.name, c.number, c.sortKey, c.setId, c.rarity, a.name, c.artistId, " +
+           "c.supertype, c.subtypes, c.types, c.regulationMark, c.nationalPokedexNumbers, c.evolvesFrom, c.evolvesTo, c.standardLegality, c.expandedLegality, c.unlimitedLegality, c.smallImageUrl, c.largeImageUrl, c.imagePlaceholder, c.imageHash, c.updatedAt) " +
+           "FROM Card c LEFT JOIN Artist a ON a.id = c.artistId ORDER BY c.setId, c.sortKey, c.id")
+    List<CardView> findAllViews();
+
+    // Cards that were ingested before perceptual hashing existed
+    List<Card> findByImageHashIsNull();
 }
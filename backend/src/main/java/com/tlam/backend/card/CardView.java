@@ -0,0 +1,35 @@
+package com.tlam.backend.card;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only projection of a card with only the columns the catalog needs
+ * Selected with a constructor expression, so Hibernate never manages or dirty-checks it
+ */
+public record CardView(
+        String id,
+        String name,
+        String number,
+        String sortKey,
+        String setId,
+        String rarity,
+        String artist,
+        Integer artistId,
+        String supertype,
+        List<String> subtypes,
+        List<String> types,
+        String regulationMark,
+        List<Integer> nationalPokedexNumbers,
+        String evolvesFrom,
+        List<String> evolvesTo,
+        String standardLegality,
+        String expandedLegality,
+        String unlimitedLegality,
+        String smallImageUrl,
+        String largeImageUrl,
+        String imagePlaceholder,
+        Long imageHash,
+        LocalDateTime updatedAt
+) {
+}
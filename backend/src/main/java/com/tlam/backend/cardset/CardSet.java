@@ -50,6 +50,10 @@ public class CardSet {
     @Column(name = "logo_url")
     private String logoUrl;
 
+    // BlurHash of the logo, rendered by clients while the real image loads
+    @Column(name = "logo_placeholder", length = 64)
+    private String logoPlaceholder;
+
     @PositiveOrZero
     @Column(nullable = false, name = "printed_total")
     private Integer printedTotal;
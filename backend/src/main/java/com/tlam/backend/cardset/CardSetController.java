@@ -1,12 +1,27 @@
 package com.tlam.backend.cardset;
 
-import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.tlam.backend.catalog.CatalogFormat;
+import com.tlam.backend.catalog.CatalogResponseCache;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.catalog.CatalogValidator;
+import com.tlam.backend.catalog.PageDTO;
+import com.tlam.backend.catalog.SerializedResponse;
+import com.tlam.backend.config.CatalogConfig;
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.exception.InvalidCursorException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -31,7 +46,9 @@ import lombok.extern.slf4j.Slf4j;
 @Tag(name = "Card Sets", description = "Operations related to Pokémon card sets")
 public class CardSetController {
 
-    private final CardSetRepository cardSetRepository;
+    private final CatalogService catalogService;
+    private final CatalogResponseCache catalogResponseCache;
+    private final CatalogConfig catalogConfig;
 
     @Operation(
         summary = "Get card sets by series", 
@@ -42,10 +59,24 @@ public class CardSetController {
         @ApiResponse(
             responseCode = "200",
             description = "Card sets retrieved successfully",
-            content = @Content(
-                mediaType = "application/json",
-                array = @ArraySchema(schema = @Schema(implementation = CardSetDTO.class))
-            )
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = CardSetDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    array = @ArraySchema(schema = @Schema(implementation = CardSetDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/x-jackson-smile",
+                    array = @ArraySchema(schema = @Schema(implementation = CardSetDTO.class))
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Card sets not modified since the ETag in If-None-Match"
         ),
         @ApiResponse(
             responseCode = "400",
@@ -59,49 +90,67 @@ public class CardSetController {
         )
     })
     @GetMapping("/series/{series}")
-    public ResponseEntity<List<CardSetDTO>> getSetsBySeries(
+    public ResponseEntity<?> getSetsBySeries(
         @Parameter(
             description = "Name of the series to retrieve sets for", 
             example = "Scarlet & Violet",
             required = true
         )
-        @PathVariable String series
+        @PathVariable String series,
+        @Parameter(description = "Cursor returned as nextCursor by the previous page, omit for the first page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to the configured page size. The full list is returned when neither cursor nor limit is given")
+        @RequestParam(required = false) Integer limit,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest
     ) {
         try {
             log.info("Fetching card sets for series: {}", series);
 
-            // Fetch sets from repository
-            List<CardSet> sets = cardSetRepository.findBySeriesOrderByReleaseDateDesc(series);
+            if (cursor != null || limit != null) {
+                return getSetsBySeriesPage(series, cursor, limit);
+            }
+
+            CatalogFormat format = CatalogFormat.negotiate(accept);
+            boolean gzip = SerializedResponse.acceptsGzip(acceptEncoding);
 
+            // The validator and the body come from the same snapshot, so a reload can never pair a new ETag with an old body
+            Optional<CatalogResponseCache.Listing> sets = catalogResponseCache.getSetsBySeries(series);
             if (sets.isEmpty()) {
                 log.info("No card sets found for series: {}", series);
                 return ResponseEntity.noContent().build();
             }
 
-            // Convert entities to DTOs
-            List<CardSetDTO> cardSetDTOs = sets.stream()
-                .map(this::convertToDTO)
-                .toList();
-            
-            log.info("Successfully retrieved {} card sets for series: {}", cardSetDTOs.size(), series);
-            return ResponseEntity.ok(cardSetDTOs);
+            // Revalidation is answered from the validator, before any serialization
+            CatalogValidator validator = sets.get().validator();
+            if (webRequest.checkNotModified(validator.etag(format, gzip), validator.lastModifiedMillis())) {
+                log.info("Card sets for series {} not modified", series);
+                return validator.notModified(format, gzip);
+            }
+
+            // The list is serialized (and gzipped) once per catalog snapshot and format, and written as is
+            log.info("Successfully retrieved card sets for series: {}", series);
+            return sets.get().body(format).toResponseEntity(gzip, validator);
+        } catch (CatalogUnavailableException | InvalidCursorException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Error retrieving card sets for series: {}", series, e);
             throw new RuntimeException("Failed to retrieve card sets for series: " + series);
         }
     }
 
-    private CardSetDTO convertToDTO(CardSet cardSet) {
-        return CardSetDTO.builder()
-                .id(cardSet.getId())
-                .name(cardSet.getName())
-                .series(cardSet.getSeries())
-                .language(cardSet.getLanguage().name())
-                .symbolUrl(cardSet.getSymbolUrl())
-                .logoUrl(cardSet.getLogoUrl())
-                .printedTotal(cardSet.getPrintedTotal())
-                .totalCards(cardSet.getTotalCards())
-                .releaseDate(cardSet.getReleaseDate())
-                .build();
+    private ResponseEntity<PageDTO<CardSetDTO>> getSetsBySeriesPage(String series, String cursor, Integer limit) {
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : catalogConfig.getDefaultPageSize(), catalogConfig.getMaxPageSize()));
+        CatalogSnapshot catalog = catalogService.snapshot();
+
+        if (catalog.getSetsBySeries(series).isEmpty()) {
+            log.info("No card sets found for series: {}", series);
+            return ResponseEntity.noContent().build();
+        }
+
+        PageDTO<CardSetDTO> page = catalog.getSetsBySeriesPage(series, cursor, pageSize);
+        log.info("Successfully retrieved page of {} card sets for series: {}", page.getItems().size(), series);
+        return ResponseEntity.ok(page);
     }
 }
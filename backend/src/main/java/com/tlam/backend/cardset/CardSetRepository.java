@@ -3,7 +3,14 @@ package com.tlam.backend.cardset;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface CardSetRepository extends JpaRepository<CardSet, String> {
-    List<CardSet> findBySeriesOrderByReleaseDateDesc(String series);
+    // Every set, with only the columns the catalog needs
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.tlam.backend.cardset.CardSetView(s.id, s.name, s.series, s.language, s.symbolUrl, s.logoUrl, " +
+           "s.logoPlaceholder, s.printedTotal, s.totalCards, s.releaseDate, s.updatedAt) " +
+           "FROM CardSet s")
+    List<CardSetView> findAllViews();
 }
@@ -0,0 +1,23 @@
+package com.tlam.backend.cardset;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only projection of a card set with only the columns the catalog needs
+ * Selected with a constructor expression, so Hibernate never manages or dirty-checks it
+ */
+public record CardSetView(
+        String id,
+        String name,
+        String series,
+        Language language,
+        String symbolUrl,
+        String logoUrl,
+        String logoPlaceholder,
+        Integer printedTotal,
+        Integer totalCards,
+        LocalDate releaseDate,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,105 @@
+package com.tlam.backend.cardset;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.tlam.backend.catalog.CatalogFormat;
+import com.tlam.backend.catalog.CatalogResponseCache;
+import com.tlam.backend.catalog.CatalogValidator;
+import com.tlam.backend.catalog.SerializedResponse;
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for listing series
+ * The aggregates are computed once per catalog snapshot and the list is served pre-serialized
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/series")
+@RequiredArgsConstructor
+@Tag(name = "Card Sets", description = "Operations related to Pokémon card sets")
+public class SeriesController {
+
+    private final CatalogResponseCache catalogResponseCache;
+
+    @Operation(
+        summary = "List series",
+        description = "Retrieves every series with its number of sets and cards and the release dates of its first and latest set, " +
+                     "newest series first. The names can be used with /api/sets/series/{series}."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Series retrieved successfully",
+            content = {
+                @Content(
+                    mediaType = "application/json",
+                    array = @ArraySchema(schema = @Schema(implementation = SeriesDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/cbor",
+                    array = @ArraySchema(schema = @Schema(implementation = SeriesDTO.class))
+                ),
+                @Content(
+                    mediaType = "application/x-jackson-smile",
+                    array = @ArraySchema(schema = @Schema(implementation = SeriesDTO.class))
+                )
+            }
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Series not modified since the ETag in If-None-Match"
+        )
+    })
+    @GetMapping
+    public ResponseEntity<?> getSeries(
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WebRequest webRequest
+    ) {
+        try {
+            CatalogFormat format = CatalogFormat.negotiate(accept);
+            boolean gzip = SerializedResponse.acceptsGzip(acceptEncoding);
+
+            // The validator and the body come from the same snapshot, so a reload can never pair a new ETag with an old body
+            Optional<CatalogResponseCache.Listing> series = catalogResponseCache.getSeries();
+            if (series.isEmpty()) {
+                log.info("No series found");
+                return ResponseEntity.noContent().build();
+            }
+
+            // Revalidation is answered from the validator, before any serialization
+            CatalogValidator validator = series.get().validator();
+            if (webRequest.checkNotModified(validator.etag(format, gzip), validator.lastModifiedMillis())) {
+                log.info("Series not modified");
+                return validator.notModified(format, gzip);
+            }
+
+            // The list is serialized (and gzipped) once per catalog snapshot and format, and written as is
+            log.info("Successfully retrieved series");
+            return series.get().body(format).toResponseEntity(gzip, validator);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving series", e);
+            throw new RuntimeException("Failed to retrieve series");
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.tlam.backend.cardset;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a series and the aggregates of its sets
+ * Card count is the number of cards in the catalog for the series, release dates span its first and latest set.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SeriesDTO {
+    private String name;
+    private int setCount;
+    private int cardCount;
+    private LocalDate firstReleaseDate;
+    private LocalDate latestReleaseDate;
+}
@@ -0,0 +1,35 @@
+package com.tlam.backend.catalog;
+
+import java.util.Comparator;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.card.CardNumberSortKey;
+
+/**
+ * Stable order of the cards within a set: the natural card-number sort key stored with the card, then the ID
+ */
+public record CardSortKey(String sortKey, String id) implements Comparable<CardSortKey> {
+
+    private static final Comparator<CardSortKey> ORDER = Comparator.comparing(CardSortKey::sortKey)
+            .thenComparing(CardSortKey::id);
+
+    public static CardSortKey of(CardView card) {
+        // Cards ingested before sort keys existed are backfilled by migration, computing it here is only a fallback
+        String sortKey = card.sortKey() != null ? card.sortKey() : CardNumberSortKey.of(card.number());
+        return new CardSortKey(sortKey, card.id());
+    }
+
+    public static CardSortKey fromCursor(String cursor) {
+        String[] fields = Cursors.decode(cursor, 2);
+        return new CardSortKey(fields[0], fields[1]);
+    }
+
+    public String toCursor() {
+        return Cursors.encode(sortKey, id);
+    }
+
+    @Override
+    public int compareTo(CardSortKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,52 @@
+package com.tlam.backend.catalog;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of the catalog changelog
+ * Written by database triggers on card_sets and cards (see V5__catalog_changelog.sql), only ever read here
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Immutable
+@Table(name = "catalog_changes")
+public class CatalogChange {
+
+    public enum EntityType { SET, CARD }
+
+    public enum Operation { INSERT, UPDATE, DELETE }
+
+    // Monotonic across the whole catalog, clients sync from the last version they have seen
+    @Id
+    private Long version;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "entity_type", length = 8)
+    private EntityType entityType;
+
+    @Column(nullable = false, name = "entity_id")
+    private String entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Operation operation;
+
+    @Column(nullable = false, name = "changed_at")
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,19 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface CatalogChangeRepository extends JpaRepository<CatalogChange, Long> {
+    // Changes after one version up to another, oldest first, read from the primary key
+    @Transactional(readOnly = true)
+    List<CatalogChange> findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(long since, long upTo, Limit limit);
+
+    // Version of the newest change, 0 while the changelog is empty
+    @Transactional(readOnly = true)
+    @Query("SELECT COALESCE(MAX(c.version), 0) FROM CatalogChange c")
+    long findLatestVersion();
+}
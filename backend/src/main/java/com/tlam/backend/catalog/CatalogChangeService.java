@@ -0,0 +1,111 @@
+package com.tlam.backend.catalog;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.config.CatalogConfig;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service answering delta syncs from the catalog changelog
+ * Only changes up to the current snapshot's changelog version are served, and changed entities are
+ * sent as the snapshot holds them, so a sync never reports a change the catalog does not show yet.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeService {
+
+    private final CatalogService catalogService;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final CatalogConfig catalogConfig;
+
+    public CatalogChangesDTO getChangesSince(long since) {
+        CatalogSnapshot snapshot = catalogService.snapshot();
+        long upTo = snapshot.getChangeVersion();
+
+        boolean reset = false;
+        if (since > upTo) {
+            if (since <= catalogChangeRepository.findLatestVersion()) {
+                // Already synced past this snapshot, the changes become visible with the next reload
+                return collect(snapshot, since, List.of(), false, false);
+            }
+            // The client's version was never handed out by this database, so it starts over from scratch
+            log.warn("Unknown catalog version {} (latest {}), sending a full resync", since, upTo);
+            reset = true;
+            since = 0;
+        }
+
+        int pageSize = catalogConfig.getChangesPageSize();
+        List<CatalogChange> changes = catalogChangeRepository
+                .findByVersionGreaterThanAndVersionLessThanEqualOrderByVersionAsc(since, upTo, Limit.of(pageSize + 1));
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+        return collect(snapshot, since, changes, hasMore, reset);
+    }
+
+    /**
+     * Folds a run of changes into the current state of every entity they touched
+     * An entity counts as deleted if its last change is a delete or it is no longer in the snapshot
+     */
+    static CatalogChangesDTO collect(CatalogSnapshot snapshot, long since, List<CatalogChange> changes,
+                                     boolean hasMore, boolean reset) {
+        Map<String, CatalogChange> setChanges = new LinkedHashMap<>();
+        Map<String, CatalogChange> cardChanges = new LinkedHashMap<>();
+        for (CatalogChange change : changes) {
+            Map<String, CatalogChange> latest = change.getEntityType() == CatalogChange.EntityType.SET ? setChanges : cardChanges;
+            // Re-inserted so entities come out in the order of their last change
+            latest.remove(change.getEntityId());
+            latest.put(change.getEntityId(), change);
+        }
+
+        List<CardSetDTO> sets = new ArrayList<>();
+        List<String> deletedSetIds = new ArrayList<>();
+        setChanges.forEach((setId, change) -> {
+            Optional<CardSetDTO> set = change.getOperation() == CatalogChange.Operation.DELETE ? Optional.empty() : snapshot.getSetDTO(setId);
+            if (set.isPresent()) {
+                sets.add(set.get());
+            } else {
+                deletedSetIds.add(setId);
+            }
+        });
+
+        Map<String, List<CardDTO>> cardsBySet = new LinkedHashMap<>();
+        List<String> deletedCardIds = new ArrayList<>();
+        cardChanges.forEach((cardId, change) -> {
+            Optional<CardView> card = change.getOperation() == CatalogChange.Operation.DELETE ? Optional.empty() : snapshot.getCardView(cardId);
+            if (card.isPresent()) {
+                cardsBySet.computeIfAbsent(card.get().setId(), setId -> new ArrayList<>())
+                        .add(snapshot.getCard(cardId).orElseThrow());
+            } else {
+                deletedCardIds.add(cardId);
+            }
+        });
+
+        // With nothing left to send the client is up to date with the snapshot
+        long version = changes.isEmpty() ? Math.max(since, snapshot.getChangeVersion()) : changes.get(changes.size() - 1).getVersion();
+        return CatalogChangesDTO.builder()
+                .since(since)
+                .version(version)
+                .hasMore(hasMore)
+                .reset(reset)
+                .sets(sets)
+                .cardsBySet(cardsBySet)
+                .deletedSetIds(deletedSetIds)
+                .deletedCardIds(deletedCardIds)
+                .build();
+    }
+}
@@ -0,0 +1,37 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.cardset.CardSetDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Catalog changes between two changelog versions
+ * Sets and cards are sent in their current state, whatever happened to them in between.
+ * Clients store version and pass it as since on their next sync; while hasMore is true
+ * there are further changes to fetch right away. When reset is true the client's version
+ * is unknown to the server and the local catalog has to be replaced by this response.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogChangesDTO {
+    private long since;
+    private long version;
+    private boolean hasMore;
+    private boolean reset;
+
+    // Inserted or updated sets and cards, cards grouped by set ID
+    private List<CardSetDTO> sets;
+    private Map<String, List<CardDTO>> cardsBySet;
+
+    private List<String> deletedSetIds;
+    private List<String> deletedCardIds;
+}
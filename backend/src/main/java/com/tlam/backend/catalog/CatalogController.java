@@ -0,0 +1,147 @@
+package com.tlam.backend.catalog;
+
+import java.io.IOException;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.catalog.CatalogExporter.CatalogExport;
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.image.ZeroCopyFileResponder;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for keeping a client side copy of the catalog up to date
+ * Clients download the catalog once, then only fetch what changed since the version they hold.
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/catalog")
+@RequiredArgsConstructor
+@Tag(name = "Catalog", description = "Synchronization of the card catalog")
+public class CatalogController {
+
+    private static final String SNAPSHOT_PATH = "/api/catalog/snapshot";
+    private static final MediaType GZIP = new MediaType("application", "gzip");
+
+    private final CatalogChangeService catalogChangeService;
+    private final CatalogExporter catalogExporter;
+    private final ZeroCopyFileResponder fileResponder;
+
+    @Operation(
+        summary = "Get catalog changes",
+        description = "Returns the sets and cards inserted, updated or deleted after the given changelog version. " +
+                     "Pass the returned version as since on the next sync, and sync again right away while hasMore is true. " +
+                     "Syncing from version 0 returns the whole catalog."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CatalogChangesDTO.class)
+            )
+        )
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<CatalogChangesDTO> getChanges(
+        @Parameter(description = "Changelog version the client is synced up to, 0 for a first sync", example = "0")
+        @RequestParam(defaultValue = "0") long since
+    ) {
+        try {
+            log.info("Fetching catalog changes since version {}", since);
+
+            CatalogChangesDTO changes = catalogChangeService.getChangesSince(Math.max(0, since));
+
+            log.info("Catalog changes since version {} up to {}: {} sets, {} deleted sets, {} deleted cards",
+                    since, changes.getVersion(), changes.getSets().size(),
+                    changes.getDeletedSetIds().size(), changes.getDeletedCardIds().size());
+            return ResponseEntity.ok(changes);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving catalog changes since version {}", since, e);
+            throw new RuntimeException("Failed to retrieve catalog changes since version " + since);
+        }
+    }
+
+    @Operation(
+        summary = "Get the catalog snapshot manifest",
+        description = "Describes the current full catalog download: its changelog version, SHA-256 and size. " +
+                     "Clients only download the snapshot when the version differs from the one they hold."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Manifest retrieved successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CatalogManifestDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "The catalog snapshot has not been generated yet",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/snapshot/manifest")
+    public ResponseEntity<CatalogManifestDTO> getSnapshotManifest() {
+        CatalogExport export = catalogExporter.current().orElseThrow(CatalogUnavailableException::new);
+
+        CatalogManifestDTO manifest = CatalogManifestDTO.builder()
+                .version(export.version())
+                .sha256(export.sha256())
+                .size(export.size())
+                .generatedAt(export.generatedAt())
+                .url(SNAPSHOT_PATH)
+                .build();
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(export.etag())
+                .body(manifest);
+    }
+
+    @Operation(
+        summary = "Download the catalog snapshot",
+        description = "Returns every set and card as one gzipped JSON file, regenerated after every seed. " +
+                     "Supports ETag revalidation, and Range with If-Range to resume an interrupted download."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Snapshot returned"),
+        @ApiResponse(responseCode = "206", description = "Requested range of the snapshot returned"),
+        @ApiResponse(responseCode = "304", description = "Snapshot not modified"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
+        @ApiResponse(
+            responseCode = "503",
+            description = "The catalog snapshot has not been generated yet",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @GetMapping("/snapshot")
+    public void getSnapshot(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CatalogExport export = catalogExporter.current().orElseThrow(CatalogUnavailableException::new);
+
+        log.info("Serving catalog snapshot version {} (range: {})", export.version(), request.getHeader(HttpHeaders.RANGE));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.file().getFileName() + "\"");
+        fileResponder.serve(export.file(), export.etag(), GZIP, CatalogValidator.CACHE_CONTROL, request, response);
+    }
+}
@@ -0,0 +1,26 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.cardset.CardSetDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Content of the full catalog download
+ * version is a changelog version, clients continue with GET /api/catalog/changes?since=version
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogExportDTO {
+    private long version;
+    private List<CardSetDTO> sets;
+    private Map<String, List<CardDTO>> cardsBySet;
+}
@@ -0,0 +1,144 @@
+package com.tlam.backend.catalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.config.CatalogConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes the whole catalog to one gzipped JSON file every time a snapshot is published
+ * The file is written once per seed and then served straight from disk, with range support for resumable downloads.
+ * Identical catalogs produce identical files, so the hash (and ETag) only changes when the catalog does.
+ */
+@Slf4j
+@Component
+public class CatalogExporter {
+
+    private static final String FILE_PREFIX = "catalog-";
+    private static final String FILE_SUFFIX = ".json.gz";
+
+    public record CatalogExport(Path file, long version, String sha256, long size, Instant generatedAt) {
+
+        // Strong ETag of the file, also the value clients send back in If-Range when resuming
+        public String etag() {
+            return "\"" + sha256.substring(0, 32) + "\"";
+        }
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+
+    private volatile CatalogExport current;
+
+    public CatalogExporter(ObjectMapper objectMapper, CatalogConfig catalogConfig) {
+        // The file is written as a stream, closing it is left to the exporter
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.directory = Paths.get(catalogConfig.getExportDirectory()).toAbsolutePath().normalize();
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        try {
+            export(event.snapshot());
+        } catch (IOException | UncheckedIOException e) {
+            // Keep serving the previous file, it is still a consistent (if older) catalog
+            log.error("Failed to export catalog version {}", event.snapshot().getVersion(), e);
+        }
+    }
+
+    public Optional<CatalogExport> current() {
+        return Optional.ofNullable(current);
+    }
+
+    synchronized CatalogExport export(CatalogSnapshot snapshot) throws IOException {
+        long start = System.nanoTime();
+        Files.createDirectories(directory);
+
+        MessageDigest digest = sha256();
+        Path temporary = Files.createTempFile(directory, FILE_PREFIX, ".tmp");
+        try {
+            try (OutputStream file = Files.newOutputStream(temporary);
+                 GZIPOutputStream gzip = new GZIPOutputStream(new DigestOutputStream(file, digest), 64 * 1024)) {
+                objectMapper.writeValue(gzip, content(snapshot));
+            }
+
+            String sha256 = HexFormat.of().formatHex(digest.digest());
+            Path target = directory.resolve(FILE_PREFIX + snapshot.getChangeVersion() + "-" + sha256.substring(0, 16) + FILE_SUFFIX);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            CatalogExport previous = current;
+            current = new CatalogExport(target, snapshot.getChangeVersion(), sha256, Files.size(target), Instant.now());
+            deleteOutdated(previous);
+
+            log.info("Exported catalog version {} ({} bytes) in {} ms", current.version(), current.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+            return current;
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static CatalogExportDTO content(CatalogSnapshot snapshot) {
+        // Sets newest first, the same order as the listings
+        List<CardSetDTO> sets = new ArrayList<>();
+        Map<String, List<CardDTO>> cardsBySet = new LinkedHashMap<>();
+        for (CardSetView set : snapshot.getSets()) {
+            snapshot.getSetDTO(set.id()).ifPresent(sets::add);
+            List<CardDTO> cards = snapshot.getCardsBySet(set.id());
+            if (!cards.isEmpty()) {
+                cardsBySet.put(set.id(), cards);
+            }
+        }
+        return new CatalogExportDTO(snapshot.getChangeVersion(), sets, cardsBySet);
+    }
+
+    /**
+     * Removes every export except the current one and the one before it
+     * The previous file is kept so downloads that started before the swap can still finish
+     */
+    private void deleteOutdated(CatalogExport previous) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, FILE_PREFIX + "*" + FILE_SUFFIX)) {
+            for (Path file : files) {
+                if (file.equals(current.file()) || (previous != null && file.equals(previous.file()))) {
+                    continue;
+                }
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Encodings the catalog listings are served in, chosen from the Accept header
+ * CBOR and Smile carry the same DTOs as JSON in a more compact binary form, JSON stays the default
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CatalogFormat {
+
+    JSON(MediaType.APPLICATION_JSON, ""),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+
+    // Appended to the ETag, since every format is a different representation of the same response
+    private final String etagSuffix;
+
+    /**
+     * Picks the format with the highest quality in the Accept header, preferring formats named explicitly
+     * over wildcards. Missing, malformed or unsupported headers fall back to JSON
+     */
+    public static CatalogFormat negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        CatalogFormat best = JSON;
+        double bestQuality = 0;
+        boolean bestExact = false;
+        for (MediaType mediaType : accepted) {
+            double quality = mediaType.getQualityValue();
+            if (quality <= 0) {
+                continue;
+            }
+            for (CatalogFormat format : values()) {
+                if (!mediaType.includes(format.mediaType)) {
+                    continue;
+                }
+                boolean exact = !mediaType.isWildcardType() && !mediaType.isWildcardSubtype();
+                // A wildcard only ever selects the default, so "*/*" never switches a client to a binary format
+                if (!exact && format != JSON) {
+                    continue;
+                }
+                if (quality > bestQuality || (quality == bestQuality && exact && !bestExact)) {
+                    best = format;
+                    bestQuality = quality;
+                    bestExact = exact;
+                }
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,25 @@
+package com.tlam.backend.catalog;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Describes the current full catalog download, so clients can tell whether theirs is outdated
+ * before downloading several megabytes
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CatalogManifestDTO {
+    private long version;
+    // SHA-256 of the gzipped file, for verifying a (resumed) download
+    private String sha256;
+    private long size;
+    private Instant generatedAt;
+    private String url;
+}
@@ -0,0 +1,8 @@
+package com.tlam.backend.catalog;
+
+/**
+ * Published synchronously after a new catalog snapshot has been swapped in
+ * Listeners rebuild their derived indexes from it before the reload (or startup) completes
+ */
+public record CatalogReloadedEvent(CatalogSnapshot snapshot) {
+}
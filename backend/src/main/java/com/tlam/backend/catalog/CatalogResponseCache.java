@@ -0,0 +1,178 @@
+package com.tlam.backend.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of fully serialized catalog responses, keyed by listing (set ID or series) and format
+ * Responses are built lazily from the current snapshot and dropped as a whole when it is replaced.
+ * Concurrent misses for the same key share a single build.
+ * A listing hands out its validator and its bodies from the same snapshot, so an ETag always describes
+ * the body it is sent with, even when a reload lands between revalidation and serialization.
+ */
+@Slf4j
+@Component
+public class CatalogResponseCache {
+
+    private static final String CARDS_BY_SET = "cards-by-set:";
+    private static final String SETS_BY_SERIES = "sets-by-series:";
+    private static final String SERIES = "series";
+
+    // Every format is written by a copy of the application's mapper, so all of them carry the same fields
+    private final Map<CatalogFormat, ObjectMapper> objectMappers;
+
+    // Responses built from one snapshot, replaced together so a stale build can never leak into a newer generation
+    private record Generation(CatalogSnapshot snapshot, ConcurrentMap<String, CompletableFuture<SerializedResponse>> responses) {
+    }
+
+    private volatile Generation generation;
+
+    public CatalogResponseCache(ObjectMapper objectMapper) {
+        this.objectMappers = new EnumMap<>(Map.of(
+                CatalogFormat.JSON, objectMapper,
+                CatalogFormat.CBOR, objectMapper.copyWith(new CBORFactory()),
+                CatalogFormat.SMILE, objectMapper.copyWith(new SmileFactory())));
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        generation = new Generation(event.snapshot(), new ConcurrentHashMap<>());
+        log.debug("Cleared serialized responses for catalog version {}", event.snapshot().getVersion());
+    }
+
+    /**
+     * Returns the card list of a set, or empty if the set has no cards
+     */
+    public Optional<Listing> getCardsBySet(String setId) {
+        return listing(CARDS_BY_SET + setId, snapshot -> snapshot.getCardsBySet(setId), snapshot -> snapshot.getCardsBySetValidator(setId));
+    }
+
+    /**
+     * Returns the set list of a series, or empty if the series has no sets
+     */
+    public Optional<Listing> getSetsBySeries(String series) {
+        return listing(SETS_BY_SERIES + series, snapshot -> snapshot.getSetsBySeries(series), snapshot -> snapshot.getSetsBySeriesValidator(series));
+    }
+
+    /**
+     * Returns the series list, or empty if the catalog has no sets
+     */
+    public Optional<Listing> getSeries() {
+        return listing(SERIES, CatalogSnapshot::getSeries, CatalogSnapshot::getSeriesValidator);
+    }
+
+    /**
+     * One listing of the snapshot it was looked up in: its validator and its body in every format
+     * Bodies are still serialized lazily, so a revalidated request never serializes anything.
+     */
+    public final class Listing {
+        private final Generation generation;
+        private final String group;
+        private final List<?> values;
+        private final CatalogValidator validator;
+
+        private Listing(Generation generation, String group, List<?> values, CatalogValidator validator) {
+            this.generation = generation;
+            this.group = group;
+            this.values = values;
+            this.validator = validator;
+        }
+
+        public CatalogValidator validator() {
+            return validator;
+        }
+
+        /**
+         * Returns the listing serialized in the given format, built at most once per snapshot and format
+         */
+        public SerializedResponse body(CatalogFormat format) {
+            return get(generation, group + ":" + format.name(), values, format);
+        }
+    }
+
+    private Optional<Listing> listing(String group, Function<CatalogSnapshot, List<?>> body,
+            Function<CatalogSnapshot, Optional<CatalogValidator>> validator) {
+        Generation current = generation;
+        if (current == null) {
+            throw new CatalogUnavailableException();
+        }
+
+        List<?> values = body.apply(current.snapshot());
+        Optional<CatalogValidator> listingValidator = validator.apply(current.snapshot());
+        if (values.isEmpty() || listingValidator.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new Listing(current, group, values, listingValidator.get()));
+    }
+
+    private SerializedResponse get(Generation current, String key, List<?> values, CatalogFormat format) {
+        CompletableFuture<SerializedResponse> cached = current.responses().get(key);
+        if (cached != null) {
+            return await(cached);
+        }
+
+        CompletableFuture<SerializedResponse> build = new CompletableFuture<>();
+        CompletableFuture<SerializedResponse> existing = current.responses().putIfAbsent(key, build);
+        if (existing != null) {
+            // Another request is already building this response, wait for its result
+            return await(existing);
+        }
+
+        try {
+            SerializedResponse response = serialize(values, format);
+            build.complete(response);
+            log.debug("Serialized catalog response {} ({} bytes, {} gzipped)", key, response.body().length, response.gzip().length);
+            return response;
+        } catch (RuntimeException e) {
+            // Let the next request retry instead of caching the failure
+            current.responses().remove(key, build);
+            build.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private SerializedResponse serialize(Object body, CatalogFormat format) {
+        try {
+            byte[] serialized = objectMappers.get(format).writeValueAsBytes(body);
+
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(serialized.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(serialized);
+            }
+            return new SerializedResponse(format, serialized, compressed.toByteArray());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to serialize catalog response", e);
+        }
+    }
+
+    private SerializedResponse await(CompletableFuture<SerializedResponse> build) {
+        try {
+            return build.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardRepository;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetRepository;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service holding the in-memory card catalog
+ * The catalog only changes during seeding, so it is loaded once at startup and
+ * rebuilt after every seed. Each rebuild publishes a complete new snapshot with a
+ * single atomic swap, so readers never lock and never see a half built catalog.
+ *
+ * The first snapshot is loaded from an ApplicationRunner, which Spring Boot runs
+ * before it reports the application as ready to accept traffic.
+ */
+@Slf4j
+@Service
+public class CatalogService implements ApplicationRunner {
+
+    private final CardRepository cardRepository;
+    private final CardSetRepository cardSetRepository;
+    private final CatalogChangeRepository catalogChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final AtomicReference<CatalogSnapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    public CatalogService(CardRepository cardRepository, CardSetRepository cardSetRepository,
+                          CatalogChangeRepository catalogChangeRepository, ApplicationEventPublisher eventPublisher) {
+        this.cardRepository = cardRepository;
+        this.cardSetRepository = cardSetRepository;
+        this.catalogChangeRepository = catalogChangeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        reload();
+    }
+
+    /**
+     * Returns the current snapshot
+     * Throws CatalogUnavailableException if the first snapshot has not been loaded yet
+     */
+    public CatalogSnapshot snapshot() {
+        CatalogSnapshot snapshot = current.get();
+        if (snapshot == null) {
+            throw new CatalogUnavailableException();
+        }
+        return snapshot;
+    }
+
+    public boolean isReady() {
+        return current.get() != null;
+    }
+
+    /**
+     * Builds a new snapshot from the database and publishes it
+     * Reloads are serialized, readers keep using the previous snapshot until the swap
+     */
+    public synchronized CatalogSnapshot reload() {
+        log.info("Building catalog snapshot");
+        long start = System.nanoTime();
+
+        // Read before the catalog, so the snapshot includes at least every change up to this version
+        long changeVersion = catalogChangeRepository.findLatestVersion();
+
+        // Read-only constructor projections: no managed entities, no dirty-checking snapshots
+        List<CardSetView> sets = cardSetRepository.findAllViews();
+        List<CardView> cards = cardRepository.findAllViews();
+        CatalogSnapshot snapshot = CatalogSnapshot.build(versions.incrementAndGet(), changeVersion, sets, cards);
+
+        current.set(snapshot);
+        eventPublisher.publishEvent(new CatalogReloadedEvent(snapshot));
+
+        log.info("Published catalog snapshot version {} (changelog version {}) with {} sets and {} cards in {} ms",
+                snapshot.getVersion(), changeVersion, snapshot.getSets().size(), snapshot.getCards().size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return snapshot;
+    }
+}
@@ -0,0 +1,369 @@
+package com.tlam.backend.catalog;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tlam.backend.card.CardBatchDTO;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.cardset.SeriesDTO;
+
+import lombok.Getter;
+
+/**
+ * Immutable, fully indexed view of the card catalog (all sets and cards)
+ * Built by CatalogService and published as a whole, so readers never see partial state
+ *
+ * Cards are numbered with dense ordinals (their position in getCards()), grouped by set
+ * in release order, which derived indexes can use for compact arrays and bitmaps.
+ * Cards and sets are held as immutable projections, never as managed entities.
+ */
+@Getter
+public final class CatalogSnapshot {
+
+    // Key of the series listing validator
+    private static final String SERIES = "series";
+
+    // Writes the DTOs into validator fingerprints, every field counts like in the response body
+    private static final ObjectWriter FINGERPRINT_WRITER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            .build()
+            .writer();
+
+    private final long version;
+    private final Instant builtAt;
+
+    // Newest changelog version the snapshot is known to include, changes are only served up to it
+    private final long changeVersion;
+
+    // Sets ordered by SetSortKey (newest first), cards ordered by ordinal (set release order, then CardSortKey)
+    private final List<CardSetView> sets;
+    private final List<CardView> cards;
+
+    private final Map<String, CardSetView> setsById;
+    private final Map<String, Integer> cardOrdinalsById;
+
+    // Cards of every set in listing order, the input of per-set derived indexes
+    private final Map<String, List<CardView>> cardViewsBySet;
+
+    // Pre-built responses for the listing endpoints
+    private final Map<String, List<CardSetDTO>> setDtosBySeries;
+    private final Map<String, List<CardDTO>> cardDtosBySet;
+    private final Map<String, CardDTO> cardDtosById;
+
+    // Every series with the aggregates of its sets, newest series first
+    private final List<SeriesDTO> series;
+
+    // Sort keys aligned with the listings above, used to seek pagination cursors
+    private final Map<String, List<SetSortKey>> setKeysBySeries;
+    private final Map<String, List<CardSortKey>> cardKeysBySet;
+
+    // Validators for conditional requests against the listing endpoints
+    private final Map<String, CatalogValidator> setValidatorsBySeries;
+    private final Map<String, CatalogValidator> cardValidatorsBySet;
+    private final CatalogValidator seriesValidator;
+
+    private CatalogSnapshot(long version, long changeVersion, List<CardSetView> sets, List<CardView> cards) {
+        this.version = version;
+        this.builtAt = Instant.now();
+        this.changeVersion = changeVersion;
+
+        this.sets = sets.stream()
+                .sorted(Comparator.comparing(CatalogSnapshot::sortKey))
+                .toList();
+
+        Map<String, CardSetView> setIndex = new LinkedHashMap<>();
+        Map<String, List<CardSetView>> seriesSets = new LinkedHashMap<>();
+        Map<String, List<CardSetDTO>> seriesIndex = new LinkedHashMap<>();
+        Map<String, List<SetSortKey>> seriesKeys = new LinkedHashMap<>();
+        for (CardSetView set : this.sets) {
+            setIndex.put(set.id(), set);
+            seriesSets.computeIfAbsent(set.series(), series -> new ArrayList<>()).add(set);
+            seriesIndex.computeIfAbsent(set.series(), series -> new ArrayList<>()).add(convertToDTO(set));
+            seriesKeys.computeIfAbsent(set.series(), series -> new ArrayList<>()).add(sortKey(set));
+        }
+        this.setsById = Map.copyOf(setIndex);
+        this.setDtosBySeries = copyOfLists(seriesIndex);
+        this.setKeysBySeries = copyOfLists(seriesKeys);
+        this.setValidatorsBySeries = validators(seriesSets, seriesIndex,
+                CardSetView::id, CardSetView::updatedAt);
+
+        // Oldest sets first so ordinals follow the order cards were printed in
+        Map<String, Integer> releaseOrder = new HashMap<>();
+        for (int i = 0; i < this.sets.size(); i++) {
+            releaseOrder.put(this.sets.get(i).id(), this.sets.size() - i);
+        }
+        this.cards = cards.stream()
+                .sorted(Comparator.comparing((CardView card) -> releaseOrder.getOrDefault(card.setId(), Integer.MAX_VALUE))
+                        .thenComparing(CardSortKey::of))
+                .toList();
+
+        Map<String, Integer> ordinals = new HashMap<>();
+        Map<String, CardDTO> cardIndex = new HashMap<>();
+        Map<String, List<CardView>> setCards = new LinkedHashMap<>();
+        Map<String, List<CardDTO>> setCardDtos = new LinkedHashMap<>();
+        Map<String, List<CardSortKey>> setCardKeys = new LinkedHashMap<>();
+        for (int ordinal = 0; ordinal < this.cards.size(); ordinal++) {
+            CardView card = this.cards.get(ordinal);
+            CardDTO cardDTO = convertToDTO(card);
+            ordinals.put(card.id(), ordinal);
+            cardIndex.put(card.id(), cardDTO);
+            setCards.computeIfAbsent(card.setId(), setId -> new ArrayList<>()).add(card);
+            setCardDtos.computeIfAbsent(card.setId(), setId -> new ArrayList<>()).add(cardDTO);
+            setCardKeys.computeIfAbsent(card.setId(), setId -> new ArrayList<>()).add(CardSortKey.of(card));
+        }
+        this.cardOrdinalsById = Map.copyOf(ordinals);
+        this.cardViewsBySet = copyOfLists(setCards);
+        this.cardDtosById = Map.copyOf(cardIndex);
+        this.cardDtosBySet = copyOfLists(setCardDtos);
+        this.cardKeysBySet = copyOfLists(setCardKeys);
+        this.cardValidatorsBySet = validators(setCards, setCardDtos,
+                CardView::id, CardView::updatedAt);
+
+        // Sets are newest first, so the first set seen of a series is its latest one
+        List<SeriesDTO> seriesList = new ArrayList<>(seriesSets.size());
+        Map<String, LocalDateTime> seriesUpdatedAt = new HashMap<>();
+        seriesSets.forEach((name, seriesSetList) -> {
+            int cardCount = 0;
+            LocalDateTime updatedAt = null;
+            for (CardSetView set : seriesSetList) {
+                List<CardView> cardsOfSet = setCards.getOrDefault(set.id(), List.of());
+                cardCount += cardsOfSet.size();
+                updatedAt = latest(updatedAt, set.updatedAt());
+                for (CardView card : cardsOfSet) {
+                    updatedAt = latest(updatedAt, card.updatedAt());
+                }
+            }
+            seriesUpdatedAt.put(name, updatedAt);
+            seriesList.add(SeriesDTO.builder()
+                    .name(name)
+                    .setCount(seriesSetList.size())
+                    .cardCount(cardCount)
+                    .firstReleaseDate(seriesSetList.get(seriesSetList.size() - 1).releaseDate())
+                    .latestReleaseDate(seriesSetList.get(0).releaseDate())
+                    .build());
+        });
+        this.series = List.copyOf(seriesList);
+        this.seriesValidator = series.isEmpty() ? null : validators(Map.of(SERIES, series), Map.of(SERIES, series),
+                SeriesDTO::getName, dto -> seriesUpdatedAt.get(dto.getName())).get(SERIES);
+    }
+
+    public static CatalogSnapshot build(long version, long changeVersion, List<CardSetView> sets, List<CardView> cards) {
+        return new CatalogSnapshot(version, changeVersion, sets, cards);
+    }
+
+    public static CatalogSnapshot empty() {
+        return new CatalogSnapshot(0, 0, List.of(), List.of());
+    }
+
+    public List<CardDTO> getCardsBySet(String setId) {
+        return cardDtosBySet.getOrDefault(setId, List.of());
+    }
+
+    /**
+     * Returns the cards of a set in listing order
+     * Their ordinals are consecutive, starting at the ordinal of the first one
+     */
+    public List<CardView> getCardViewsBySet(String setId) {
+        return cardViewsBySet.getOrDefault(setId, List.of());
+    }
+
+    public List<CardSetDTO> getSetsBySeries(String series) {
+        return setDtosBySeries.getOrDefault(series, List.of());
+    }
+
+    /**
+     * Returns the page of a set's cards that follows the cursor (the first page if the cursor is null)
+     */
+    public PageDTO<CardDTO> getCardsBySetPage(String setId, String cursor, int limit) {
+        CardSortKey after = cursor != null ? CardSortKey.fromCursor(cursor) : null;
+        return KeysetPagination.page(getCardsBySet(setId), cardKeysBySet.getOrDefault(setId, List.of()),
+                after, limit, CardSortKey::toCursor);
+    }
+
+    /**
+     * Returns the page of a series' sets that follows the cursor (the first page if the cursor is null)
+     */
+    public PageDTO<CardSetDTO> getSetsBySeriesPage(String series, String cursor, int limit) {
+        SetSortKey after = cursor != null ? SetSortKey.fromCursor(cursor) : null;
+        return KeysetPagination.page(getSetsBySeries(series), setKeysBySeries.getOrDefault(series, List.of()),
+                after, limit, SetSortKey::toCursor);
+    }
+
+    public Optional<CatalogValidator> getSeriesValidator() {
+        return Optional.ofNullable(seriesValidator);
+    }
+
+    public Optional<CatalogValidator> getCardsBySetValidator(String setId) {
+        return Optional.ofNullable(cardValidatorsBySet.get(setId));
+    }
+
+    public Optional<CatalogValidator> getSetsBySeriesValidator(String series) {
+        return Optional.ofNullable(setValidatorsBySeries.get(series));
+    }
+
+    public Optional<CardDTO> getCard(String cardId) {
+        return Optional.ofNullable(cardDtosById.get(cardId));
+    }
+
+    /**
+     * Resolves a list of card IDs against the catalog, keeping the requested order
+     */
+    public CardBatchDTO getCards(List<String> cardIds) {
+        List<CardDTO> found = new ArrayList<>(cardIds.size());
+        List<String> missing = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (String cardId : cardIds) {
+            if (!seen.add(cardId)) {
+                continue;
+            }
+            CardDTO card = cardDtosById.get(cardId);
+            if (card != null) {
+                found.add(card);
+            } else {
+                missing.add(cardId);
+            }
+        }
+        return new CardBatchDTO(found, missing);
+    }
+
+    public Optional<CardSetView> getSet(String setId) {
+        return Optional.ofNullable(setsById.get(setId));
+    }
+
+    public Optional<CardSetDTO> getSetDTO(String setId) {
+        return getSet(setId).map(CatalogSnapshot::convertToDTO);
+    }
+
+    public Optional<CardView> getCardView(String cardId) {
+        Integer ordinal = cardOrdinalsById.get(cardId);
+        return ordinal != null ? Optional.of(cards.get(ordinal)) : Optional.empty();
+    }
+
+    public CardView getCardByOrdinal(int ordinal) {
+        return cards.get(ordinal);
+    }
+
+    public int getOrdinal(String cardId) {
+        int ordinal = findOrdinal(cardId);
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Card " + cardId + " is not in the catalog");
+        }
+        return ordinal;
+    }
+
+    // Ordinal of the card, or -1 if it is not in the catalog
+    public int findOrdinal(String cardId) {
+        Integer ordinal = cardOrdinalsById.get(cardId);
+        return ordinal != null ? ordinal : -1;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && (current == null || candidate.isAfter(current)) ? candidate : current;
+    }
+
+    private static SetSortKey sortKey(CardSetView set) {
+        return new SetSortKey(set.releaseDate(), set.id());
+    }
+
+    private static <T> Map<String, List<T>> copyOfLists(Map<String, List<T>> source) {
+        Map<String, List<T>> copy = new HashMap<>();
+        source.forEach((key, values) -> copy.put(key, List.copyOf(values)));
+        return Map.copyOf(copy);
+    }
+
+    /**
+     * Fingerprints every group from its entities' IDs and update times and the JSON of the DTOs served,
+     * so the ETag changes whenever the response body would
+     */
+    private static <E, D> Map<String, CatalogValidator> validators(Map<String, List<E>> entities, Map<String, List<D>> dtos,
+                                                                   Function<E, String> id, Function<E, LocalDateTime> updatedAt) {
+        Map<String, CatalogValidator> validators = new HashMap<>();
+        entities.forEach((key, group) -> {
+            MessageDigest digest = sha256();
+            OutputStream content = new DigestOutputStream(OutputStream.nullOutputStream(), digest);
+            LocalDateTime lastModified = null;
+            List<D> groupDtos = dtos.get(key);
+            for (int i = 0; i < group.size(); i++) {
+                E entity = group.get(i);
+                LocalDateTime modified = updatedAt.apply(entity);
+                digest.update(id.apply(entity).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(String.valueOf(modified).getBytes(StandardCharsets.UTF_8));
+                try {
+                    FINGERPRINT_WRITER.writeValue(content, groupDtos.get(i));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Failed to fingerprint " + id.apply(entity), e);
+                }
+                if (modified != null && (lastModified == null || modified.isAfter(lastModified))) {
+                    lastModified = modified;
+                }
+            }
+            String fingerprint = HexFormat.of().formatHex(digest.digest(), 0, 12);
+            Instant lastModifiedInstant = lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant() : null;
+            validators.put(key, new CatalogValidator(fingerprint, lastModifiedInstant));
+        });
+        return Map.copyOf(validators);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static CardDTO convertToDTO(CardView card) {
+        return CardDTO.builder()
+                .id(card.id())
+                .name(card.name())
+                .number(card.number())
+                .rarity(card.rarity())
+                .smallImageUrl(card.smallImageUrl())
+                .largeImageUrl(card.largeImageUrl())
+                .imagePlaceholder(card.imagePlaceholder())
+                .build();
+    }
+
+    private static CardSetDTO convertToDTO(CardSetView cardSet) {
+        return CardSetDTO.builder()
+                .id(cardSet.id())
+                .name(cardSet.name())
+                .series(cardSet.series())
+                .language(cardSet.language().name())
+                .symbolUrl(cardSet.symbolUrl())
+                .logoUrl(cardSet.logoUrl())
+                .logoPlaceholder(cardSet.logoPlaceholder())
+                .printedTotal(cardSet.printedTotal())
+                .totalCards(cardSet.totalCards())
+                .releaseDate(cardSet.releaseDate())
+                .build();
+    }
+}
@@ -0,0 +1,77 @@
+package com.tlam.backend.catalog;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HexFormat;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Validators of one catalog response (the cards of a set, the sets of a series or the details of a card)
+ * The ETag is a fingerprint of the entities the response is built from, so it only changes
+ * when one of them is added, removed or updated, not on every catalog reload
+ */
+public record CatalogValidator(String fingerprint, Instant lastModified) {
+
+    // Clients and CDNs may reuse a response for a minute, then revalidate with If-None-Match
+    static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofMinutes(1)).cachePublic().mustRevalidate();
+
+    /**
+     * Strong ETag of one representation (format and plain or gzipped)
+     * Every representation is a different byte sequence, so each gets its own strong ETag.
+     * JSON keeps the bare fingerprint so existing client caches stay valid
+     */
+    public String etag(CatalogFormat format, boolean gzip) {
+        String suffix = format.getEtagSuffix().isEmpty() ? "" : "-" + format.getEtagSuffix();
+        return "\"" + fingerprint + suffix + (gzip ? "-gzip" : "") + "\"";
+    }
+
+    /**
+     * Validator of a single response that is already serialized as JSON, fingerprinted from those bytes
+     */
+    public static CatalogValidator ofJson(byte[] json, LocalDateTime lastModified) {
+        try {
+            String fingerprint = HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json), 0, 12);
+            return new CatalogValidator(fingerprint, lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant() : null);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified != null ? lastModified.toEpochMilli() : -1;
+    }
+
+    /**
+     * Starts a 200 response of one representation, with its content type, validators, Cache-Control and Vary
+     */
+    public ResponseEntity.BodyBuilder ok(CatalogFormat format, boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .eTag(etag(format, gzip))
+                .cacheControl(CACHE_CONTROL)
+                .header(HttpHeaders.VARY, SerializedResponse.VARY);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    public ResponseEntity<byte[]> notModified(CatalogFormat format, boolean gzip) {
+        ResponseEntity.HeadersBuilder<?> response = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag(format, gzip))
+                .cacheControl(CACHE_CONTROL)
+                .header(HttpHeaders.VARY, SerializedResponse.VARY);
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response.build();
+    }
+}
@@ -0,0 +1,35 @@
+package com.tlam.backend.catalog;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.tlam.backend.exception.InvalidCursorException;
+
+/**
+ * Encodes sort keys as opaque, URL safe pagination cursors
+ */
+public final class Cursors {
+
+    private static final String SEPARATOR = "\u001f";
+
+    private Cursors() {
+    }
+
+    public static String encode(String... fields) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(String.join(SEPARATOR, fields).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int fieldCount) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = decoded.split(SEPARATOR, -1);
+            if (fields.length != fieldCount) {
+                throw new InvalidCursorException(cursor);
+            }
+            return fields;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
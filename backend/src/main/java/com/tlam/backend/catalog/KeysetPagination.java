@@ -0,0 +1,45 @@
+package com.tlam.backend.catalog;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset pagination over a list already sorted by its key
+ * The start of a page is found by binary search on the cursor key, so every page costs O(log n + limit)
+ * however deep it is, and pages stay consistent when items are added or removed between requests
+ */
+final class KeysetPagination {
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Returns the page of items following the cursor key, keys.get(i) being the sort key of sorted.get(i)
+     */
+    static <T, K extends Comparable<K>> PageDTO<T> page(List<T> sorted, List<K> keys, K after, int limit,
+                                                        Function<K, String> toCursor) {
+        int from = after == null ? 0 : firstAfter(keys, after);
+        int to = Math.min(sorted.size(), from + limit);
+
+        String nextCursor = to < sorted.size() ? toCursor.apply(keys.get(to - 1)) : null;
+        return PageDTO.<T>builder()
+                .items(sorted.subList(from, to))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // Index of the first item whose key is strictly greater than the cursor key
+    private static <K extends Comparable<K>> int firstAfter(List<K> keys, K after) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys.get(mid).compareTo(after) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,65 @@
+package com.tlam.backend.catalog;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * A catalog response body serialized once in one format, kept both as plain and gzipped bytes
+ * Written to the client as is, without going through Jackson again
+ */
+public record SerializedResponse(CatalogFormat format, byte[] body, byte[] gzip) {
+
+    // Representations differ by both the negotiated format and the content coding
+    static final String VARY = HttpHeaders.ACCEPT + ", " + HttpHeaders.ACCEPT_ENCODING;
+
+    /**
+     * Builds a 200 response with the gzipped body if requested, the plain body otherwise
+     */
+    public ResponseEntity<byte[]> toResponseEntity(boolean compressed, CatalogValidator validator) {
+        byte[] content = compressed ? gzip : body;
+
+        ResponseEntity.BodyBuilder response = validator.ok(format, compressed).contentLength(content.length);
+        if (compressed) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(content);
+    }
+
+    /**
+     * Checks whether the Accept-Encoding header allows gzip
+     * An explicit gzip token wins over "*" wherever it appears, so "*;q=0, gzip" accepts gzip and "gzip;q=0, *" does not.
+     */
+    public static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        double gzipWeight = -1;
+        double wildcardWeight = -1;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.trim().split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip")) {
+                gzipWeight = Math.max(gzipWeight, weight(parts));
+            } else if (name.equals("*")) {
+                wildcardWeight = Math.max(wildcardWeight, weight(parts));
+            }
+        }
+        return (gzipWeight >= 0 ? gzipWeight : wildcardWeight) > 0;
+    }
+
+    // Quality value of a coding, 1 when absent and 0 when malformed
+    private static double weight(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].replace(" ", "");
+            if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                try {
+                    double weight = Double.parseDouble(parameter.substring(2));
+                    return weight >= 0 && weight <= 1 ? weight : 0;
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,36 @@
+package com.tlam.backend.catalog;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Comparator;
+
+import com.tlam.backend.exception.InvalidCursorException;
+
+/**
+ * Stable order of the sets within a series: newest release first, sets without a release date last, then the ID
+ */
+public record SetSortKey(LocalDate releaseDate, String id) implements Comparable<SetSortKey> {
+
+    private static final Comparator<SetSortKey> ORDER = Comparator
+            .comparing(SetSortKey::releaseDate, Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(SetSortKey::id);
+
+    public static SetSortKey fromCursor(String cursor) {
+        String[] fields = Cursors.decode(cursor, 2);
+        try {
+            LocalDate releaseDate = fields[0].isEmpty() ? null : LocalDate.parse(fields[0]);
+            return new SetSortKey(releaseDate, fields[1]);
+        } catch (DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    public String toCursor() {
+        return Cursors.encode(releaseDate != null ? releaseDate.toString() : "", id);
+    }
+
+    @Override
+    public int compareTo(SetSortKey other) {
+        return ORDER.compare(this, other);
+    }
+}
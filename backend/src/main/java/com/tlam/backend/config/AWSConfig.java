@@ -1,5 +1,6 @@
 package com.tlam.backend.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,6 +9,7 @@ import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
 
 @Configuration
+@ConditionalOnProperty(prefix = "image-store", name = "type", havingValue = "s3", matchIfMissing = true)
 public class AWSConfig {
     private final S3Config s3config;
 
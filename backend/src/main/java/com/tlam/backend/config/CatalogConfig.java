@@ -0,0 +1,31 @@
+package com.tlam.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "catalog")
+public class CatalogConfig {
+    // Page size of paginated listings when the client does not ask for one
+    private int defaultPageSize = 100;
+
+    // Larger requested page sizes are capped to this
+    private int maxPageSize = 500;
+
+    // Changelog entries folded into one delta sync response, clients keep syncing while hasMore is set
+    private int changesPageSize = 5000;
+
+    // Directory the full catalog download is written to after every reload
+    private String exportDirectory = "data/catalog-export";
+
+    // Directory the memory-mapped card details are written to when the catalog is seeded
+    private String detailsDirectory = "data/card-details";
+
+    // How often typeahead suggestions are re-ranked by the current collector counts between catalog reloads
+    private Duration popularityRefreshInterval = Duration.ofMinutes(15);
+}
@@ -0,0 +1,29 @@
+package com.tlam.backend.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "image-proxy")
+public class ImageProxyConfig {
+    // Origin the proxy fetches from, only paths below it can be proxied
+    private String originBaseUrl = "https://images.pokemontcg.io";
+
+    // Directory the proxied images are cached in
+    private String cacheDirectory = "data/image-cache";
+
+    // Least recently used images are evicted once the cache grows past this size
+    private DataSize maxCacheSize = DataSize.ofGigabytes(2);
+
+    // Images the origin answered with 404 are not asked for again for this long
+    private Duration notFoundTtl = Duration.ofMinutes(5);
+
+    private int connectTimeout = 5000;
+    private int readTimeout = 15000;
+}
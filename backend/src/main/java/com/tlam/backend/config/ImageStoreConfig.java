@@ -0,0 +1,20 @@
+package com.tlam.backend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "image-store")
+public class ImageStoreConfig {
+    // Either "s3" or "local"
+    private String type = "s3";
+
+    // Directory the local image store writes to
+    private String localDirectory = "data/images";
+
+    // Base URL the backend is reachable at, used to build local image URLs
+    private String publicBaseUrl = "http://localhost:8080";
+}
@@ -0,0 +1,31 @@
+package com.tlam.backend.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/*
+ * MessageConverterConfig lets clients ask for CBOR or Smile instead of JSON through the Accept header.
+ * The binary converters are built from a copy of the application's ObjectMapper, so they write
+ * the same fields and date formats as JSON. JSON stays the default when no format is requested.
+ */
+@Configuration
+public class MessageConverterConfig {
+
+    // Replaces Spring Boot's default CBOR converter, which uses a mapper without the application's settings
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+
+    // Replaces Spring Boot's default Smile converter for the same reason
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2SmileHttpMessageConverter(objectMapper.copyWith(new SmileFactory()));
+    }
+}
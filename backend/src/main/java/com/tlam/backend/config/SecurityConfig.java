@@ -34,7 +34,7 @@ public class SecurityConfig {
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http.csrf(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(req ->
-                req.requestMatchers("/api/auth/**", "/v3/**", "/swagger-ui/**", "/swagger-ui.html", "/api/collection/**").permitAll().anyRequest().authenticated()
+                req.requestMatchers("/api/auth/**", "/v3/**", "/swagger-ui/**", "/swagger-ui.html", "/api/collection/**", "/api/images/**", "/api/image-proxy/**", "/actuator/health/**").permitAll().anyRequest().authenticated()
             )
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authenticationProvider(authenticationProvider)
@@ -0,0 +1,26 @@
+package com.tlam.backend.deck;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckBatchRequest {
+
+    // Larger batches have to be split by the client
+    public static final int MAX_DECKS = 5000;
+
+    @NotEmpty(message = "At least one deck is required")
+    @Size(max = MAX_DECKS, message = "At most " + MAX_DECKS + " decks can be validated at once")
+    private List<@NotNull(message = "Decks must not be null") @Valid DeckDTO> decks;
+}
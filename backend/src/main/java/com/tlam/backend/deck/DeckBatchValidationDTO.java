@@ -0,0 +1,22 @@
+package com.tlam.backend.deck;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the validation results of a batch of decks, in the order they were sent
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckBatchValidationDTO {
+    private String format;
+    private int total;
+    private int legal;
+    private List<DeckValidationDTO> results;
+}
@@ -0,0 +1,119 @@
+package com.tlam.backend.deck;
+
+import java.util.Optional;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for deck list validation
+ * Checks deck lists against the legal cards and deck building rules of Standard, Expanded or Unlimited
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/decks")
+@RequiredArgsConstructor
+@Tag(name = "Decks", description = "Operations related to deck lists")
+public class DeckController {
+
+    private final DeckValidationService deckValidationService;
+
+    @Operation(
+        summary = "Validate a deck list",
+        description = "Checks a deck against the format: exactly " + DeckLegalityIndex.DECK_SIZE + " cards, every card legal and not banned, " +
+                     "at most " + DeckLegalityIndex.MAX_COPIES + " copies of cards with the same name (basic energies excepted), " +
+                     "at least one Basic Pokémon, and at most one ACE SPEC card, Radiant Pokémon and copy of each Prism Star card. " +
+                     "Every broken rule is listed, the deck is legal when there are none."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Deck validated",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DeckValidationDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Unknown format or malformed deck list")
+    })
+    @PostMapping("/validate")
+    public ResponseEntity<DeckValidationDTO> validateDeck(
+        @Parameter(description = "Format to validate for: standard, expanded or unlimited", example = "standard")
+        @RequestParam(defaultValue = "standard") String format,
+        @Valid @RequestBody DeckDTO deck
+    ) {
+        Optional<DeckFormat> deckFormat = DeckFormat.fromParameter(format);
+        if (deckFormat.isEmpty()) {
+            log.warn("Deck validation rejected, unknown format '{}'", format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            DeckValidationDTO result = deckValidationService.validate(deckFormat.get(), deck);
+            log.info("Validated deck '{}' for {}: {} problems", deck.getName(), format, result.getProblems().size());
+            return ResponseEntity.ok(result);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error validating deck '{}' for {}", deck.getName(), format, e);
+            throw new RuntimeException("Failed to validate deck");
+        }
+    }
+
+    @Operation(
+        summary = "Validate a batch of deck lists",
+        description = "Checks up to " + DeckBatchRequest.MAX_DECKS + " decks against the format in one request, with the same rules " +
+                     "as validating a single deck. Results come in the order of the decks."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Decks validated",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = DeckBatchValidationDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Unknown format, no decks, too many decks or a malformed deck list")
+    })
+    @PostMapping("/validate/batch")
+    public ResponseEntity<DeckBatchValidationDTO> validateDecks(
+        @Parameter(description = "Format to validate for: standard, expanded or unlimited", example = "standard")
+        @RequestParam(defaultValue = "standard") String format,
+        @Valid @RequestBody DeckBatchRequest request
+    ) {
+        Optional<DeckFormat> deckFormat = DeckFormat.fromParameter(format);
+        if (deckFormat.isEmpty()) {
+            log.warn("Deck batch validation rejected, unknown format '{}'", format);
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            DeckBatchValidationDTO result = deckValidationService.validateAll(deckFormat.get(), request.getDecks());
+            log.info("Validated {} decks for {}: {} legal", result.getTotal(), format, result.getLegal());
+            return ResponseEntity.ok(result);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error validating {} decks for {}", request.getDecks().size(), format, e);
+            throw new RuntimeException("Failed to validate decks");
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.tlam.backend.deck;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a deck list to validate
+ * The name is optional and only echoed back, so batch results can be matched to their decks.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckDTO {
+
+    // A legal deck has at most 60 different cards
+    public static final int MAX_ENTRIES = DeckLegalityIndex.DECK_SIZE;
+
+    private String name;
+
+    @NotNull(message = "A deck needs a list of cards")
+    @Size(max = MAX_ENTRIES, message = "A deck lists at most " + MAX_ENTRIES + " different cards")
+    private List<DeckEntryDTO> cards;
+}
@@ -0,0 +1,19 @@
+package com.tlam.backend.deck;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One line of a deck list: a card and how many copies of it the deck plays
+ * Unknown cards and counts below one are reported as deck problems rather than rejected.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckEntryDTO {
+    private String cardId;
+    private int count;
+}
@@ -0,0 +1,44 @@
+package com.tlam.backend.deck;
+
+import java.util.Optional;
+
+import com.tlam.backend.card.CardView;
+
+/**
+ * Play formats a deck can be validated for
+ */
+public enum DeckFormat {
+
+    STANDARD("standard"),
+    EXPANDED("expanded"),
+    UNLIMITED("unlimited");
+
+    // Name of the format in requests and responses
+    private final String parameter;
+
+    DeckFormat(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    public static Optional<DeckFormat> fromParameter(String parameter) {
+        for (DeckFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(parameter)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // "Legal", "Banned", or null when the card is not allowed in this format
+    String legalityOf(CardView card) {
+        return switch (this) {
+            case STANDARD -> card.standardLegality();
+            case EXPANDED -> card.expandedLegality();
+            case UNLIMITED -> card.unlimitedLegality();
+        };
+    }
+}
@@ -0,0 +1,202 @@
+package com.tlam.backend.deck;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.search.SearchText;
+
+/**
+ * Deck building facts about every card, as bitsets over card ordinals
+ * Legal and banned cards are one bitset per format, and every card name is interned to an id,
+ * so validating a deck is a single pass over its list with no lookups besides the card IDs.
+ */
+final class DeckLegalityIndex {
+
+    static final int DECK_SIZE = 60;
+    static final int MAX_COPIES = 4;
+
+    private final BitSet[] legal;
+    private final BitSet[] banned;
+    private final BitSet basicPokemon;
+    private final BitSet basicEnergy;
+    private final BitSet aceSpec;
+    private final BitSet radiant;
+    private final BitSet prismStar;
+
+    // Per ordinal, the id of its normalized name
+    private final int[] nameIds;
+
+    private DeckLegalityIndex(BitSet[] legal, BitSet[] banned, BitSet basicPokemon, BitSet basicEnergy,
+                              BitSet aceSpec, BitSet radiant, BitSet prismStar, int[] nameIds) {
+        this.legal = legal;
+        this.banned = banned;
+        this.basicPokemon = basicPokemon;
+        this.basicEnergy = basicEnergy;
+        this.aceSpec = aceSpec;
+        this.radiant = radiant;
+        this.prismStar = prismStar;
+        this.nameIds = nameIds;
+    }
+
+    static DeckLegalityIndex empty() {
+        return build(CatalogSnapshot.empty());
+    }
+
+    static DeckLegalityIndex build(CatalogSnapshot snapshot) {
+        int cardCount = snapshot.getCards().size();
+        DeckFormat[] formats = DeckFormat.values();
+        BitSet[] legal = new BitSet[formats.length];
+        BitSet[] banned = new BitSet[formats.length];
+        for (DeckFormat format : formats) {
+            legal[format.ordinal()] = new BitSet(cardCount);
+            banned[format.ordinal()] = new BitSet(cardCount);
+        }
+        BitSet basicPokemon = new BitSet(cardCount);
+        BitSet basicEnergy = new BitSet(cardCount);
+        BitSet aceSpec = new BitSet(cardCount);
+        BitSet radiant = new BitSet(cardCount);
+        BitSet prismStar = new BitSet(cardCount);
+        int[] nameIds = new int[cardCount];
+        Map<String, Integer> ids = new HashMap<>();
+
+        for (CardSetView set : snapshot.getSets()) {
+            for (CardView card : snapshot.getCardViewsBySet(set.id())) {
+                int ordinal = snapshot.getOrdinal(card.id());
+                nameIds[ordinal] = ids.computeIfAbsent(String.join(" ", SearchText.terms(card.name())), key -> ids.size());
+
+                for (DeckFormat format : formats) {
+                    String legality = format.legalityOf(card);
+                    if ("Legal".equalsIgnoreCase(legality)) {
+                        legal[format.ordinal()].set(ordinal);
+                    } else if ("Banned".equalsIgnoreCase(legality)) {
+                        banned[format.ordinal()].set(ordinal);
+                    }
+                }
+
+                List<String> subtypes = card.subtypes() != null ? card.subtypes() : List.of();
+                if ("Pokémon".equals(card.supertype()) && subtypes.contains("Basic")) {
+                    basicPokemon.set(ordinal);
+                }
+                if ("Energy".equals(card.supertype()) && subtypes.contains("Basic")) {
+                    basicEnergy.set(ordinal);
+                }
+                aceSpec.set(ordinal, subtypes.contains("ACE SPEC"));
+                radiant.set(ordinal, subtypes.contains("Radiant"));
+                prismStar.set(ordinal, subtypes.contains("Prism Star"));
+            }
+        }
+        return new DeckLegalityIndex(legal, banned, basicPokemon, basicEnergy, aceSpec, radiant, prismStar, nameIds);
+    }
+
+    /**
+     * Checks every deck building rule for the deck in the format, in one pass over its list
+     * Problems with single cards come in list order, followed by the rules about the whole deck.
+     */
+    DeckValidationDTO validate(CatalogSnapshot snapshot, DeckFormat format, DeckDTO deck) {
+        BitSet legalCards = legal[format.ordinal()];
+        BitSet bannedCards = banned[format.ordinal()];
+        List<DeckEntryDTO> entries = deck.getCards() != null ? deck.getCards() : List.of();
+        List<DeckProblemDTO> problems = new ArrayList<>();
+
+        // Copies per name, decks list few enough names that a linear scan beats hashing
+        int[] names = new int[entries.size()];
+        int[] copies = new int[entries.size()];
+        int[] firstOrdinals = new int[entries.size()];
+        int nameCount = 0;
+
+        int cardCount = 0;
+        int aceSpecCount = 0;
+        int radiantCount = 0;
+        boolean hasBasicPokemon = false;
+
+        for (DeckEntryDTO entry : entries) {
+            String cardId = entry != null ? entry.getCardId() : null;
+            int count = entry != null ? entry.getCount() : 0;
+            if (count < 1 || count > DECK_SIZE) {
+                problems.add(problem(DeckRule.INVALID_COUNT, cardId, null,
+                        "Copy counts have to be between 1 and " + DECK_SIZE + ", got " + count));
+                continue;
+            }
+            int ordinal = cardId != null ? snapshot.findOrdinal(cardId) : -1;
+            if (ordinal < 0) {
+                problems.add(problem(DeckRule.UNKNOWN_CARD, cardId, null, "No card with ID " + cardId));
+                continue;
+            }
+
+            cardCount += count;
+            if (!legalCards.get(ordinal)) {
+                String name = snapshot.getCardByOrdinal(ordinal).name();
+                problems.add(bannedCards.get(ordinal)
+                        ? problem(DeckRule.BANNED, cardId, name, name + " is banned in " + format.parameter())
+                        : problem(DeckRule.NOT_LEGAL, cardId, name, name + " is not legal in " + format.parameter()));
+            }
+            hasBasicPokemon |= basicPokemon.get(ordinal);
+            if (aceSpec.get(ordinal)) {
+                aceSpecCount += count;
+            }
+            if (radiant.get(ordinal)) {
+                radiantCount += count;
+            }
+            if (basicEnergy.get(ordinal)) {
+                continue;
+            }
+
+            int nameId = nameIds[ordinal];
+            int slot = 0;
+            while (slot < nameCount && names[slot] != nameId) {
+                slot++;
+            }
+            if (slot == nameCount) {
+                names[slot] = nameId;
+                firstOrdinals[slot] = ordinal;
+                nameCount++;
+            }
+            copies[slot] += count;
+        }
+
+        for (int slot = 0; slot < nameCount; slot++) {
+            int ordinal = firstOrdinals[slot];
+            int limit = prismStar.get(ordinal) ? 1 : MAX_COPIES;
+            if (copies[slot] > limit) {
+                String name = snapshot.getCardByOrdinal(ordinal).name();
+                problems.add(problem(DeckRule.COPY_LIMIT, null, name,
+                        copies[slot] + " copies of " + name + ", at most " + limit + " allowed"));
+            }
+        }
+        if (cardCount != DECK_SIZE) {
+            problems.add(problem(DeckRule.DECK_SIZE, null, null, "Deck has " + cardCount + " cards instead of " + DECK_SIZE));
+        }
+        if (!hasBasicPokemon) {
+            problems.add(problem(DeckRule.NO_BASIC_POKEMON, null, null, "Deck has no Basic Pokémon"));
+        }
+        if (aceSpecCount > 1) {
+            problems.add(problem(DeckRule.ACE_SPEC_LIMIT, null, null, "Deck has " + aceSpecCount + " ACE SPEC cards, at most 1 allowed"));
+        }
+        if (radiantCount > 1) {
+            problems.add(problem(DeckRule.RADIANT_LIMIT, null, null, "Deck has " + radiantCount + " Radiant Pokémon, at most 1 allowed"));
+        }
+
+        return DeckValidationDTO.builder()
+                .name(deck.getName())
+                .format(format.parameter())
+                .legal(problems.isEmpty())
+                .cardCount(cardCount)
+                .problems(problems)
+                .build();
+    }
+
+    private static DeckProblemDTO problem(DeckRule rule, String cardId, String cardName, String message) {
+        return DeckProblemDTO.builder()
+                .rule(rule)
+                .cardId(cardId)
+                .cardName(cardName)
+                .message(message)
+                .build();
+    }
+}
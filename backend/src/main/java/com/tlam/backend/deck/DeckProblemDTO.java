@@ -0,0 +1,21 @@
+package com.tlam.backend.deck;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one broken deck building rule
+ * Card ID and name are set when the problem is about a specific card or card name.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckProblemDTO {
+    private DeckRule rule;
+    private String cardId;
+    private String cardName;
+    private String message;
+}
@@ -0,0 +1,25 @@
+package com.tlam.backend.deck;
+
+/**
+ * Deck building rules a deck can break
+ */
+public enum DeckRule {
+    // Exactly 60 cards
+    DECK_SIZE,
+    // Every copy count is at least one
+    INVALID_COUNT,
+    // Every card is in the catalog
+    UNKNOWN_CARD,
+    // Every card is legal in the format
+    NOT_LEGAL,
+    // Every card is not banned in the format
+    BANNED,
+    // At most 4 copies of cards with the same name, basic energies excepted (1 for Prism Star cards)
+    COPY_LIMIT,
+    // At least one Basic Pokémon
+    NO_BASIC_POKEMON,
+    // At most one ACE SPEC card
+    ACE_SPEC_LIMIT,
+    // At most one Radiant Pokémon
+    RADIANT_LIMIT
+}
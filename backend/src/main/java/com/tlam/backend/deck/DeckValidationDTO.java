@@ -0,0 +1,24 @@
+package com.tlam.backend.deck;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the validation result of one deck
+ * A deck is legal when it has no problems.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DeckValidationDTO {
+    private String name;
+    private String format;
+    private boolean legal;
+    private int cardCount;
+    private List<DeckProblemDTO> problems;
+}
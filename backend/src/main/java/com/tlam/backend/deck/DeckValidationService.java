@@ -0,0 +1,76 @@
+package com.tlam.backend.deck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for checking deck lists against the deck building rules of a format
+ * The legality index is rebuilt with every catalog snapshot, requests never reach the database
+ */
+@Slf4j
+@Service
+public class DeckValidationService {
+
+    private final CatalogService catalogService;
+
+    // Index and the snapshot its ordinals refer to, replaced as a whole on rebuild
+    private record DeckState(CatalogSnapshot snapshot, DeckLegalityIndex index) {
+    }
+
+    private volatile DeckState state = new DeckState(CatalogSnapshot.empty(), DeckLegalityIndex.empty());
+
+    public DeckValidationService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        DeckLegalityIndex index = DeckLegalityIndex.build(event.snapshot());
+        state = new DeckState(event.snapshot(), index);
+        log.info("Built deck legality index for {} cards in {} ms",
+                event.snapshot().getCards().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public DeckValidationDTO validate(DeckFormat format, DeckDTO deck) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        DeckState current = state;
+        return current.index().validate(current.snapshot(), format, deck);
+    }
+
+    /**
+     * Validates every deck against the same catalog snapshot, results are in the order of the decks
+     */
+    public DeckBatchValidationDTO validateAll(DeckFormat format, List<DeckDTO> decks) {
+        catalogService.snapshot();
+
+        DeckState current = state;
+        List<DeckValidationDTO> results = new ArrayList<>(decks.size());
+        int legal = 0;
+        for (DeckDTO deck : decks) {
+            DeckValidationDTO result = current.index().validate(current.snapshot(), format, deck);
+            results.add(result);
+            if (result.isLegal()) {
+                legal++;
+            }
+        }
+
+        return DeckBatchValidationDTO.builder()
+                .format(format.parameter())
+                .total(results.size())
+                .legal(legal)
+                .results(results)
+                .build();
+    }
+}
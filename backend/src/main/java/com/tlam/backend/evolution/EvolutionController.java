@@ -0,0 +1,81 @@
+package com.tlam.backend.evolution;
+
+import java.util.Optional;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for evolution lines
+ * Lists every Pokémon a card evolves from or into, with the cards printed for each of them
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+@Tag(name = "Cards", description = "Operations related to Pokémon cards")
+public class EvolutionController {
+
+    private static final int MAX_PRINTINGS_PER_POKEMON = 100;
+
+    private final EvolutionService evolutionService;
+
+    @Operation(
+        summary = "Get the evolution line of a card",
+        description = "Returns every Pokémon in the card's evolution line, stage by stage from the basic Pokémon, " +
+                     "including branches (Vaporeon's line lists every Eeveelution). Each Pokémon comes with its newest printings. " +
+                     "Trainers, energies and Pokémon that do not evolve have a line of their own name only."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Evolution line returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = EvolutionLineDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "No card with this ID")
+    })
+    @GetMapping("/{cardID}/evolutions")
+    public ResponseEntity<EvolutionLineDTO> getEvolutionLine(
+        @Parameter(description = "ID of the card", example = "base1-4", required = true)
+        @PathVariable String cardID,
+        @Parameter(description = "Maximum number of printings returned per Pokémon (0-" + MAX_PRINTINGS_PER_POKEMON + ")", example = "20")
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        int boundedLimit = Math.max(0, Math.min(limit, MAX_PRINTINGS_PER_POKEMON));
+
+        try {
+            Optional<EvolutionLineDTO> line = evolutionService.lineOf(cardID, boundedLimit);
+            if (line.isEmpty()) {
+                log.info("No card found with ID: {}", cardID);
+                return ResponseEntity.notFound().build();
+            }
+
+            log.info("Found evolution line of {} Pokémon for card with ID: {}", line.get().getPokemon().size(), cardID);
+            return ResponseEntity.ok(line.get());
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving evolution line of card with ID: {}", cardID, e);
+            throw new RuntimeException("Failed to retrieve evolution line of card with ID: " + cardID);
+        }
+    }
+}
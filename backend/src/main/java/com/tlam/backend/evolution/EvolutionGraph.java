@@ -0,0 +1,252 @@
+package com.tlam.backend.evolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.search.SearchText;
+
+/**
+ * Graph of evolutions between Pokémon names, from the evolvesFrom and evolvesTo of every card
+ * Names are interned to node ids. Parents, children and printings of a node are slices of flat arrays
+ * (offsets per node, compressed sparse row), so every hop of a walk is one array lookup.
+ * Printings are stored newest set first, like the other catalog indexes.
+ */
+final class EvolutionGraph {
+
+    private static final int[] NONE = new int[0];
+
+    // Nodes of an evolution line in breadth first order from its basic Pokémon, with the stage of each (0 for basics)
+    record Line(int[] nodes, int[] stages) {
+    }
+
+    private final String[] names;
+    private final int[] parentOffsets;
+    private final int[] parents;
+    private final int[] childOffsets;
+    private final int[] children;
+    private final int[] printingOffsets;
+    private final int[] printings;
+    private final int[] nodeByOrdinal;
+
+    private EvolutionGraph(String[] names, int[] parentOffsets, int[] parents, int[] childOffsets, int[] children,
+                           int[] printingOffsets, int[] printings, int[] nodeByOrdinal) {
+        this.names = names;
+        this.parentOffsets = parentOffsets;
+        this.parents = parents;
+        this.childOffsets = childOffsets;
+        this.children = children;
+        this.printingOffsets = printingOffsets;
+        this.printings = printings;
+        this.nodeByOrdinal = nodeByOrdinal;
+    }
+
+    static EvolutionGraph empty() {
+        return new EvolutionGraph(new String[0], new int[] { 0 }, NONE, new int[] { 0 }, NONE, new int[] { 0 }, NONE, NONE);
+    }
+
+    static EvolutionGraph build(CatalogSnapshot snapshot) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        List<List<Integer>> printingsByNode = new ArrayList<>();
+        Set<Long> edges = new LinkedHashSet<>();
+        int[] nodeByOrdinal = new int[snapshot.getCards().size()];
+
+        for (CardSetView set : snapshot.getSets()) {
+            for (CardView card : snapshot.getCardViewsBySet(set.id())) {
+                int ordinal = snapshot.getOrdinal(card.id());
+                int node = intern(card.name(), ids, names, printingsByNode);
+                nodeByOrdinal[ordinal] = node;
+                printingsByNode.get(node).add(ordinal);
+
+                if (card.evolvesFrom() != null && !card.evolvesFrom().isBlank()) {
+                    addEdge(edges, intern(card.evolvesFrom(), ids, names, printingsByNode), node);
+                }
+                if (card.evolvesTo() != null) {
+                    for (String evolvesTo : card.evolvesTo()) {
+                        addEdge(edges, node, intern(evolvesTo, ids, names, printingsByNode));
+                    }
+                }
+            }
+        }
+
+        int nodeCount = names.size();
+        String[] nameArray = names.toArray(String[]::new);
+        Comparator<Integer> byName = Comparator.comparing(node -> nameArray[node]);
+
+        List<List<Integer>> parentsByNode = new ArrayList<>(nodeCount);
+        List<List<Integer>> childrenByNode = new ArrayList<>(nodeCount);
+        for (int node = 0; node < nodeCount; node++) {
+            parentsByNode.add(new ArrayList<>());
+            childrenByNode.add(new ArrayList<>());
+        }
+        for (long edge : edges) {
+            int parent = (int) (edge >>> 32);
+            int child = (int) edge;
+            parentsByNode.get(child).add(parent);
+            childrenByNode.get(parent).add(child);
+        }
+        // Siblings are listed by name, so lines come out the same on every rebuild
+        parentsByNode.forEach(list -> list.sort(byName));
+        childrenByNode.forEach(list -> list.sort(byName));
+
+        int[] parentOffsets = offsets(parentsByNode);
+        int[] childOffsets = offsets(childrenByNode);
+        int[] printingOffsets = offsets(printingsByNode);
+        return new EvolutionGraph(nameArray, parentOffsets, flatten(parentsByNode, parentOffsets),
+                childOffsets, flatten(childrenByNode, childOffsets),
+                printingOffsets, flatten(printingsByNode, printingOffsets), nodeByOrdinal);
+    }
+
+    int nodeCount() {
+        return names.length;
+    }
+
+    int edgeCount() {
+        return children.length;
+    }
+
+    String name(int node) {
+        return names[node];
+    }
+
+    int nodeOf(int ordinal) {
+        return nodeByOrdinal[ordinal];
+    }
+
+    int[] parents(int node) {
+        return Arrays.copyOfRange(parents, parentOffsets[node], parentOffsets[node + 1]);
+    }
+
+    int[] children(int node) {
+        return Arrays.copyOfRange(children, childOffsets[node], childOffsets[node + 1]);
+    }
+
+    int printingCount(int node) {
+        return printingOffsets[node + 1] - printingOffsets[node];
+    }
+
+    // Card ordinals printed with this exact name, newest first, up to the limit
+    int[] printings(int node, int limit) {
+        int start = printingOffsets[node];
+        return Arrays.copyOfRange(printings, start, start + Math.min(limit, printingCount(node)));
+    }
+
+    /**
+     * Returns the whole evolution line of the card: up to its basic Pokémon, then down every branch from there
+     * Eevee's line from Vaporeon includes every Eeveelution. Walks visit each node once, so cycles in the data are harmless.
+     */
+    Line line(int ordinal) {
+        int start = nodeByOrdinal[ordinal];
+        BitSet seen = new BitSet(names.length);
+
+        // Up to the basics of the line
+        IntList up = new IntList();
+        IntList roots = new IntList();
+        up.add(start);
+        seen.set(start);
+        for (int i = 0; i < up.size(); i++) {
+            int node = up.get(i);
+            if (parentOffsets[node] == parentOffsets[node + 1]) {
+                roots.add(node);
+            }
+            for (int p = parentOffsets[node]; p < parentOffsets[node + 1]; p++) {
+                if (!seen.get(parents[p])) {
+                    seen.set(parents[p]);
+                    up.add(parents[p]);
+                }
+            }
+        }
+        if (roots.size() == 0) {
+            // Only possible when the data has a cycle, start the line at the card itself
+            roots.add(start);
+        }
+
+        // Breadth first down from the basics, so each Pokémon gets its lowest stage
+        seen.clear();
+        IntList nodes = new IntList();
+        IntList stages = new IntList();
+        for (int i = 0; i < roots.size(); i++) {
+            seen.set(roots.get(i));
+            nodes.add(roots.get(i));
+            stages.add(0);
+        }
+        for (int i = 0; i < nodes.size(); i++) {
+            int node = nodes.get(i);
+            for (int c = childOffsets[node]; c < childOffsets[node + 1]; c++) {
+                if (!seen.get(children[c])) {
+                    seen.set(children[c]);
+                    nodes.add(children[c]);
+                    stages.add(stages.get(i) + 1);
+                }
+            }
+        }
+        return new Line(nodes.toArray(), stages.toArray());
+    }
+
+    private static int intern(String name, Map<String, Integer> ids, List<String> names, List<List<Integer>> printingsByNode) {
+        return ids.computeIfAbsent(String.join(" ", SearchText.terms(name)), key -> {
+            names.add(name);
+            printingsByNode.add(new ArrayList<>());
+            return names.size() - 1;
+        });
+    }
+
+    private static void addEdge(Set<Long> edges, int parent, int child) {
+        if (parent != child) {
+            edges.add((long) parent << 32 | child);
+        }
+    }
+
+    private static int[] offsets(List<List<Integer>> lists) {
+        int[] offsets = new int[lists.size() + 1];
+        for (int i = 0; i < lists.size(); i++) {
+            offsets[i + 1] = offsets[i] + lists.get(i).size();
+        }
+        return offsets;
+    }
+
+    private static int[] flatten(List<List<Integer>> lists, int[] offsets) {
+        int[] values = new int[offsets[lists.size()]];
+        for (int i = 0; i < lists.size(); i++) {
+            List<Integer> list = lists.get(i);
+            for (int j = 0; j < list.size(); j++) {
+                values[offsets[i] + j] = list.get(j);
+            }
+        }
+        return values;
+    }
+
+    private static final class IntList {
+        private int[] values = new int[8];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tlam.backend.evolution;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the evolution line of a card
+ * Pokémon are listed stage by stage, starting with the basic Pokémon of the line
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EvolutionLineDTO {
+    private String cardId;
+    private String name;
+    private List<EvolutionNodeDTO> pokemon;
+}
@@ -0,0 +1,28 @@
+package com.tlam.backend.evolution;
+
+import java.util.List;
+
+import com.tlam.backend.printing.CardPrintingDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one Pokémon of an evolution line
+ * Stage counts evolutions from the basic Pokémon of the line (0 for basics).
+ * Total counts every card printed with this name, printings holds the newest of them up to the requested limit.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EvolutionNodeDTO {
+    private String name;
+    private int stage;
+    private List<String> evolvesFrom;
+    private List<String> evolvesTo;
+    private int total;
+    private List<CardPrintingDTO> printings;
+}
@@ -0,0 +1,92 @@
+package com.tlam.backend.evolution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.printing.CardPrintingService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for evolution lines and the cards printed for each Pokémon in them
+ * The evolution graph is rebuilt with every catalog snapshot, requests never reach the database
+ */
+@Slf4j
+@Service
+public class EvolutionService {
+
+    private final CatalogService catalogService;
+
+    // Graph and the snapshot its ordinals refer to, replaced as a whole on rebuild
+    private record EvolutionState(CatalogSnapshot snapshot, EvolutionGraph graph) {
+    }
+
+    private volatile EvolutionState state = new EvolutionState(CatalogSnapshot.empty(), EvolutionGraph.empty());
+
+    public EvolutionService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        EvolutionGraph graph = EvolutionGraph.build(event.snapshot());
+        state = new EvolutionState(event.snapshot(), graph);
+        log.info("Built evolution graph with {} Pokémon and {} evolutions in {} ms",
+                graph.nodeCount(), graph.edgeCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns the evolution line of the card with up to the given number of printings per Pokémon,
+     * or empty if there is no such card
+     */
+    public Optional<EvolutionLineDTO> lineOf(String cardId, int printingsPerPokemon) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        EvolutionState current = state;
+        if (current.snapshot().getCardView(cardId).isEmpty()) {
+            return Optional.empty();
+        }
+        int ordinal = current.snapshot().getOrdinal(cardId);
+        return Optional.of(toResult(current.snapshot(), current.graph(), ordinal, printingsPerPokemon));
+    }
+
+    static EvolutionLineDTO toResult(CatalogSnapshot snapshot, EvolutionGraph graph, int ordinal, int printingsPerPokemon) {
+        EvolutionGraph.Line line = graph.line(ordinal);
+        List<EvolutionNodeDTO> pokemon = new ArrayList<>(line.nodes().length);
+        for (int i = 0; i < line.nodes().length; i++) {
+            int node = line.nodes()[i];
+            pokemon.add(EvolutionNodeDTO.builder()
+                    .name(graph.name(node))
+                    .stage(line.stages()[i])
+                    .evolvesFrom(names(graph, graph.parents(node)))
+                    .evolvesTo(names(graph, graph.children(node)))
+                    .total(graph.printingCount(node))
+                    .printings(Arrays.stream(graph.printings(node, printingsPerPokemon))
+                            .mapToObj(printing -> CardPrintingService.toPrinting(snapshot, printing))
+                            .toList())
+                    .build());
+        }
+
+        CardView card = snapshot.getCardByOrdinal(ordinal);
+        return EvolutionLineDTO.builder()
+                .cardId(card.id())
+                .name(card.name())
+                .pokemon(pokemon)
+                .build();
+    }
+
+    private static List<String> names(EvolutionGraph graph, int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(graph::name).toList();
+    }
+}
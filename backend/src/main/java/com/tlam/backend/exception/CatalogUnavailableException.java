@@ -0,0 +1,10 @@
+package com.tlam.backend.exception;
+
+/**
+ * Thrown when a catalog request arrives before the first catalog snapshot has been loaded
+ */
+public class CatalogUnavailableException extends RuntimeException {
+    public CatalogUnavailableException() {
+        super("The card catalog is still loading. Please try again shortly");
+    }
+}
@@ -0,0 +1,10 @@
+package com.tlam.backend.exception;
+
+/**
+ * Thrown when a pagination cursor sent by a client cannot be decoded
+ */
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor: " + cursor);
+    }
+}
@@ -0,0 +1,44 @@
+package com.tlam.backend.filter;
+
+import java.util.List;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+
+/**
+ * Card attributes the catalog can be filtered and counted by
+ * Multi-valued attributes (subtypes, energy types) put a card under every one of its values.
+ */
+public enum CardFacet {
+
+    SET("set"),
+    SERIES("series"),
+    RARITY("rarity"),
+    SUPERTYPE("supertype"),
+    SUBTYPE("subtype"),
+    TYPE("type"),
+    REGULATION_MARK("regulationMark");
+
+    // Name of the request parameter and of the facet in responses
+    private final String parameter;
+
+    CardFacet(String parameter) {
+        this.parameter = parameter;
+    }
+
+    public String parameter() {
+        return parameter;
+    }
+
+    List<String> valuesOf(CardView card, CardSetView set) {
+        return switch (this) {
+            case SET -> List.of(card.setId());
+            case SERIES -> set != null && set.series() != null ? List.of(set.series()) : List.of();
+            case RARITY -> card.rarity() != null ? List.of(card.rarity()) : List.of();
+            case SUPERTYPE -> card.supertype() != null ? List.of(card.supertype()) : List.of();
+            case SUBTYPE -> card.subtypes() != null ? card.subtypes() : List.of();
+            case TYPE -> card.types() != null ? card.types() : List.of();
+            case REGULATION_MARK -> card.regulationMark() != null ? List.of(card.regulationMark()) : List.of();
+        };
+    }
+}
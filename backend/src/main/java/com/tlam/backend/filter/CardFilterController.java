@@ -0,0 +1,110 @@
+package com.tlam.backend.filter;
+
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.config.CatalogConfig;
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.exception.InvalidCursorException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for filtering cards by facets
+ * Clients combine facet values and get the matching cards with the counts of every other value
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+@Tag(name = "Cards", description = "Operations related to Pokémon cards")
+public class CardFilterController {
+
+    private final CardFilterService cardFilterService;
+    private final CatalogConfig catalogConfig;
+
+    @Operation(
+        summary = "Filter cards by facets",
+        description = "Returns the cards matching the selected facet values, newest first, with live facet counts. " +
+                     "Values of one facet are alternatives (type=Fire&type=Water), different facets must all match. " +
+                     "Each facet's counts apply the selections of the other facets, so they show what selecting a value would return."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Matching cards and facet counts returned (possibly empty)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CardFilterResultDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Invalid pagination cursor")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<CardFilterResultDTO> filterCards(
+        @Parameter(description = "Set IDs", example = "sv3pt5")
+        @RequestParam(required = false) List<String> set,
+        @Parameter(description = "Series names", example = "Scarlet & Violet")
+        @RequestParam(required = false) List<String> series,
+        @Parameter(description = "Rarities", example = "Illustration Rare")
+        @RequestParam(required = false) List<String> rarity,
+        @Parameter(description = "Supertypes (Pokémon, Trainer, Energy)", example = "Pokémon")
+        @RequestParam(required = false) List<String> supertype,
+        @Parameter(description = "Subtypes, such as stages and mechanics", example = "Stage 2")
+        @RequestParam(required = false) List<String> subtype,
+        @Parameter(description = "Energy types", example = "Fire")
+        @RequestParam(required = false) List<String> type,
+        @Parameter(description = "Regulation marks", example = "G")
+        @RequestParam(required = false) List<String> regulationMark,
+        @Parameter(description = "Cursor returned as nextCursor by the previous page, omit for the first page")
+        @RequestParam(required = false) String cursor,
+        @Parameter(description = "Page size, defaults to the configured page size")
+        @RequestParam(required = false) Integer limit
+    ) {
+        Map<CardFacet, Set<String>> selected = new EnumMap<>(CardFacet.class);
+        select(selected, CardFacet.SET, set);
+        select(selected, CardFacet.SERIES, series);
+        select(selected, CardFacet.RARITY, rarity);
+        select(selected, CardFacet.SUPERTYPE, supertype);
+        select(selected, CardFacet.SUBTYPE, subtype);
+        select(selected, CardFacet.TYPE, type);
+        select(selected, CardFacet.REGULATION_MARK, regulationMark);
+
+        int pageSize = Math.max(1, Math.min(limit != null ? limit : catalogConfig.getDefaultPageSize(), catalogConfig.getMaxPageSize()));
+
+        try {
+            log.info("Filtering cards by {}", selected);
+            CardFilterResultDTO result = cardFilterService.filter(selected, cursor, pageSize);
+            log.info("Filter matched {} cards, returning {}", result.getTotal(), result.getCards().size());
+            return ResponseEntity.ok(result);
+        } catch (CatalogUnavailableException | InvalidCursorException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error filtering cards by {}", selected, e);
+            throw new RuntimeException("Failed to filter cards");
+        }
+    }
+
+    private static void select(Map<CardFacet, Set<String>> selected, CardFacet facet, List<String> values) {
+        if (values != null && !values.isEmpty()) {
+            selected.put(facet, new LinkedHashSet<>(values));
+        }
+    }
+}
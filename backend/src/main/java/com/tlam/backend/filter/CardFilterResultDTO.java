@@ -0,0 +1,27 @@
+package com.tlam.backend.filter;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for filtered cards
+ * Total counts every matching card, cards holds one page of them, newest first.
+ * Facets lists, per facet, how many cards each value would match given the selections in the other facets.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardFilterResultDTO {
+    private int total;
+    private List<CardDTO> cards;
+    private String nextCursor;
+    private Map<String, List<FacetCountDTO>> facets;
+}
@@ -0,0 +1,95 @@
+package com.tlam.backend.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.catalog.Cursors;
+import com.tlam.backend.exception.InvalidCursorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for filtering the catalog by facets with live facet counts
+ * The bitmap index is rebuilt with every catalog snapshot, requests never reach the database
+ */
+@Slf4j
+@Service
+public class CardFilterService {
+
+    private final CatalogService catalogService;
+
+    // Index and the snapshot its ordinals refer to, replaced as a whole on rebuild
+    private record FilterState(CatalogSnapshot snapshot, FacetIndex index) {
+    }
+
+    private volatile FilterState state = new FilterState(CatalogSnapshot.empty(), FacetIndex.empty());
+
+    public CardFilterService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        state = new FilterState(event.snapshot(), FacetIndex.build(event.snapshot()));
+        log.info("Built facet index over {} cards in {} ms",
+                event.snapshot().getCards().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Returns the page of matching cards following the cursor (the first page if the cursor is null), newest first
+     */
+    public CardFilterResultDTO filter(Map<CardFacet, Set<String>> selected, String cursor, int limit) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        FilterState current = state;
+        FacetIndex.Result result = current.index().filter(selected);
+        return page(current.snapshot(), result, cursor, limit);
+    }
+
+    static CardFilterResultDTO page(CatalogSnapshot snapshot, FacetIndex.Result result, String cursor, int limit) {
+        RoaringBitmap matches = result.matches();
+
+        // Newest first is descending ordinal order, the page starts below the ordinal of the cursor's card
+        int remaining = matches.getCardinality();
+        if (cursor != null) {
+            int after = ordinalOf(snapshot, cursor);
+            remaining = after > 0 ? (int) matches.rank(after - 1) : 0;
+        }
+
+        List<CardDTO> cards = new ArrayList<>(Math.min(limit, remaining));
+        String lastCardId = null;
+        while (cards.size() < limit && remaining > 0) {
+            lastCardId = snapshot.getCardByOrdinal(matches.select(--remaining)).id();
+            cards.add(snapshot.getCard(lastCardId).orElseThrow());
+        }
+
+        return CardFilterResultDTO.builder()
+                .total(matches.getCardinality())
+                .cards(cards)
+                .nextCursor(remaining > 0 ? Cursors.encode(lastCardId) : null)
+                .facets(result.facets())
+                .build();
+    }
+
+    private static int ordinalOf(CatalogSnapshot snapshot, String cursor) {
+        String cardId = Cursors.decode(cursor, 1)[0];
+        try {
+            return snapshot.getOrdinal(cardId);
+        } catch (IllegalArgumentException e) {
+            // The card was removed from the catalog since the previous page
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
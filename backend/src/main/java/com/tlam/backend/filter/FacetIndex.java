@@ -0,0 +1,144 @@
+package com.tlam.backend.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+/**
+ * Immutable bitmap index of the catalog's facets
+ * Every facet value has a compressed bitmap of the ordinals of its cards. Cards of a set have consecutive
+ * ordinals, so set and series bitmaps are a few runs each. A filter is an OR of the selected values within
+ * a facet and an AND across facets, and facet counts are AND cardinalities, none of which builds a card list.
+ */
+final class FacetIndex {
+
+    private static final Comparator<FacetCountDTO> BY_COUNT = Comparator
+            .comparingInt(FacetCountDTO::getCount).reversed()
+            .thenComparing(FacetCountDTO::getValue);
+
+    // Matches are read only, they may be shared with the index
+    record Result(RoaringBitmap matches, Map<String, List<FacetCountDTO>> facets) {
+    }
+
+    // Value as stored and the ordinals of the cards having it
+    private record FacetValue(String value, RoaringBitmap cards) {
+    }
+
+    // Facet values keyed by their lowercase form, so selections are case-insensitive
+    private final Map<CardFacet, Map<String, FacetValue>> values;
+    private final RoaringBitmap all;
+
+    private FacetIndex(Map<CardFacet, Map<String, FacetValue>> values, RoaringBitmap all) {
+        this.values = values;
+        this.all = all;
+    }
+
+    static FacetIndex build(CatalogSnapshot snapshot) {
+        Map<CardFacet, Map<String, FacetValue>> values = new EnumMap<>(CardFacet.class);
+        for (CardFacet facet : CardFacet.values()) {
+            values.put(facet, new HashMap<>());
+        }
+
+        // Ordinals are added in increasing order, which appends to the bitmaps' last container
+        List<CardView> cards = snapshot.getCards();
+        for (int ordinal = 0; ordinal < cards.size(); ordinal++) {
+            CardView card = cards.get(ordinal);
+            CardSetView set = snapshot.getSet(card.setId()).orElse(null);
+            for (CardFacet facet : CardFacet.values()) {
+                for (String value : facet.valuesOf(card, set)) {
+                    values.get(facet)
+                            .computeIfAbsent(key(value), key -> new FacetValue(value, new RoaringBitmap()))
+                            .cards().add(ordinal);
+                }
+            }
+        }
+
+        values.values().forEach(facetValues -> facetValues.values().forEach(value -> value.cards().runOptimize()));
+        RoaringBitmap all = RoaringBitmap.bitmapOf();
+        all.add(0L, cards.size());
+        return new FacetIndex(values, all);
+    }
+
+    static FacetIndex empty() {
+        return new FacetIndex(Map.of(), new RoaringBitmap());
+    }
+
+    /**
+     * Cards matching the selection, and for every facet the count of each value given the selections in the other facets
+     * Values selected in a facet are alternatives, selections in different facets must all hold
+     */
+    Result filter(Map<CardFacet, Set<String>> selected) {
+        Map<CardFacet, RoaringBitmap> selections = new EnumMap<>(CardFacet.class);
+        selected.forEach((facet, facetValues) -> {
+            if (!facetValues.isEmpty()) {
+                selections.put(facet, union(facet, facetValues));
+            }
+        });
+        RoaringBitmap matches = intersection(selections, null);
+
+        Map<String, List<FacetCountDTO>> facets = new LinkedHashMap<>();
+        values.forEach((facet, facetValues) -> {
+            // A facet's own selection does not narrow its counts, so its other values stay selectable
+            RoaringBitmap base = selections.containsKey(facet) ? intersection(selections, facet) : matches;
+            Set<String> selectedKeys = keys(selected.getOrDefault(facet, Set.of()));
+
+            List<FacetCountDTO> counts = new ArrayList<>();
+            facetValues.forEach((key, value) -> {
+                int count = RoaringBitmap.andCardinality(base, value.cards());
+                boolean isSelected = selectedKeys.contains(key);
+                if (count > 0 || isSelected) {
+                    counts.add(new FacetCountDTO(value.value(), count, isSelected));
+                }
+            });
+            counts.sort(BY_COUNT);
+            facets.put(facet.parameter(), counts);
+        });
+        return new Result(matches, facets);
+    }
+
+    private RoaringBitmap union(CardFacet facet, Set<String> facetValues) {
+        Map<String, FacetValue> known = values.getOrDefault(facet, Map.of());
+        RoaringBitmap union = new RoaringBitmap();
+        for (String value : facetValues) {
+            FacetValue facetValue = known.get(key(value));
+            if (facetValue != null) {
+                union.or(facetValue.cards());
+            }
+        }
+        return union;
+    }
+
+    // Intersection of every selection except the one of the excluded facet, every card when nothing is left
+    // The result may be one of the index's own bitmaps, callers only read it
+    private RoaringBitmap intersection(Map<CardFacet, RoaringBitmap> selections, CardFacet excluded) {
+        RoaringBitmap intersection = null;
+        for (Map.Entry<CardFacet, RoaringBitmap> selection : selections.entrySet()) {
+            if (selection.getKey() == excluded) {
+                continue;
+            }
+            intersection = intersection == null ? selection.getValue() : RoaringBitmap.and(intersection, selection.getValue());
+        }
+        return intersection != null ? intersection : all;
+    }
+
+    private static Set<String> keys(Set<String> facetValues) {
+        return facetValues.stream().map(FacetIndex::key).collect(Collectors.toSet());
+    }
+
+    private static String key(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
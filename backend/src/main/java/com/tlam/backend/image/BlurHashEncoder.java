@@ -0,0 +1,186 @@
+package com.tlam.backend.image;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Encodes images into BlurHash strings (https://blurha.sh)
+ * A BlurHash is a ~30 character string clients can decode into a blurred preview,
+ * so grids can render something immediately while the real image is still loading
+ */
+@Slf4j
+public final class BlurHashEncoder {
+
+    private static final String CHARACTERS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+
+    // Images are shrunk to this width before encoding, the hash only keeps a handful of frequencies anyway
+    private static final int SAMPLE_WIDTH = 32;
+
+    private BlurHashEncoder() {
+    }
+
+    /**
+     * Decodes the given image bytes and encodes them as a BlurHash
+     * Returns null if the bytes are not a readable image
+     */
+    public static String encode(byte[] imageData) {
+        if (imageData == null || imageData.length == 0) {
+            return null;
+        }
+
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+            if (image == null) {
+                log.debug("Unsupported image format, skipping placeholder");
+                return null;
+            }
+
+            // Portrait images (cards) get more vertical components, landscape images (logos) more horizontal ones
+            boolean landscape = image.getWidth() >= image.getHeight();
+            return encode(downscale(image), landscape ? 4 : 3, landscape ? 3 : 4);
+        } catch (IOException e) {
+            log.debug("Failed to decode image for placeholder: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Encodes an image as a BlurHash with the given number of components (1-9 on each axis)
+     */
+    public static String encode(BufferedImage image, int componentsX, int componentsY) {
+        if (componentsX < 1 || componentsX > 9 || componentsY < 1 || componentsY > 9) {
+            throw new IllegalArgumentException("BlurHash components must be between 1 and 9");
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int[] pixels = image.getRGB(0, 0, width, height, null, 0, width);
+
+        // Convert every pixel to linear RGB once instead of once per component
+        double[] linear = new double[pixels.length * 3];
+        for (int i = 0; i < pixels.length; i++) {
+            linear[i * 3] = srgbToLinear((pixels[i] >> 16) & 0xFF);
+            linear[i * 3 + 1] = srgbToLinear((pixels[i] >> 8) & 0xFF);
+            linear[i * 3 + 2] = srgbToLinear(pixels[i] & 0xFF);
+        }
+
+        double[][] factors = new double[componentsX * componentsY][];
+        for (int j = 0; j < componentsY; j++) {
+            for (int i = 0; i < componentsX; i++) {
+                factors[j * componentsX + i] = basisFactor(linear, width, height, i, j);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        encodeBase83((componentsX - 1) + (componentsY - 1) * 9, 1, hash);
+
+        double maximumValue;
+        if (factors.length > 1) {
+            double actualMaximum = 0;
+            for (int i = 1; i < factors.length; i++) {
+                for (double component : factors[i]) {
+                    actualMaximum = Math.max(actualMaximum, Math.abs(component));
+                }
+            }
+            int quantisedMaximum = (int) Math.max(0, Math.min(82, Math.floor(actualMaximum * 166 - 0.5)));
+            maximumValue = (quantisedMaximum + 1) / 166.0;
+            encodeBase83(quantisedMaximum, 1, hash);
+        } else {
+            maximumValue = 1;
+            encodeBase83(0, 1, hash);
+        }
+
+        encodeBase83(encodeDC(factors[0]), 4, hash);
+        for (int i = 1; i < factors.length; i++) {
+            encodeBase83(encodeAC(factors[i], maximumValue), 2, hash);
+        }
+
+        return hash.toString();
+    }
+
+    /**
+     * Shrinks the image and flattens transparency onto white so logos don't turn black
+     */
+    private static BufferedImage downscale(BufferedImage source) {
+        int width = Math.min(SAMPLE_WIDTH, source.getWidth());
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return scaled;
+    }
+
+    private static double[] basisFactor(double[] linear, int width, int height, int componentX, int componentY) {
+        double r = 0;
+        double g = 0;
+        double b = 0;
+        double normalisation = (componentX == 0 && componentY == 0) ? 1 : 2;
+
+        for (int y = 0; y < height; y++) {
+            double basisY = Math.cos(Math.PI * componentY * y / height);
+            for (int x = 0; x < width; x++) {
+                double basis = basisY * Math.cos(Math.PI * componentX * x / width);
+                int offset = (y * width + x) * 3;
+                r += basis * linear[offset];
+                g += basis * linear[offset + 1];
+                b += basis * linear[offset + 2];
+            }
+        }
+
+        double scale = normalisation / (width * height);
+        return new double[] { r * scale, g * scale, b * scale };
+    }
+
+    private static int encodeDC(double[] value) {
+        return (linearToSrgb(value[0]) << 16) + (linearToSrgb(value[1]) << 8) + linearToSrgb(value[2]);
+    }
+
+    private static int encodeAC(double[] value, double maximumValue) {
+        int quantR = quantiseAC(value[0] / maximumValue);
+        int quantG = quantiseAC(value[1] / maximumValue);
+        int quantB = quantiseAC(value[2] / maximumValue);
+        return quantR * 19 * 19 + quantG * 19 + quantB;
+    }
+
+    private static int quantiseAC(double value) {
+        double signedRoot = Math.copySign(Math.sqrt(Math.abs(value)), value);
+        return (int) Math.max(0, Math.min(18, Math.floor(signedRoot * 9 + 9.5)));
+    }
+
+    private static double srgbToLinear(int value) {
+        double v = value / 255.0;
+        return v <= 0.04045 ? v / 12.92 : Math.pow((v + 0.055) / 1.055, 2.4);
+    }
+
+    private static int linearToSrgb(double value) {
+        double v = Math.max(0, Math.min(1, value));
+        if (v <= 0.0031308) {
+            return (int) (v * 12.92 * 255 + 0.5);
+        }
+        return (int) ((1.055 * Math.pow(v, 1 / 2.4) - 0.055) * 255 + 0.5);
+    }
+
+    private static void encodeBase83(int value, int length, StringBuilder destination) {
+        for (int i = 1; i <= length; i++) {
+            int digit = (value / (int) Math.pow(83, length - i)) % 83;
+            destination.append(CHARACTERS.charAt(digit));
+        }
+    }
+}
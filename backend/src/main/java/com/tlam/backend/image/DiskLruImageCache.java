@@ -0,0 +1,273 @@
+package com.tlam.backend.image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Size bounded, disk backed LRU cache for image bytes
+ * Image bytes live on disk, only a small index entry per image is kept in memory
+ *
+ * Files are named {sha256(key)}.{contentHash} so the index can be rebuilt from the
+ * directory after a restart, and the content hash doubles as a strong ETag
+ *
+ * Evicted and replaced files are not deleted while a lease pins them, nor before a short grace period,
+ * so a response that looked up an image never finds its file gone (sendfile opens it after the handler returns)
+ */
+@Slf4j
+public class DiskLruImageCache {
+
+    public record CachedImage(String key, Path file, long size, String etag) {
+    }
+
+    /**
+     * Keeps the file of a cached image on disk until closed, even if the image is evicted meanwhile
+     */
+    public final class Lease implements AutoCloseable {
+        private final CachedImage image;
+        private boolean closed;
+
+        private Lease(CachedImage image) {
+            this.image = image;
+        }
+
+        public CachedImage image() {
+            return image;
+        }
+
+        @Override
+        public void close() {
+            synchronized (DiskLruImageCache.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                pins.computeIfPresent(image.file(), (file, count) -> count > 1 ? count - 1 : null);
+            }
+            deleteRetired();
+        }
+    }
+
+    // Files evicted or replaced less than this long ago are kept, for responses that are about to open them
+    private static final Duration RETIRE_GRACE = Duration.ofSeconds(30);
+
+    private final Path directory;
+    private final long maxBytes;
+    private final long retireGraceNanos;
+
+    // Access ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedImage> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long currentBytes;
+
+    // Leases per file, and files no longer indexed that wait for their leases and grace period to end
+    private final Map<Path, Integer> pins = new HashMap<>();
+    private final Map<Path, Long> retired = new LinkedHashMap<>();
+
+    public DiskLruImageCache(Path directory, long maxBytes) {
+        this(directory, maxBytes, RETIRE_GRACE);
+    }
+
+    DiskLruImageCache(Path directory, long maxBytes, Duration retireGrace) {
+        this.directory = directory.toAbsolutePath().normalize();
+        this.maxBytes = maxBytes;
+        this.retireGraceNanos = retireGrace.toNanos();
+
+        try {
+            Files.createDirectories(this.directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create image cache directory: " + this.directory, e);
+        }
+
+        rebuildIndex();
+    }
+
+    /**
+     * Returns the cached image for the key and marks it as recently used
+     */
+    public synchronized Optional<CachedImage> get(String key) {
+        return Optional.ofNullable(index.get(hash(key)));
+    }
+
+    /**
+     * Returns a lease on the cached image for the key and marks it as recently used
+     * The file stays on disk until the lease is closed.
+     */
+    public synchronized Optional<Lease> acquire(String key) {
+        CachedImage image = index.get(hash(key));
+        if (image == null) {
+            return Optional.empty();
+        }
+        pins.merge(image.file(), 1, Integer::sum);
+        return Optional.of(new Lease(image));
+    }
+
+    /**
+     * Stores image bytes for the key, evicting least recently used images when over capacity
+     */
+    public CachedImage put(String key, byte[] data) throws IOException {
+        String keyHash = hash(key);
+        String contentHash = HexFormat.of().formatHex(sha256(data), 0, 16);
+        Path target = directory.resolve(keyHash + "." + contentHash);
+
+        // A retired copy of the same content must not be deleted once the new file is moved over it
+        synchronized (this) {
+            retired.remove(target);
+        }
+
+        // Write outside the lock, readers only see the file once it is renamed into place
+        Path temporary = Files.createTempFile(directory, keyHash, ".tmp");
+        Files.write(temporary, data);
+        Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        CachedImage cachedImage = new CachedImage(key, target, data.length, "\"" + contentHash + "\"");
+        synchronized (this) {
+            CachedImage previous = index.put(keyHash, cachedImage);
+            if (previous != null) {
+                currentBytes -= previous.size();
+                if (!previous.file().equals(target)) {
+                    retire(previous.file());
+                }
+            }
+            currentBytes += cachedImage.size();
+            evictOverCapacity(keyHash).forEach(image -> retire(image.file()));
+        }
+
+        deleteRetired();
+        return cachedImage;
+    }
+
+    public synchronized long size() {
+        return currentBytes;
+    }
+
+    public synchronized int count() {
+        return index.size();
+    }
+
+    private void retire(Path file) {
+        retired.put(file, System.nanoTime());
+    }
+
+    /**
+     * Deletes the retired files that are past their grace period and no longer leased
+     * Deletes under the lock, so a put of the same content can't move a live file in between.
+     */
+    private synchronized void deleteRetired() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Long>> iterator = retired.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Long> entry = iterator.next();
+            if (now - entry.getValue() >= retireGraceNanos && !pins.containsKey(entry.getKey())) {
+                iterator.remove();
+                deleteQuietly(entry.getKey());
+            }
+        }
+    }
+
+    private List<CachedImage> evictOverCapacity(String protectedKeyHash) {
+        List<CachedImage> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, CachedImage>> iterator = index.entrySet().iterator();
+
+        while (currentBytes > maxBytes && iterator.hasNext()) {
+            Map.Entry<String, CachedImage> eldest = iterator.next();
+            if (eldest.getKey().equals(protectedKeyHash)) {
+                continue;
+            }
+            iterator.remove();
+            currentBytes -= eldest.getValue().size();
+            evicted.add(eldest.getValue());
+        }
+
+        if (!evicted.isEmpty()) {
+            log.debug("Evicted {} images from cache, {} bytes in use", evicted.size(), currentBytes);
+        }
+        return evicted;
+    }
+
+    /**
+     * Rebuilds the in-memory index from the files on disk, oldest modification first
+     */
+    private void rebuildIndex() {
+        try (Stream<Path> files = Files.list(directory)) {
+            files.filter(file -> !file.getFileName().toString().endsWith(".tmp"))
+                    .sorted(Comparator.comparing(DiskLruImageCache::lastModified))
+                    .forEach(this::indexExistingFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read image cache directory: " + directory, e);
+        }
+
+        List<CachedImage> evicted = evictOverCapacity(null);
+        evicted.forEach(image -> deleteQuietly(image.file()));
+        log.info("Image cache initialized with {} images ({} bytes) in {}", index.size(), currentBytes, directory);
+    }
+
+    private void indexExistingFile(Path file) {
+        String fileName = file.getFileName().toString();
+        int separator = fileName.indexOf('.');
+        if (separator < 0) {
+            return;
+        }
+
+        try {
+            String keyHash = fileName.substring(0, separator);
+            String contentHash = fileName.substring(separator + 1);
+            long size = Files.size(file);
+            // The original key is not needed to serve the file, so the hash stands in for it
+            CachedImage previous = index.put(keyHash, new CachedImage(keyHash, file, size, "\"" + contentHash + "\""));
+            currentBytes += size;
+            if (previous != null) {
+                // An older version left behind before a restart, files are indexed oldest first
+                currentBytes -= previous.size();
+                deleteQuietly(previous.file());
+            }
+        } catch (IOException e) {
+            log.warn("Skipping unreadable cache file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached image {}: {}", file, e.getMessage());
+        }
+    }
+
+    private static String hash(String key) {
+        return HexFormat.of().formatHex(sha256(key.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] sha256(byte[] data) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(data);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
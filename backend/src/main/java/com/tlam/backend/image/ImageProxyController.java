@@ -0,0 +1,95 @@
+package com.tlam.backend.image;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.image.DiskLruImageCache.CachedImage;
+import com.tlam.backend.image.DiskLruImageCache.Lease;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for the caching image proxy
+ * Used when images could not be mirrored to the image store during seeding,
+ * so clients never have to hit the third-party origin directly
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/image-proxy")
+@RequiredArgsConstructor
+@Tag(name = "Images", description = "Serving card and set images")
+public class ImageProxyController {
+
+    // Origin images never change for a given path
+    private static final CacheControl PROXY_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(7)).cachePublic();
+
+    private final ImageProxyService imageProxyService;
+    private final ZeroCopyFileResponder fileResponder;
+
+    @Operation(
+        summary = "Get an image through the caching proxy",
+        description = "Serves an origin image from the disk cache, fetching it on the first request. " +
+                     "Supports ETag revalidation and Range requests."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Image returned"),
+        @ApiResponse(responseCode = "304", description = "Image not modified"),
+        @ApiResponse(responseCode = "400", description = "Invalid image path"),
+        @ApiResponse(responseCode = "404", description = "Image not found at the origin (remembered for a few minutes)"),
+        @ApiResponse(responseCode = "502", description = "Origin could not be reached")
+    })
+    @GetMapping("/{directory}/{fileName}")
+    public void getImage(
+        @Parameter(description = "Origin directory, usually the set ID", example = "sv1", required = true)
+        @PathVariable String directory,
+        @Parameter(description = "Origin file name", example = "1_hires.png", required = true)
+        @PathVariable String fileName,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        String path = directory + "/" + fileName;
+        if (!imageProxyService.isValidPath(path)) {
+            log.warn("Rejected proxy request for invalid path: {}", path);
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        Optional<Lease> image;
+        try {
+            image = imageProxyService.getImage(path);
+        } catch (RuntimeException e) {
+            log.error("Failed to fetch image {} from origin: {}", path, e.getMessage());
+            response.setStatus(HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+
+        if (image.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        // The lease keeps the file on disk while it is written, even if a concurrent miss evicts it
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        try (Lease lease = image.get()) {
+            CachedImage cached = lease.image();
+            fileResponder.serve(cached.file(), cached.etag(), contentType, PROXY_CACHE_CONTROL, request, response);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.tlam.backend.image;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.tlam.backend.config.ImageProxyConfig;
+import com.tlam.backend.config.ImageStoreConfig;
+import com.tlam.backend.image.DiskLruImageCache.CachedImage;
+import com.tlam.backend.image.DiskLruImageCache.Lease;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Caching proxy in front of the remote image origin (images.pokemontcg.io)
+ * Images are fetched on first request and kept in a disk backed LRU cache
+ * Concurrent misses for the same image share a single origin fetch
+ * Images the origin does not have are remembered for a short time, so repeated requests don't reach it
+ */
+@Slf4j
+@Service
+public class ImageProxyService {
+
+    // Origin paths look like "sv1/1_hires.png" or "base1/logo.png"
+    private static final Pattern VALID_PATH = Pattern.compile("[A-Za-z0-9_\\-]+/[A-Za-z0-9_\\-.]+");
+
+    public static final String PROXY_PATH = "/api/image-proxy/";
+
+    // Upper bound on remembered missing images, arbitrary paths must not grow the map without limit
+    private static final int MAX_NOT_FOUND_ENTRIES = 10_000;
+
+    private final ImageProxyConfig imageProxyConfig;
+    private final ImageStoreConfig imageStoreConfig;
+    private final DiskLruImageCache cache;
+    private final RestTemplate restTemplate;
+
+    // Origin fetches in progress, keyed by image path
+    private final ConcurrentMap<String, CompletableFuture<CachedImage>> inFlight = new ConcurrentHashMap<>();
+
+    // Paths the origin answered with 404, with the System.nanoTime() they expire at
+    private final ConcurrentMap<String, Long> notFound = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ImageProxyService(ImageProxyConfig imageProxyConfig, ImageStoreConfig imageStoreConfig) {
+        this(imageProxyConfig, imageStoreConfig, new RestTemplate(requestFactory(imageProxyConfig)));
+    }
+
+    ImageProxyService(ImageProxyConfig imageProxyConfig, ImageStoreConfig imageStoreConfig, RestTemplate restTemplate) {
+        this.imageProxyConfig = imageProxyConfig;
+        this.imageStoreConfig = imageStoreConfig;
+        this.cache = new DiskLruImageCache(
+                Path.of(imageProxyConfig.getCacheDirectory()),
+                imageProxyConfig.getMaxCacheSize().toBytes());
+        this.restTemplate = restTemplate;
+    }
+
+    private static SimpleClientHttpRequestFactory requestFactory(ImageProxyConfig imageProxyConfig) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(imageProxyConfig.getConnectTimeout());
+        requestFactory.setReadTimeout(imageProxyConfig.getReadTimeout());
+        return requestFactory;
+    }
+
+    /**
+     * Returns a lease on the cached image for the origin path, fetching it from the origin on a miss
+     * The caller closes the lease once the file is served. Returns empty if the origin does not have the image.
+     */
+    public Optional<Lease> getImage(String path) {
+        if (!isValidPath(path)) {
+            throw new IllegalArgumentException("Invalid image path: " + path);
+        }
+
+        // A tiny cache can evict the image again before it is leased, so a fetch is retried once
+        for (int attempt = 0; attempt < 2; attempt++) {
+            Optional<Lease> lease = cache.acquire(path);
+            if (lease.isPresent()) {
+                return lease;
+            }
+            if (isKnownMissing(path) || fetch(path) == null) {
+                return Optional.empty();
+            }
+        }
+        throw new RuntimeException("Image was evicted from the cache before it could be served: " + path);
+    }
+
+    // Single flight fetch of the image into the cache, null if the origin does not have it
+    private CachedImage fetch(String path) {
+        CompletableFuture<CachedImage> fetch = new CompletableFuture<>();
+        CompletableFuture<CachedImage> existing = inFlight.putIfAbsent(path, fetch);
+        if (existing != null) {
+            // Another request is already fetching this image, wait for its result
+            log.debug("Coalescing origin fetch for image: {}", path);
+            return awaitFetch(existing);
+        }
+
+        try {
+            // The previous leader may have finished between the cache check and registering this fetch
+            CachedImage image = cache.get(path).orElseGet(() -> fetchFromOrigin(path));
+            fetch.complete(image);
+            return image;
+        } catch (RuntimeException e) {
+            fetch.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(path, fetch);
+        }
+    }
+
+    /**
+     * Rewrites an origin image URL to the matching proxy URL
+     * URLs from other hosts are returned unchanged
+     */
+    public String toProxyUrl(String imageUrl) {
+        if (imageUrl == null) {
+            return null;
+        }
+
+        String originPrefix = imageProxyConfig.getOriginBaseUrl() + "/";
+        if (!imageUrl.startsWith(originPrefix)) {
+            return imageUrl;
+        }
+
+        String path = imageUrl.substring(originPrefix.length());
+        return isValidPath(path) ? imageStoreConfig.getPublicBaseUrl() + PROXY_PATH + path : imageUrl;
+    }
+
+    public boolean isValidPath(String path) {
+        return path != null && VALID_PATH.matcher(path).matches() && !path.contains("..");
+    }
+
+    private CachedImage fetchFromOrigin(String path) {
+        String url = imageProxyConfig.getOriginBaseUrl() + "/" + path;
+        log.info("Image cache miss, fetching from origin: {}", url);
+
+        try {
+            byte[] imageData = restTemplate.getForObject(url, byte[].class);
+            if (imageData == null || imageData.length == 0) {
+                throw new RuntimeException("Origin returned an empty image: " + url);
+            }
+            return cache.put(path, imageData);
+
+        } catch (HttpClientErrorException.NotFound e) {
+            log.warn("Image not found at origin: {}", url);
+            rememberMissing(path);
+            return null;
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to cache image: " + path, e);
+        }
+    }
+
+    private boolean isKnownMissing(String path) {
+        Long expiresAt = notFound.get(path);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt >= 0) {
+            notFound.remove(path, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void rememberMissing(String path) {
+        long now = System.nanoTime();
+        if (notFound.size() >= MAX_NOT_FOUND_ENTRIES) {
+            notFound.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (notFound.size() >= MAX_NOT_FOUND_ENTRIES) {
+                notFound.clear();
+            }
+        }
+        notFound.put(path, now + imageProxyConfig.getNotFoundTtl().toNanos());
+    }
+
+    private CachedImage awaitFetch(CompletableFuture<CachedImage> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.tlam.backend.image;
+
+/**
+ * Storage backend for mirrored card and set images
+ * The active implementation is selected with the image-store.type property (s3 or local)
+ */
+public interface ImageStore {
+
+    // Stores an image in the default cards folder and returns its public URL
+    default String uploadImage(byte[] imageData, String fileName, String contentType) {
+        return uploadImage(imageData, fileName, contentType, "cards");
+    }
+
+    // Stores an image in the given folder and returns its public URL
+    String uploadImage(byte[] imageData, String fileName, String contentType, String folder);
+
+    // Deletes the image stored under the given key (folder/fileName)
+    void deleteImage(String key);
+
+    // Checks if an image is stored under the given key (folder/fileName)
+    boolean imageExists(String key);
+}
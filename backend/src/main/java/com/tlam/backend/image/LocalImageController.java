@@ -0,0 +1,82 @@
+package com.tlam.backend.image;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller serving images written by the LocalImageStore
+ * Only registered when image-store.type is local, S3 deployments serve images from S3/CloudFront
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "image-store", name = "type", havingValue = "local")
+@Tag(name = "Images", description = "Serving card and set images")
+public class LocalImageController {
+
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final LocalImageStore localImageStore;
+    private final ZeroCopyFileResponder fileResponder;
+
+    @Operation(
+        summary = "Get a stored image",
+        description = "Serves an image from the local image store. Supports Range requests and ETag revalidation."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Image returned"),
+        @ApiResponse(responseCode = "206", description = "Requested byte range returned"),
+        @ApiResponse(responseCode = "304", description = "Image not modified"),
+        @ApiResponse(responseCode = "404", description = "Image not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable")
+    })
+    @GetMapping("/{folder}/{fileName}")
+    public void getImage(
+        @Parameter(description = "Folder the image is stored in", example = "cards", required = true)
+        @PathVariable String folder,
+        @Parameter(description = "File name of the image", example = "sv1-1_small.png", required = true)
+        @PathVariable String fileName,
+        HttpServletRequest request,
+        HttpServletResponse response
+    ) throws IOException {
+        Path file;
+        try {
+            file = localImageStore.resolve(folder + "/" + fileName);
+        } catch (IllegalArgumentException e) {
+            log.warn("Rejected image request for invalid key: {}/{}", folder, fileName);
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        if (!Files.isRegularFile(file)) {
+            log.debug("Image not found: {}/{}", folder, fileName);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        fileResponder.serve(file, contentType, IMAGE_CACHE_CONTROL, request, response);
+    }
+}
@@ -0,0 +1,98 @@
+package com.tlam.backend.image;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.config.ImageStoreConfig;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Image store backed by the local filesystem
+ * Used for local and on-prem deployments, images are served by LocalImageController
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "image-store", name = "type", havingValue = "local")
+public class LocalImageStore implements ImageStore {
+    private final Path rootDirectory;
+    private final ImageStoreConfig imageStoreConfig;
+
+    public LocalImageStore(ImageStoreConfig imageStoreConfig) {
+        this.imageStoreConfig = imageStoreConfig;
+        this.rootDirectory = Path.of(imageStoreConfig.getLocalDirectory()).toAbsolutePath().normalize();
+
+        try {
+            Files.createDirectories(rootDirectory);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to create image directory: " + rootDirectory, e);
+        }
+
+        log.info("LocalImageStore initialized with directory: {}", rootDirectory);
+    }
+
+    // Writes an image to disk and returns the URL it is served from
+    @Override
+    public String uploadImage(byte[] imageData, String fileName, String contentType, String folder) {
+        String key = folder + "/" + fileName;
+
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+
+            // Write to a temporary file first so readers never see a partially written image
+            Path temporary = Files.createTempFile(target.getParent(), fileName, ".tmp");
+            Files.write(temporary, imageData);
+            Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("Successfully stored image: {}", key);
+            return generateImageUrl(key);
+
+        } catch (Exception e) {
+            log.error("Failed to store image: {}", fileName, e);
+            throw new RuntimeException("Failed to store image", e);
+        }
+    }
+
+    // Generates the URL LocalImageController serves the image from
+    public String generateImageUrl(String key) {
+        return imageStoreConfig.getPublicBaseUrl() + "/api/images/" + key;
+    }
+
+    @Override
+    public void deleteImage(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+            log.info("Successfully deleted image: {}", key);
+
+        } catch (Exception e) {
+            log.error("Failed to delete image: {}", key, e);
+            throw new RuntimeException("Failed to delete image", e);
+        }
+    }
+
+    @Override
+    public boolean imageExists(String key) {
+        try {
+            return Files.isRegularFile(resolve(key));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Resolves a key to a path inside the root directory, rejecting keys that escape it
+     */
+    public Path resolve(String key) {
+        Path path = rootDirectory.resolve(key).normalize();
+        if (!path.startsWith(rootDirectory)) {
+            throw new IllegalArgumentException("Invalid image key: " + key);
+        }
+        return path;
+    }
+}
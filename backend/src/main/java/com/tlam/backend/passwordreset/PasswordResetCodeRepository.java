@@ -14,6 +14,7 @@ public interface PasswordResetCodeRepository extends JpaRepository<PasswordReset
 
     @Modifying
     @Transactional
-    @Query("UPDATE PasswordResetCode p SET p.isUsed = true WHERE p.email = :email")
+    // Codes that are already used are skipped so the update can use the partial index on unused codes
+    @Query("UPDATE PasswordResetCode p SET p.isUsed = true WHERE p.email = :email AND p.isUsed = false")
     void markAllCodesAsUsedForEmail(@Param("email") String email);
 }
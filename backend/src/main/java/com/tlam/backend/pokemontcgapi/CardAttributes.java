@@ -0,0 +1,82 @@
+package com.tlam.backend.pokemontcgapi;
+
+import java.util.Objects;
+
+import com.tlam.backend.card.Card;
+import com.tlam.backend.cardset.CardSet;
+
+/**
+ * Updates a card or set that is already in the database from the same one seeded again, by the JSON seeder or the API
+ */
+final class CardAttributes {
+
+    private CardAttributes() {
+    }
+
+    /**
+     * Copies attributes that were added to the schema after a card was first seeded, and the current legalities
+     * Returns true if the existing card changed
+     */
+    static boolean fillMissing(Card existing, Card seeded) {
+        boolean changed = false;
+        if (existing.getArtistId() == null && seeded.getArtistId() != null) {
+            existing.setArtistId(seeded.getArtistId());
+            changed = true;
+        }
+        if (existing.getImagePlaceholder() == null && seeded.getImagePlaceholder() != null) {
+            existing.setImagePlaceholder(seeded.getImagePlaceholder());
+            changed = true;
+        }
+        if (existing.getSupertype() == null && seeded.getSupertype() != null) {
+            existing.setSupertype(seeded.getSupertype());
+            changed = true;
+        }
+        if (existing.getSubtypes() == null && seeded.getSubtypes() != null) {
+            existing.setSubtypes(seeded.getSubtypes());
+            changed = true;
+        }
+        if (existing.getTypes() == null && seeded.getTypes() != null) {
+            existing.setTypes(seeded.getTypes());
+            changed = true;
+        }
+        if (existing.getRegulationMark() == null && seeded.getRegulationMark() != null) {
+            existing.setRegulationMark(seeded.getRegulationMark());
+            changed = true;
+        }
+        if (existing.getNationalPokedexNumbers() == null && seeded.getNationalPokedexNumbers() != null) {
+            existing.setNationalPokedexNumbers(seeded.getNationalPokedexNumbers());
+            changed = true;
+        }
+        if (existing.getEvolvesFrom() == null && seeded.getEvolvesFrom() != null) {
+            existing.setEvolvesFrom(seeded.getEvolvesFrom());
+            changed = true;
+        }
+        if (existing.getEvolvesTo() == null && seeded.getEvolvesTo() != null) {
+            existing.setEvolvesTo(seeded.getEvolvesTo());
+            changed = true;
+        }
+        // Legalities change with every rotation, so they always follow the seeded data
+        if (!Objects.equals(existing.getStandardLegality(), seeded.getStandardLegality())
+                || !Objects.equals(existing.getExpandedLegality(), seeded.getExpandedLegality())
+                || !Objects.equals(existing.getUnlimitedLegality(), seeded.getUnlimitedLegality())) {
+            existing.setStandardLegality(seeded.getStandardLegality());
+            existing.setExpandedLegality(seeded.getExpandedLegality());
+            existing.setUnlimitedLegality(seeded.getUnlimitedLegality());
+            changed = true;
+        }
+        return changed;
+    }
+
+    /**
+     * Copies attributes that were added to the schema after a set was first seeded
+     * Returns true if the existing set changed
+     */
+    static boolean fillMissing(CardSet existing, CardSet seeded) {
+        boolean changed = false;
+        if (existing.getLogoPlaceholder() == null && seeded.getLogoPlaceholder() != null) {
+            existing.setLogoPlaceholder(seeded.getLogoPlaceholder());
+            changed = true;
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,66 @@
+package com.tlam.backend.pokemontcgapi;
+
+import java.util.List;
+import java.util.function.Function;
+
+import com.tlam.backend.card.Card;
+import com.tlam.backend.card.CardDetailDTO;
+
+/**
+ * Maps a card from the Pokémon TCG data to the details kept in the card detail store
+ * The card text comes from the source, the set and (possibly mirrored) images from the seeded card
+ */
+final class CardDetails {
+
+    private CardDetails() {
+    }
+
+    static CardDetailDTO of(PokemonTCGCardDTO source, Card card) {
+        PokemonTCGAncientTrait ancientTrait = source.getAncientTrait();
+        PokemonTCGLegalities legalities = source.getLegalities();
+
+        return CardDetailDTO.builder()
+                .id(card.getId())
+                .name(card.getName())
+                .setId(card.getSetId())
+                .number(card.getNumber())
+                .rarity(card.getRarity())
+                .artist(source.getArtist())
+                .supertype(source.getSupertype())
+                .subtypes(source.getSubtypes())
+                .level(source.getLevel())
+                .hp(source.getHp())
+                .types(source.getTypes())
+                .evolvesFrom(source.getEvolvesFrom())
+                .evolvesTo(source.getEvolvesTo())
+                .rules(source.getRules())
+                .ancientTrait(ancientTrait != null
+                        ? new CardDetailDTO.AncientTrait(ancientTrait.getName(), ancientTrait.getText())
+                        : null)
+                .abilities(map(source.getAbilities(), ability ->
+                        new CardDetailDTO.Ability(ability.getName(), ability.getText(), ability.getType())))
+                .attacks(map(source.getAttacks(), attack ->
+                        new CardDetailDTO.Attack(attack.getCost(), attack.getName(), attack.getText(),
+                                attack.getDamage(), attack.getConvertedEnergyCost())))
+                .weaknesses(map(source.getWeaknesses(), weakness ->
+                        new CardDetailDTO.TypeModifier(weakness.getType(), weakness.getValue())))
+                .resistances(map(source.getResistances(), resistance ->
+                        new CardDetailDTO.TypeModifier(resistance.getType(), resistance.getValue())))
+                .retreatCost(source.getRetreatCost())
+                .convertedRetreatCost(source.getConvertedRetreatCost())
+                .flavorText(source.getFlavorText())
+                .nationalPokedexNumbers(source.getNationalPokedexNumbers())
+                .legalities(legalities != null
+                        ? new CardDetailDTO.Legalities(legalities.getStandard(), legalities.getExpanded(), legalities.getUnlimited())
+                        : null)
+                .regulationMark(source.getRegulationMark())
+                .smallImageUrl(card.getSmallImageUrl())
+                .largeImageUrl(card.getLargeImageUrl())
+                .imagePlaceholder(card.getImagePlaceholder())
+                .build();
+    }
+
+    private static <S, T> List<T> map(List<S> values, Function<S, T> mapper) {
+        return values != null ? values.stream().map(mapper).toList() : null;
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.tlam.backend.auth.SuccessResponse;
+import com.tlam.backend.catalog.CatalogService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -31,6 +32,7 @@ public class DataSeedingController {
 
     private final PokemonTCGService pokemonTCGService;
     private final JsonFileSeederService jsonFileSeederService;
+    private final CatalogService catalogService;
 
     // ================= API-Based Seeding =================
 
@@ -60,6 +62,7 @@ public class DataSeedingController {
             
             // This operation may take several minutes
             pokemonTCGService.fetchAndSaveAllSets();
+            catalogService.reload();
             
             SuccessResponse response = new SuccessResponse(
                 "Card sets have been successfully seeded from the Pokémon TCG API"
@@ -100,6 +103,7 @@ public class DataSeedingController {
 
             // This operation may take several minutes
             pokemonTCGService.fetchAndSaveAllCards();
+            catalogService.reload();
 
             SuccessResponse response = new SuccessResponse(
                 "Cards have been successfully seeded from the Pokémon TCG API"
@@ -143,6 +147,7 @@ public class DataSeedingController {
             
             // This operation may take several minutes depending on file size
             jsonFileSeederService.seedFromJsonFiles();
+            catalogService.reload();
             
             SuccessResponse response = new SuccessResponse(
                 "All data (sets and cards) have been successfully seeded from local JSON files"
@@ -182,6 +187,7 @@ public class DataSeedingController {
             log.info("Starting card sets seeding from JSON files");
             
             jsonFileSeederService.seedSetsFromJsonFiles();
+            catalogService.reload();
             
             SuccessResponse response = new SuccessResponse(
                 "Card sets have been successfully seeded from local JSON files"
@@ -221,6 +227,7 @@ public class DataSeedingController {
             log.info("Starting cards seeding from JSON files");
             
             jsonFileSeederService.seedCardsFromJsonFiles();
+            catalogService.reload();
             
             SuccessResponse response = new SuccessResponse(
                 "Cards have been successfully seeded from local JSON files"
@@ -234,4 +241,47 @@ public class DataSeedingController {
             throw new RuntimeException("Failed to seed cards from JSON files: " + e.getMessage());
         }
     }
+
+    // ================= Image Metadata =================
+
+    @Operation(
+        summary = "Backfill perceptual image hashes", 
+        description = "Downloads the large image of every card without a perceptual hash, computes the hash and reloads " +
+                     "the catalog so the card recognition index picks it up. Needed once for cards seeded before recognition existed."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Image hashes backfilled successfully",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SuccessResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Error occurred during the backfill",
+            content = @Content(mediaType = "application/json")
+        )
+    })
+    @PostMapping("/image-hashes")
+    public ResponseEntity<SuccessResponse> backfillImageHashes() {
+        try {
+            log.info("Starting perceptual image hash backfill");
+
+            int hashedCount = jsonFileSeederService.backfillImageHashes();
+            catalogService.reload();
+
+            SuccessResponse response = new SuccessResponse(
+                "Computed perceptual hashes for " + hashedCount + " cards"
+            );
+
+            log.info("Perceptual image hash backfill completed successfully");
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Error during perceptual image hash backfill", e);
+            throw new RuntimeException("Failed to backfill image hashes: " + e.getMessage());
+        }
+    }
 }
\ No newline at end of file
@@ -6,6 +6,10 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
@@ -14,15 +18,24 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.tlam.backend.aws.S3ImageService;
+import com.tlam.backend.artist.ArtistDictionary;
 import com.tlam.backend.card.Card;
+import com.tlam.backend.card.CardDetailDTO;
+import com.tlam.backend.card.CardDetailStore;
+import com.tlam.backend.card.CardNumberSortKey;
 import com.tlam.backend.card.CardRepository;
 import com.tlam.backend.cardset.CardSet;
 import com.tlam.backend.cardset.Language;
 import com.tlam.backend.cardset.CardSetRepository;
+import com.tlam.backend.image.BlurHashEncoder;
+import com.tlam.backend.image.ImageProxyService;
+import com.tlam.backend.image.ImageStore;
+import com.tlam.backend.recognition.PerceptualHash;
 
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -38,20 +51,38 @@ public class JsonFileSeederService {
 
     private final CardSetRepository cardSetRepository;
     private final CardRepository cardRepository;
+    private final CardDetailStore cardDetailStore;
+    private final ArtistDictionary artistDictionary;
     private final ObjectMapper objectMapper;
-    private final S3ImageService s3ImageService;
+    private final ImageStore imageStore;
+    private final ImageProxyService imageProxyService;
     private final RestTemplate restTemplate;
 
+    // Image mirroring is network bound, so sets and cards are processed on a shared pool
+    private final ExecutorService imageMirrorExecutor;
+
     // Date formatter for parsing API date format (YYYY/MM/DD)
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
     public JsonFileSeederService(CardSetRepository cardSetRepository, CardRepository cardRepository, 
-                                S3ImageService s3ImageService) {
+                                CardDetailStore cardDetailStore, ArtistDictionary artistDictionary,
+                                ImageStore imageStore, ImageProxyService imageProxyService,
+                                PokemonTCGConfigProperties configProperties) {
         this.cardSetRepository = cardSetRepository;
         this.cardRepository = cardRepository;
-        this.s3ImageService = s3ImageService;
-        this.objectMapper = new ObjectMapper();
+        this.cardDetailStore = cardDetailStore;
+        this.artistDictionary = artistDictionary;
+        this.imageStore = imageStore;
+        this.imageProxyService = imageProxyService;
+        // Card nodes are also bound to PokemonTCGCardDTO for their details, newer data may carry extra fields
+        this.objectMapper = new ObjectMapper().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
         this.restTemplate = new RestTemplate();
+        this.imageMirrorExecutor = Executors.newFixedThreadPool(configProperties.getImageMirrorThreads());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        imageMirrorExecutor.shutdownNow();
     }
 
     /**
@@ -127,6 +158,7 @@ public class JsonFileSeederService {
             List<String> knownSetIds = getKnownSetIds();
             
             List<Card> allCards = new ArrayList<>();
+            List<CardDetailDTO> allDetails = new ArrayList<>();
 
             for (String setId : knownSetIds) {
                 try {
@@ -134,8 +166,11 @@ public class JsonFileSeederService {
                     Resource resource = new ClassPathResource(resourcePath);
                     
                     if (resource.exists()) {
-                        List<Card> setCards = processSetCardsResource(resource, setId);
-                        allCards.addAll(setCards);
+                        List<SeededCard> setCards = processSetCardsResource(resource, setId);
+                        for (SeededCard setCard : setCards) {
+                            allCards.add(setCard.card());
+                            allDetails.add(setCard.details());
+                        }
                         log.debug("Processed {} cards for set: {}", setCards.size(), setId);
                     } else {
                         log.debug("Card file not found for set: {} ({})", setId, resourcePath);
@@ -147,6 +182,9 @@ public class JsonFileSeederService {
 
             // Save all cards to database
             saveCardsToDatabase(allCards);
+
+            // The full card text is kept out of the database, in the memory-mapped detail store
+            cardDetailStore.write(allDetails);
             
         } catch (Exception e) {
             log.error("Error reading cards directory", e);
@@ -154,6 +192,54 @@ public class JsonFileSeederService {
         }
     }
 
+    /**
+     * Computes perceptual hashes for cards that were saved before hashing existed
+     * Large images are downloaded again on the image mirroring pool
+     * Returns the number of cards that were hashed
+     */
+    public int backfillImageHashes() {
+        List<Card> cards = cardRepository.findByImageHashIsNull();
+        log.info("Backfilling perceptual hashes for {} cards", cards.size());
+
+        List<Future<Boolean>> pendingCards = new ArrayList<>();
+        for (Card card : cards) {
+            pendingCards.add(imageMirrorExecutor.submit(() -> backfillImageHash(card)));
+        }
+
+        int hashedCount = 0;
+        for (Future<Boolean> pendingCard : pendingCards) {
+            try {
+                if (pendingCard.get()) {
+                    hashedCount++;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while backfilling image hashes", e);
+            } catch (Exception e) {
+                log.error("Error backfilling image hash: {}", e.getMessage());
+            }
+        }
+
+        log.info("Image hash backfill complete: {} of {} cards hashed", hashedCount, cards.size());
+        return hashedCount;
+    }
+
+    private boolean backfillImageHash(Card card) {
+        if (card.getLargeImageUrl() == null) {
+            return false;
+        }
+
+        Long imageHash = PerceptualHash.compute(downloadImageWithRetry(card.getLargeImageUrl(), 3));
+        if (imageHash == null) {
+            log.warn("Could not compute image hash for card {}", card.getId());
+            return false;
+        }
+
+        card.setImageHash(imageHash);
+        cardRepository.save(card);
+        return true;
+    }
+
     /**
      * Process all sets from a single JSON file containing an array of sets
      */
@@ -171,13 +257,21 @@ public class JsonFileSeederService {
                 return allSets;
             }
 
-            // Process each set in the array
+            // Process each set in the array, mirroring images in parallel
+            List<Future<CardSet>> pendingSets = new ArrayList<>();
             for (JsonNode setNode : setsArray) {
+                pendingSets.add(imageMirrorExecutor.submit(() -> processSetNode(setNode)));
+            }
+
+            for (Future<CardSet> pendingSet : pendingSets) {
                 try {
-                    CardSet cardSet = processSetNode(setNode);
+                    CardSet cardSet = pendingSet.get();
                     if (cardSet != null) {
                         allSets.add(cardSet);
                     }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while processing sets", e);
                 } catch (Exception e) {
                     log.error("Error processing individual set: {}", e.getMessage());
                 }
@@ -198,14 +292,16 @@ public class JsonFileSeederService {
     private CardSet processSetNode(JsonNode setNode) {
         try {
             String setId = getStringValue(setNode, "id");
+            MirroredImage logo = mirrorImage(getImageValue(setNode, "logo"), setId + "_logo.png", "sets");
             
             return CardSet.builder()
                     .id(setId)
                     .name(getStringValue(setNode, "name"))
                     .series(getStringValue(setNode, "series"))
                     .language(Language.ENGLISH) // Default to English, can be extended later
-                    .symbolUrl(uploadImageToS3(getImageValue(setNode, "symbol"), setId + "_symbol.png", "sets"))
-                    .logoUrl(uploadImageToS3(getImageValue(setNode, "logo"), setId + "_logo.png", "sets"))
+                    .symbolUrl(mirrorImage(getImageValue(setNode, "symbol"), setId + "_symbol.png", "sets").url())
+                    .logoUrl(logo.url())
+                    .logoPlaceholder(BlurHashEncoder.encode(logo.data()))
                     .printedTotal(getIntValue(setNode, "printedTotal"))
                     .totalCards(getIntValue(setNode, "total"))
                     .releaseDate(parseReleaseDate(getStringValue(setNode, "releaseDate")))
@@ -220,8 +316,8 @@ public class JsonFileSeederService {
     /**
      * Process a single set JSON resource containing all cards for that set
      */
-    private List<Card> processSetCardsResource(Resource resource, String setId) {
-        List<Card> cards = new ArrayList<>();
+    private List<SeededCard> processSetCardsResource(Resource resource, String setId) {
+        List<SeededCard> cards = new ArrayList<>();
         
         log.debug("Processing cards resource for set: {}", setId);
 
@@ -234,13 +330,21 @@ public class JsonFileSeederService {
                 return cards;
             }
 
-            // Process each card in the array
+            // Process each card in the array, mirroring images in parallel
+            List<Future<SeededCard>> pendingCards = new ArrayList<>();
             for (JsonNode cardNode : cardsArray) {
+                pendingCards.add(imageMirrorExecutor.submit(() -> processCardJson(cardNode)));
+            }
+
+            for (Future<SeededCard> pendingCard : pendingCards) {
                 try {
-                    Card card = processCardJson(cardNode);
+                    SeededCard card = pendingCard.get();
                     if (card != null) {
                         cards.add(card);
                     }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while processing cards for set: " + setId, e);
                 } catch (Exception e) {
                     log.error("Error processing individual card in set {}: {}", setId, e.getMessage());
                 }
@@ -255,7 +359,7 @@ public class JsonFileSeederService {
     /**
      * Process a single card JSON node from the cards array
      */
-    private Card processCardJson(JsonNode cardNode) {
+    private SeededCard processCardJson(JsonNode cardNode) {
         try {
             String cardId = getStringValue(cardNode, "id");
             String setId = null;
@@ -272,16 +376,39 @@ public class JsonFileSeederService {
                     setId = getStringValue(setNode, "id");
                 }
             }
+
+            MirroredImage smallImage = mirrorImage(getImageValue(cardNode, "small"), cardId + "_small.png", "cards");
+            MirroredImage largeImage = mirrorImage(getImageValue(cardNode, "large"), cardId + "_large.png", "cards");
             
-            return Card.builder()
+            String number = getStringValue(cardNode, "number");
+
+            Card card = Card.builder()
                     .id(cardId)
                     .name(getStringValue(cardNode, "name"))
-                    .number(getStringValue(cardNode, "number"))
+                    .number(number)
+                    .sortKey(CardNumberSortKey.of(number))
                     .setId(setId)
                     .rarity(getStringValue(cardNode, "rarity"))
-                    .smallImageUrl(uploadImageToS3(getImageValue(cardNode, "small"), cardId + "_small.png", "cards"))
-                    .largeImageUrl(uploadImageToS3(getImageValue(cardNode, "large"), cardId + "_large.png", "cards"))
+                    .artistId(artistDictionary.idOf(getStringValue(cardNode, "artist")))
+                    .supertype(getStringValue(cardNode, "supertype"))
+                    .subtypes(getStringList(cardNode, "subtypes"))
+                    .types(getStringList(cardNode, "types"))
+                    .regulationMark(getStringValue(cardNode, "regulationMark"))
+                    .nationalPokedexNumbers(getIntList(cardNode, "nationalPokedexNumbers"))
+                    .evolvesFrom(getStringValue(cardNode, "evolvesFrom"))
+                    .evolvesTo(getStringList(cardNode, "evolvesTo"))
+                    .standardLegality(getStringValue(cardNode.path("legalities"), "standard"))
+                    .expandedLegality(getStringValue(cardNode.path("legalities"), "expanded"))
+                    .unlimitedLegality(getStringValue(cardNode.path("legalities"), "unlimited"))
+                    .smallImageUrl(smallImage.url())
+                    .largeImageUrl(largeImage.url())
+                    // The placeholder comes from the small image since it is cheaper to decode,
+                    // the perceptual hash from the large one since photos are matched against it
+                    .imagePlaceholder(BlurHashEncoder.encode(smallImage.data()))
+                    .imageHash(PerceptualHash.compute(largeImage.data()))
                     .build();
+
+            return new SeededCard(card, CardDetails.of(objectMapper.treeToValue(cardNode, PokemonTCGCardDTO.class), card));
                     
         } catch (Exception e) {
             log.error("Error processing card JSON: {}", e.getMessage());
@@ -331,6 +458,30 @@ public class JsonFileSeederService {
         return fieldNode != null && !fieldNode.isNull() ? fieldNode.asText() : null;
     }
 
+    /**
+     * Helper method to get string arrays from JSON nodes, an absent array is an empty list
+     */
+    private List<String> getStringList(JsonNode node, String fieldName) {
+        JsonNode fieldNode = node.get(fieldName);
+        List<String> values = new ArrayList<>();
+        if (fieldNode != null && fieldNode.isArray()) {
+            fieldNode.forEach(value -> values.add(value.asText()));
+        }
+        return values;
+    }
+
+    /**
+     * Helper method to get integer arrays from JSON nodes, an absent array is an empty list
+     */
+    private List<Integer> getIntList(JsonNode node, String fieldName) {
+        JsonNode fieldNode = node.get(fieldName);
+        List<Integer> values = new ArrayList<>();
+        if (fieldNode != null && fieldNode.isArray()) {
+            fieldNode.forEach(value -> values.add(value.asInt()));
+        }
+        return values;
+    }
+
     /**
      * Helper method to get integer values from JSON nodes
      */
@@ -387,14 +538,22 @@ public class JsonFileSeederService {
         log.info("Saving {} sets to database from JSON files", sets.size());
         
         int savedCount = 0;
+        int updatedCount = 0;
         int skippedCount = 0;
 
         for (CardSet set : sets) {
             try {
                 // Check if set already exists
-                if (cardSetRepository.existsById(set.getId())) {
-                    log.debug("Set {} already exists, skipping", set.getId());
-                    skippedCount++;
+                Optional<CardSet> existingSet = cardSetRepository.findById(set.getId());
+                if (existingSet.isPresent()) {
+                    if (CardAttributes.fillMissing(existingSet.get(), set)) {
+                        cardSetRepository.save(existingSet.get());
+                        updatedCount++;
+                        log.debug("Filled missing attributes of set {}", set.getId());
+                    } else {
+                        log.debug("Set {} already exists, skipping", set.getId());
+                        skippedCount++;
+                    }
                 } else {
                     cardSetRepository.save(set);
                     savedCount++;
@@ -407,8 +566,8 @@ public class JsonFileSeederService {
             }
         }
 
-        log.info("Database save complete: {} new sets saved, {} existing sets skipped", 
-                savedCount, skippedCount);
+        log.info("Database save complete: {} new sets saved, {} existing sets updated, {} existing sets skipped", 
+                savedCount, updatedCount, skippedCount);
     }
 
     /**
@@ -418,14 +577,22 @@ public class JsonFileSeederService {
         log.info("Saving {} cards to database from JSON files", cards.size());
         
         int savedCount = 0;
+        int updatedCount = 0;
         int skippedCount = 0;
 
         for (Card card : cards) {
             try {
                 // Check if card already exists
-                if (cardRepository.existsById(card.getId())) {
-                    log.debug("Card {} already exists, skipping", card.getId());
-                    skippedCount++;
+                Optional<Card> existingCard = cardRepository.findById(card.getId());
+                if (existingCard.isPresent()) {
+                    if (CardAttributes.fillMissing(existingCard.get(), card)) {
+                        cardRepository.save(existingCard.get());
+                        updatedCount++;
+                        log.debug("Filled missing attributes of card {}", card.getId());
+                    } else {
+                        log.debug("Card {} already exists, skipping", card.getId());
+                        skippedCount++;
+                    }
                 } else {
                     cardRepository.save(card);
                     savedCount++;
@@ -438,37 +605,48 @@ public class JsonFileSeederService {
             }
         }
 
-        log.info("Database save complete: {} new cards saved, {} existing cards skipped", 
-                savedCount, skippedCount);
+        log.info("Database save complete: {} new cards saved, {} existing cards updated, {} existing cards skipped", 
+                savedCount, updatedCount, skippedCount);
+    }
+
+    /**
+     * Result of mirroring an image: the URL to store and the downloaded bytes (null if the download failed)
+     * The bytes are kept so placeholders and hashes can be computed without downloading the image again
+     */
+    private record MirroredImage(String url, byte[] data) {
+    }
+
+    // A card read from the JSON files, with the details that go to the card detail store
+    private record SeededCard(Card card, CardDetailDTO details) {
     }
 
     /**
-     * Downloads an image from a URL and uploads it to S3, returning the S3 URL
-     * If the operation fails, returns the original URL as fallback
+     * Downloads an image from a URL and uploads it to the image store, returning the stored URL
+     * If the operation fails, returns the caching proxy URL for the original image as fallback
      */
-    private String uploadImageToS3(String imageUrl, String fileName, String folder) {
+    private MirroredImage mirrorImage(String imageUrl, String fileName, String folder) {
         if (imageUrl == null || imageUrl.trim().isEmpty()) {
-            return null;
+            return new MirroredImage(null, null);
         }
 
-        try {
-            log.debug("Processing image: {} -> {} (folder: {})", imageUrl, fileName, folder);
-            
-            // Download image from URL
-            byte[] imageData = downloadImageWithRetry(imageUrl, 3);
-            if (imageData == null) {
-                log.warn("Failed to download image from URL: {}, using original URL", imageUrl);
-                return imageUrl;
-            }
+        log.debug("Processing image: {} -> {} (folder: {})", imageUrl, fileName, folder);
+        
+        // Download image from URL
+        byte[] imageData = downloadImageWithRetry(imageUrl, 3);
+        if (imageData == null) {
+            log.warn("Failed to download image from URL: {}, using proxy URL", imageUrl);
+            return new MirroredImage(imageProxyService.toProxyUrl(imageUrl), null);
+        }
 
-            // Upload to S3 with specified folder
-            String s3Url = s3ImageService.uploadImage(imageData, fileName, "image/png", folder);
-            log.info("Successfully uploaded image {} to S3 in folder {}: {}", fileName, folder, s3Url);
-            return s3Url;
+        try {
+            // Upload to the image store with specified folder
+            String storedUrl = imageStore.uploadImage(imageData, fileName, "image/png", folder);
+            log.info("Successfully uploaded image {} to image store in folder {}: {}", fileName, folder, storedUrl);
+            return new MirroredImage(storedUrl, imageData);
             
         } catch (Exception e) {
-            log.error("Failed to upload image {} to S3 in folder {}, using original URL: {}", fileName, folder, e.getMessage());
-            return imageUrl; // Fallback to original URL
+            log.error("Failed to upload image {} to image store in folder {}, using proxy URL: {}", fileName, folder, e.getMessage());
+            return new MirroredImage(imageProxyService.toProxyUrl(imageUrl), imageData); // Fallback to the caching proxy
         }
     }
 
@@ -15,4 +15,5 @@ public class PokemonTCGConfigProperties {
     private int readTimeout = 30000;
     private int maxPageSize = 250;
     private long requestDelay = 100;
+    private int imageMirrorThreads = 8;
 }
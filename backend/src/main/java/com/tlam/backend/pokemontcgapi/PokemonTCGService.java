@@ -5,13 +5,18 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import com.tlam.backend.artist.ArtistDictionary;
 import com.tlam.backend.card.Card;
+import com.tlam.backend.card.CardDetailDTO;
+import com.tlam.backend.card.CardDetailStore;
+import com.tlam.backend.card.CardNumberSortKey;
 import com.tlam.backend.card.CardRepository;
 import com.tlam.backend.cardset.CardSet;
 import com.tlam.backend.cardset.Language;
@@ -31,6 +36,8 @@ public class PokemonTCGService {
 
     private final CardSetRepository cardSetRepository;
     private final CardRepository cardRepository;
+    private final CardDetailStore cardDetailStore;
+    private final ArtistDictionary artistDictionary;
     private final PokemonTCGConfigProperties configProperties;
     private final WebClient webClient;
 
@@ -43,9 +50,13 @@ public class PokemonTCGService {
     /**
      * Constructor creates a configured WebClient instance with authentication
      */
-    public PokemonTCGService(CardSetRepository cardSetRepository, CardRepository cardRepository, PokemonTCGConfigProperties configProperties) {
+    public PokemonTCGService(CardSetRepository cardSetRepository, CardRepository cardRepository,
+                             CardDetailStore cardDetailStore, ArtistDictionary artistDictionary,
+                             PokemonTCGConfigProperties configProperties) {
         this.cardSetRepository = cardSetRepository;
         this.cardRepository = cardRepository;
+        this.cardDetailStore = cardDetailStore;
+        this.artistDictionary = artistDictionary;
         this.configProperties = configProperties;
 
         // Validate API key
@@ -121,6 +132,7 @@ public class PokemonTCGService {
 
         try {
             List<Card> allCards = new ArrayList<>();
+            List<CardDetailDTO> allDetails = new ArrayList<>();
             int currentPage = 1;
             int pageSize = configProperties.getMaxPageSize();
             boolean hasMorePages = true;
@@ -132,7 +144,7 @@ public class PokemonTCGService {
 
                 if (response != null && response.getData() != null) {
                     // Convert DTOs to Card entities
-                    List<Card> pageCards = convertCardDtosToEntities(response.getData());
+                    List<Card> pageCards = convertCardDtosToEntities(response.getData(), allDetails);
                     allCards.addAll(pageCards);
 
                     log.info("Fetched {} cards from page {} (Total in response: {})", 
@@ -153,6 +165,9 @@ public class PokemonTCGService {
             }
 
             saveCardsToDatabase(allCards);
+
+            // The full card text is kept out of the database, in the memory-mapped detail store
+            cardDetailStore.write(allDetails);
             log.info("Successfully fetched and saved {} cards total", allCards.size());
         } catch (Exception e) {
             log.error("Error fetching sets from Pokémon TCG API", e);
@@ -283,8 +298,9 @@ public class PokemonTCGService {
 
     /**
      * Converts Pokémon TCG API DTOs to Card entities
+     * The details of every converted card are added to the given list
      */
-    private List<Card> convertCardDtosToEntities(List<PokemonTCGCardDTO> dtos) {
+    private List<Card> convertCardDtosToEntities(List<PokemonTCGCardDTO> dtos, List<CardDetailDTO> details) {
         List<Card> cards = new ArrayList<>();
 
         for (PokemonTCGCardDTO dto : dtos) {
@@ -293,13 +309,26 @@ public class PokemonTCGService {
                         .id(dto.getId())
                         .name(dto.getName())
                         .number(dto.getNumber())
+                        .sortKey(CardNumberSortKey.of(dto.getNumber()))
                         .setId(dto.getSet() != null ? dto.getSet().getId() : null)
                         .rarity(dto.getRarity())
+                        .artistId(artistDictionary.idOf(dto.getArtist()))
+                        .supertype(dto.getSupertype())
+                        .subtypes(dto.getSubtypes() != null ? dto.getSubtypes() : List.of())
+                        .types(dto.getTypes() != null ? dto.getTypes() : List.of())
+                        .regulationMark(dto.getRegulationMark())
+                        .nationalPokedexNumbers(dto.getNationalPokedexNumbers() != null ? dto.getNationalPokedexNumbers() : List.of())
+                        .evolvesFrom(dto.getEvolvesFrom())
+                        .evolvesTo(dto.getEvolvesTo() != null ? dto.getEvolvesTo() : List.of())
+                        .standardLegality(dto.getLegalities() != null ? dto.getLegalities().getStandard() : null)
+                        .expandedLegality(dto.getLegalities() != null ? dto.getLegalities().getExpanded() : null)
+                        .unlimitedLegality(dto.getLegalities() != null ? dto.getLegalities().getUnlimited() : null)
                         .smallImageUrl(dto.getImages() != null ? dto.getImages().getSmall() : null)
                         .largeImageUrl(dto.getImages() != null ? dto.getImages().getLarge() : null)
                         .build();
 
                 cards.add(card);
+                details.add(CardDetails.of(dto, card));
                 log.debug("Converted card: {} ({}) - Set: {}", 
                          card.getName(), card.getId(), card.getSetId());
             } catch (Exception e) {
@@ -317,14 +346,22 @@ public class PokemonTCGService {
         log.info("Saving {} sets to database", sets.size());
         
         int savedCount = 0;
+        int updatedCount = 0;
         int skippedCount = 0;
 
         for (CardSet set : sets) {
             try {
                 // Check if set already exists
-                if (cardSetRepository.existsById(set.getId())) {
-                    log.debug("Set {} already exists, skipping", set.getId());
-                    skippedCount++;
+                Optional<CardSet> existingSet = cardSetRepository.findById(set.getId());
+                if (existingSet.isPresent()) {
+                    if (CardAttributes.fillMissing(existingSet.get(), set)) {
+                        cardSetRepository.save(existingSet.get());
+                        updatedCount++;
+                        log.debug("Filled missing attributes of set {}", set.getId());
+                    } else {
+                        log.debug("Set {} already exists, skipping", set.getId());
+                        skippedCount++;
+                    }
                 } else {
                     cardSetRepository.save(set);
                     savedCount++;
@@ -337,8 +374,8 @@ public class PokemonTCGService {
             }
         }
 
-        log.info("Database save complete: {} new sets saved, {} existing sets skipped", 
-                savedCount, skippedCount);
+        log.info("Database save complete: {} new sets saved, {} existing sets updated, {} existing sets skipped", 
+                savedCount, updatedCount, skippedCount);
     }
 
     /**
@@ -348,14 +385,22 @@ public class PokemonTCGService {
         log.info("Saving {} cards to database", cards.size());
         
         int savedCount = 0;
+        int updatedCount = 0;
         int skippedCount = 0;
 
         for (Card card : cards) {
             try {
                 // Check if card already exists
-                if (cardRepository.existsById(card.getId())) {
-                    log.debug("Card {} already exists, skipping", card.getId());
-                    skippedCount++;
+                Optional<Card> existingCard = cardRepository.findById(card.getId());
+                if (existingCard.isPresent()) {
+                    if (CardAttributes.fillMissing(existingCard.get(), card)) {
+                        cardRepository.save(existingCard.get());
+                        updatedCount++;
+                        log.debug("Filled missing attributes of card {}", card.getId());
+                    } else {
+                        log.debug("Card {} already exists, skipping", card.getId());
+                        skippedCount++;
+                    }
                 } else {
                     cardRepository.save(card);
                     savedCount++;
@@ -368,8 +413,8 @@ public class PokemonTCGService {
             }
         }
 
-        log.info("Database save complete: {} new cards saved, {} existing cards skipped", 
-                savedCount, skippedCount);
+        log.info("Database save complete: {} new cards saved, {} existing cards updated, {} existing cards skipped", 
+                savedCount, updatedCount, skippedCount);
     }
 
     /**
@@ -0,0 +1,119 @@
+package com.tlam.backend.printing;
+
+import java.util.Optional;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for listing every printing of a Pokémon
+ * Printings are matched by National Pokédex number across all sets, trainers and energies by name
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+@Tag(name = "Cards", description = "Operations related to Pokémon cards")
+public class CardPrintingController {
+
+    private static final int MAX_NAME_LENGTH = 100;
+
+    private final CardPrintingService cardPrintingService;
+
+    @Operation(
+        summary = "Get every printing of a Pokémon",
+        description = "Returns every card showing the Pokémon, newest set first. Give either its National Pokédex number, " +
+                     "or a card name: \"Charizard\" finds every Charizard card, including Charizard ex and Dark Charizard. " +
+                     "Names without a Pokémon (trainers and energies) find the cards with exactly that name."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Printings returned (possibly empty)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CardPrintingsDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Neither a Pokédex number nor a name given, or the name is too long")
+    })
+    @GetMapping("/printings")
+    public ResponseEntity<CardPrintingsDTO> getPrintings(
+        @Parameter(description = "National Pokédex number", example = "6")
+        @RequestParam(required = false) Integer pokedexNumber,
+        @Parameter(description = "Card name, used when no Pokédex number is given (up to " + MAX_NAME_LENGTH + " characters)", example = "Charizard")
+        @RequestParam(required = false) String name
+    ) {
+        if (pokedexNumber == null && (name == null || name.isBlank() || name.length() > MAX_NAME_LENGTH)) {
+            log.warn("Printings request rejected, no Pokédex number and a blank or too long name");
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            CardPrintingsDTO printings = pokedexNumber != null
+                    ? cardPrintingService.byPokedexNumber(pokedexNumber)
+                    : cardPrintingService.byName(name);
+            log.info("Found {} printings for Pokédex number {} / name '{}'", printings.getTotal(), pokedexNumber, name);
+            return ResponseEntity.ok(printings);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving printings for Pokédex number {} / name '{}'", pokedexNumber, name, e);
+            throw new RuntimeException("Failed to retrieve printings");
+        }
+    }
+
+    @Operation(
+        summary = "Get every printing of a card",
+        description = "Returns every card showing the same Pokémon as the given card, including the card itself, newest set first. " +
+                     "Tag team cards only match printings of the same tag team."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Printings returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CardPrintingsDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "404", description = "No card with this ID")
+    })
+    @GetMapping("/{cardID}/printings")
+    public ResponseEntity<CardPrintingsDTO> getCardPrintings(
+        @Parameter(description = "ID of the card", example = "sv3pt5-6", required = true)
+        @PathVariable String cardID
+    ) {
+        try {
+            Optional<CardPrintingsDTO> printings = cardPrintingService.ofCard(cardID);
+            if (printings.isEmpty()) {
+                log.info("No card found with ID: {}", cardID);
+                return ResponseEntity.notFound().build();
+            }
+
+            log.info("Found {} printings of card with ID: {}", printings.get().getTotal(), cardID);
+            return ResponseEntity.ok(printings.get());
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving printings of card with ID: {}", cardID, e);
+            throw new RuntimeException("Failed to retrieve printings of card with ID: " + cardID);
+        }
+    }
+}
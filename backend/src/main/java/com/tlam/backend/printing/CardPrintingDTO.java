@@ -0,0 +1,24 @@
+package com.tlam.backend.printing;
+
+import java.time.LocalDate;
+
+import com.tlam.backend.card.CardDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one printing of a card, with the set it was printed in
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardPrintingDTO {
+    private CardDTO card;
+    private String setId;
+    private String setName;
+    private LocalDate releaseDate;
+}
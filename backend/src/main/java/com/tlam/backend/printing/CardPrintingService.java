@@ -0,0 +1,97 @@
+package com.tlam.backend.printing;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for listing every printing of a Pokémon across all sets
+ * The cross-print index is rebuilt with every catalog snapshot, requests never reach the database
+ */
+@Slf4j
+@Service
+public class CardPrintingService {
+
+    private final CatalogService catalogService;
+
+    // Index and the snapshot its ordinals refer to, replaced as a whole on rebuild
+    private record PrintingState(CatalogSnapshot snapshot, CrossPrintIndex index) {
+    }
+
+    private volatile PrintingState state = new PrintingState(CatalogSnapshot.empty(), CrossPrintIndex.empty());
+
+    public CardPrintingService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        state = new PrintingState(event.snapshot(), CrossPrintIndex.build(event.snapshot()));
+        log.info("Built cross-print index over {} cards in {} ms",
+                event.snapshot().getCards().size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public CardPrintingsDTO byPokedexNumber(int number) {
+        PrintingState current = current();
+        return toResult(current.snapshot(), current.index().byPokedexNumber(number));
+    }
+
+    public CardPrintingsDTO byName(String name) {
+        PrintingState current = current();
+        return toResult(current.snapshot(), current.index().byName(name));
+    }
+
+    /**
+     * Returns every printing of what the card shows, including the card itself, or empty if there is no such card
+     */
+    public Optional<CardPrintingsDTO> ofCard(String cardId) {
+        PrintingState current = current();
+        if (current.snapshot().getCardView(cardId).isEmpty()) {
+            return Optional.empty();
+        }
+        int ordinal = current.snapshot().getOrdinal(cardId);
+        return Optional.of(toResult(current.snapshot(), current.index().ofCard(ordinal)));
+    }
+
+    private PrintingState current() {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+        return state;
+    }
+
+    static CardPrintingsDTO toResult(CatalogSnapshot snapshot, CrossPrintIndex.Printings printings) {
+        List<CardPrintingDTO> results = new ArrayList<>(printings.ordinals().length);
+        for (int ordinal : printings.ordinals()) {
+            results.add(toPrinting(snapshot, ordinal));
+        }
+
+        return CardPrintingsDTO.builder()
+                .pokedexNumbers(printings.pokedexNumbers())
+                .total(results.size())
+                .printings(results)
+                .build();
+    }
+
+    public static CardPrintingDTO toPrinting(CatalogSnapshot snapshot, int ordinal) {
+        CardView card = snapshot.getCardByOrdinal(ordinal);
+        Optional<CardSetView> set = snapshot.getSet(card.setId());
+        return CardPrintingDTO.builder()
+                .card(snapshot.getCard(card.id()).orElseThrow())
+                .setId(card.setId())
+                .setName(set.map(CardSetView::name).orElse(null))
+                .releaseDate(set.map(CardSetView::releaseDate).orElse(null))
+                .build();
+    }
+}
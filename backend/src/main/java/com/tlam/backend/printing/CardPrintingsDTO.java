@@ -0,0 +1,22 @@
+package com.tlam.backend.printing;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for every printing of a Pokémon (or of a trainer or energy card), newest set first
+ * Pokédex numbers are empty when the printings were matched by name
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardPrintingsDTO {
+    private List<Integer> pokedexNumbers;
+    private int total;
+    private List<CardPrintingDTO> printings;
+}
@@ -0,0 +1,151 @@
+package com.tlam.backend.printing;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.search.SearchText;
+
+/**
+ * Inverted index from National Pokédex number and normalized card name to the ordinals of every printing
+ * Postings are stored newest set first (and in card order within a set), so results need no sorting.
+ * Trainers and energies carry no Pokédex number and are only found by name.
+ */
+final class CrossPrintIndex {
+
+    private static final int[] NONE = new int[0];
+
+    record Printings(List<Integer> pokedexNumbers, int[] ordinals) {
+
+        static final Printings EMPTY = new Printings(List.of(), NONE);
+    }
+
+    private final Map<Integer, int[]> byPokedexNumber;
+    private final Map<String, int[]> byName;
+
+    // Per ordinal, to resolve the printings of a given card
+    private final List<List<Integer>> pokedexNumbers;
+    private final String[] names;
+
+    private CrossPrintIndex(Map<Integer, int[]> byPokedexNumber, Map<String, int[]> byName,
+                            List<List<Integer>> pokedexNumbers, String[] names) {
+        this.byPokedexNumber = byPokedexNumber;
+        this.byName = byName;
+        this.pokedexNumbers = pokedexNumbers;
+        this.names = names;
+    }
+
+    static CrossPrintIndex empty() {
+        return new CrossPrintIndex(Map.of(), Map.of(), List.of(), new String[0]);
+    }
+
+    static CrossPrintIndex build(CatalogSnapshot snapshot) {
+        int cardCount = snapshot.getCards().size();
+        Map<Integer, Postings> byPokedexNumber = new HashMap<>();
+        Map<String, Postings> byName = new HashMap<>();
+        List<List<Integer>> pokedexNumbers = new ArrayList<>(Collections.nCopies(cardCount, List.of()));
+        String[] names = new String[cardCount];
+
+        for (CardSetView set : snapshot.getSets()) {
+            for (CardView card : snapshot.getCardViewsBySet(set.id())) {
+                int ordinal = snapshot.getOrdinal(card.id());
+
+                String name = key(card.name());
+                names[ordinal] = name;
+                byName.computeIfAbsent(name, key -> new Postings()).add(ordinal);
+
+                List<Integer> numbers = card.nationalPokedexNumbers() != null
+                        ? List.copyOf(new LinkedHashSet<>(card.nationalPokedexNumbers()))
+                        : List.of();
+                pokedexNumbers.set(ordinal, numbers);
+                for (Integer number : numbers) {
+                    byPokedexNumber.computeIfAbsent(number, key -> new Postings()).add(ordinal);
+                }
+            }
+        }
+
+        Map<Integer, int[]> numberPostings = HashMap.newHashMap(byPokedexNumber.size());
+        byPokedexNumber.forEach((number, postings) -> numberPostings.put(number, postings.toArray()));
+        Map<String, int[]> namePostings = HashMap.newHashMap(byName.size());
+        byName.forEach((name, postings) -> namePostings.put(name, postings.toArray()));
+        return new CrossPrintIndex(numberPostings, namePostings, pokedexNumbers, names);
+    }
+
+    /**
+     * Every card showing the Pokémon, including tag teams it is part of
+     */
+    Printings byPokedexNumber(int number) {
+        int[] ordinals = byPokedexNumber.get(number);
+        return ordinals != null ? new Printings(List.of(number), ordinals) : Printings.EMPTY;
+    }
+
+    /**
+     * Every printing of the Pokémon named, or of the trainer or energy card with that name
+     * The Pokémon is the one on the newest card with exactly this name, so "Charizard" also finds "Charizard ex".
+     */
+    Printings byName(String name) {
+        int[] named = byName.get(key(name));
+        return named != null ? ofCard(named[0]) : Printings.EMPTY;
+    }
+
+    /**
+     * Every printing of what the card shows: cards with all of its Pokédex numbers, or with the same name if it has none
+     * A tag team card only matches the other printings of the same tag team.
+     */
+    Printings ofCard(int ordinal) {
+        List<Integer> numbers = pokedexNumbers.get(ordinal);
+        if (numbers.isEmpty()) {
+            return new Printings(List.of(), byName.get(names[ordinal]));
+        }
+
+        int[] ordinals = byPokedexNumber.get(numbers.get(0));
+        for (int i = 1; i < numbers.size(); i++) {
+            ordinals = intersect(ordinals, byPokedexNumber.get(numbers.get(i)));
+        }
+        return new Printings(numbers, ordinals);
+    }
+
+    // Keeps the order of the first postings
+    private static int[] intersect(int[] first, int[] second) {
+        BitSet members = new BitSet();
+        for (int ordinal : second) {
+            members.set(ordinal);
+        }
+
+        Postings both = new Postings();
+        for (int ordinal : first) {
+            if (members.get(ordinal)) {
+                both.add(ordinal);
+            }
+        }
+        return both.toArray();
+    }
+
+    private static String key(String name) {
+        return String.join(" ", SearchText.terms(name));
+    }
+
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            ordinals[size++] = ordinal;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ordinals, size);
+        }
+    }
+}
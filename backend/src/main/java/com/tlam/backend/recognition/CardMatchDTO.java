@@ -0,0 +1,21 @@
+package com.tlam.backend.recognition;
+
+import com.tlam.backend.card.CardDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for card recognition results
+ * Distance is the Hamming distance between the photo's hash and the card image's hash (0-64, lower is closer)
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardMatchDTO {
+    private CardDTO card;
+    private int distance;
+}
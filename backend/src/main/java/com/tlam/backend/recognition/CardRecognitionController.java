@@ -0,0 +1,73 @@
+package com.tlam.backend.recognition;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for recognizing cards from photographs
+ * Clients upload a photo cropped to the card and get back the closest catalog cards
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+@Tag(name = "Cards", description = "Operations related to Pokémon cards")
+public class CardRecognitionController {
+
+    private static final int MAX_DISTANCE_LIMIT = 20;
+    private static final int MAX_RESULTS_LIMIT = 25;
+
+    private final CardRecognitionService cardRecognitionService;
+
+    @Operation(
+        summary = "Recognize a card from a photo",
+        description = "Computes a perceptual hash of the uploaded image and returns the closest catalog cards, nearest first. " +
+                     "The photo should be cropped to the card for best results."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Matches returned (possibly empty)"),
+        @ApiResponse(responseCode = "400", description = "Missing or unreadable image")
+    })
+    @PostMapping(value = "/recognize", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<CardMatchDTO>> recognizeCard(
+        @Parameter(description = "Photo of the card", required = true)
+        @RequestParam("image") MultipartFile image,
+        @Parameter(description = "Maximum Hamming distance of a match (0-20)", example = "10")
+        @RequestParam(defaultValue = "10") int maxDistance,
+        @Parameter(description = "Maximum number of matches to return (1-25)", example = "5")
+        @RequestParam(defaultValue = "5") int limit
+    ) throws IOException {
+        if (image.isEmpty()) {
+            log.warn("Recognition request without image data");
+            return ResponseEntity.badRequest().build();
+        }
+
+        int boundedDistance = Math.max(0, Math.min(maxDistance, MAX_DISTANCE_LIMIT));
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_RESULTS_LIMIT));
+
+        try {
+            List<CardMatchDTO> matches = cardRecognitionService.recognize(image.getBytes(), boundedDistance, boundedLimit);
+            log.info("Recognition request returned {} matches", matches.size());
+            return ResponseEntity.ok(matches);
+        } catch (IllegalArgumentException e) {
+            log.warn("Recognition request rejected: {}", e.getMessage());
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
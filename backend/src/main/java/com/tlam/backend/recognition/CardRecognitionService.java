@@ -0,0 +1,88 @@
+package com.tlam.backend.recognition;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for recognizing cards from photographs
+ * Keeps the perceptual hash of every catalog card in an in-memory multi-index hash table
+ * and answers nearest-neighbour queries by Hamming distance
+ */
+@Slf4j
+@Service
+public class CardRecognitionService {
+
+    private final CatalogService catalogService;
+
+    // Index and the card IDs its positions refer to, replaced as a whole on rebuild
+    private record RecognitionIndex(MultiIndexHashIndex hashes, String[] cardIds) {
+    }
+
+    private volatile RecognitionIndex index = new RecognitionIndex(new MultiIndexHashIndex(new long[0]), new String[0]);
+
+    public CardRecognitionService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    /**
+     * Rebuilds the index from the hashes of every card in the new catalog snapshot
+     */
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        long start = System.nanoTime();
+        List<CardView> hashedCards = event.snapshot().getCards().stream()
+                .filter(card -> card.imageHash() != null)
+                .toList();
+
+        long[] imageHashes = new long[hashedCards.size()];
+        String[] cardIds = new String[hashedCards.size()];
+        for (int i = 0; i < hashedCards.size(); i++) {
+            imageHashes[i] = hashedCards.get(i).imageHash();
+            cardIds[i] = hashedCards.get(i).id();
+        }
+        index = new RecognitionIndex(new MultiIndexHashIndex(imageHashes), cardIds);
+
+        log.info("Built card recognition index with {} hashes in {} ms",
+                imageHashes.length, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Finds the catalog cards closest to the given image, nearest first
+     * Returns an empty list if nothing is within maxDistance
+     */
+    public List<CardMatchDTO> recognize(byte[] imageData, int maxDistance, int limit) {
+        Long queryHash = PerceptualHash.compute(imageData);
+        if (queryHash == null) {
+            throw new IllegalArgumentException("Uploaded file is not a readable image");
+        }
+
+        CatalogSnapshot catalog = catalogService.snapshot();
+        RecognitionIndex current = index;
+        long start = System.nanoTime();
+        List<MultiIndexHashIndex.Match> matches = current.hashes().search(queryHash, maxDistance).stream()
+                .sorted(Comparator.comparingInt(MultiIndexHashIndex.Match::distance))
+                .limit(limit)
+                .toList();
+        log.debug("Recognition query found {} matches in {} µs",
+                matches.size(), (System.nanoTime() - start) / 1_000);
+
+        return matches.stream()
+                .flatMap(match -> catalog.getCard(current.cardIds()[match.position()])
+                        .map(card -> CardMatchDTO.builder()
+                                .card(card)
+                                .distance(match.distance())
+                                .build())
+                        .stream())
+                .toList();
+    }
+}
@@ -0,0 +1,117 @@
+package com.tlam.backend.recognition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable multi-index hashing (MIH) index over 64-bit hashes for Hamming radius queries
+ *
+ * Each hash is split into four 16-bit chunks and every chunk gets its own direct-addressed table.
+ * If two hashes are within distance r, at least one of their chunks is within r / 4 (pigeonhole),
+ * so a query only probes the chunk values within r / 4 of its own chunks and verifies those candidates.
+ * Unlike a BK-tree, the work does not degrade towards a full scan for radii around 10 bits.
+ */
+public class MultiIndexHashIndex {
+
+    public record Match(int position, int distance) {
+    }
+
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = 16;
+    private static final int BUCKETS = 1 << CHUNK_BITS;
+
+    private final long[] hashes;
+
+    // Per chunk, positions grouped by chunk value: bucket v holds entries[offsets[v]] to entries[offsets[v + 1] - 1]
+    private final int[][] offsets = new int[CHUNKS][];
+    private final int[][] entries = new int[CHUNKS][];
+
+    /**
+     * Builds the index, positions in query results refer to indexes in the given array
+     */
+    public MultiIndexHashIndex(long[] hashes) {
+        this.hashes = hashes.clone();
+
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int[] chunkOffsets = new int[BUCKETS + 1];
+            for (long hash : this.hashes) {
+                chunkOffsets[chunkValue(hash, chunk) + 1]++;
+            }
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                chunkOffsets[bucket + 1] += chunkOffsets[bucket];
+            }
+
+            int[] chunkEntries = new int[this.hashes.length];
+            int[] next = chunkOffsets.clone();
+            for (int position = 0; position < this.hashes.length; position++) {
+                chunkEntries[next[chunkValue(this.hashes[position], chunk)]++] = position;
+            }
+
+            offsets[chunk] = chunkOffsets;
+            entries[chunk] = chunkEntries;
+        }
+    }
+
+    /**
+     * Returns every position whose hash is within maxDistance of the query, in no particular order
+     */
+    public List<Match> search(long query, int maxDistance) {
+        List<Match> matches = new ArrayList<>();
+        int chunkRadius = maxDistance / CHUNKS;
+
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            probe(query, maxDistance, chunk, chunkRadius, chunkValue(query, chunk), 0, chunkRadius, matches);
+        }
+        return matches;
+    }
+
+    public int size() {
+        return hashes.length;
+    }
+
+    /**
+     * Visits every chunk value within the remaining number of bit flips, flipping bits from firstBit upwards
+     */
+    private void probe(long query, int maxDistance, int chunk, int chunkRadius, int value,
+                       int firstBit, int remainingFlips, List<Match> matches) {
+        collect(query, maxDistance, chunk, chunkRadius, value, matches);
+
+        if (remainingFlips == 0) {
+            return;
+        }
+        for (int bit = firstBit; bit < CHUNK_BITS; bit++) {
+            probe(query, maxDistance, chunk, chunkRadius, value ^ (1 << bit), bit + 1, remainingFlips - 1, matches);
+        }
+    }
+
+    private void collect(long query, int maxDistance, int chunk, int chunkRadius, int value, List<Match> matches) {
+        int[] chunkEntries = entries[chunk];
+        for (int i = offsets[chunk][value]; i < offsets[chunk][value + 1]; i++) {
+            int position = chunkEntries[i];
+            long hash = hashes[position];
+
+            // A candidate that was close enough in an earlier chunk has already been verified there
+            if (seenInEarlierChunk(query, hash, chunk, chunkRadius)) {
+                continue;
+            }
+
+            int distance = PerceptualHash.distance(query, hash);
+            if (distance <= maxDistance) {
+                matches.add(new Match(position, distance));
+            }
+        }
+    }
+
+    private static boolean seenInEarlierChunk(long query, long hash, int chunk, int chunkRadius) {
+        for (int earlier = 0; earlier < chunk; earlier++) {
+            if (Integer.bitCount(chunkValue(query, earlier) ^ chunkValue(hash, earlier)) <= chunkRadius) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int chunkValue(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & (BUCKETS - 1);
+    }
+}
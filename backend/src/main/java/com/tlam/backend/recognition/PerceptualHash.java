@@ -0,0 +1,124 @@
+package com.tlam.backend.recognition;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 64-bit DCT based perceptual hash (pHash)
+ * Visually similar images produce hashes with a small Hamming distance, which survives
+ * rescaling, recompression and moderate lighting changes in photographs
+ */
+@Slf4j
+public final class PerceptualHash {
+
+    private static final int SAMPLE_SIZE = 32;
+    private static final int HASH_SIZE = 8;
+
+    // cos((2x + 1) * u * PI / 2N) for the 1D DCT, computed once
+    private static final double[][] DCT_COEFFICIENTS = new double[HASH_SIZE][SAMPLE_SIZE];
+
+    static {
+        for (int u = 0; u < HASH_SIZE; u++) {
+            for (int x = 0; x < SAMPLE_SIZE; x++) {
+                DCT_COEFFICIENTS[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2.0 * SAMPLE_SIZE));
+            }
+        }
+    }
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Decodes the image bytes and computes their hash, returns null if the bytes are not a readable image
+     */
+    public static Long compute(byte[] imageData) {
+        if (imageData == null || imageData.length == 0) {
+            return null;
+        }
+
+        try {
+            BufferedImage image = ImageIO.read(new ByteArrayInputStream(imageData));
+            if (image == null) {
+                log.debug("Unsupported image format, skipping perceptual hash");
+                return null;
+            }
+            return compute(image);
+        } catch (IOException e) {
+            log.debug("Failed to decode image for perceptual hash: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public static long compute(BufferedImage image) {
+        double[][] pixels = grayscale(image);
+
+        // Only the lowest 8x8 frequencies are needed, so compute just those rows and columns of the 2D DCT
+        double[][] rows = new double[SAMPLE_SIZE][HASH_SIZE];
+        for (int y = 0; y < SAMPLE_SIZE; y++) {
+            for (int u = 0; u < HASH_SIZE; u++) {
+                double sum = 0;
+                for (int x = 0; x < SAMPLE_SIZE; x++) {
+                    sum += pixels[y][x] * DCT_COEFFICIENTS[u][x];
+                }
+                rows[y][u] = sum;
+            }
+        }
+
+        double[] frequencies = new double[HASH_SIZE * HASH_SIZE];
+        for (int v = 0; v < HASH_SIZE; v++) {
+            for (int u = 0; u < HASH_SIZE; u++) {
+                double sum = 0;
+                for (int y = 0; y < SAMPLE_SIZE; y++) {
+                    sum += rows[y][u] * DCT_COEFFICIENTS[v][y];
+                }
+                frequencies[v * HASH_SIZE + u] = sum;
+            }
+        }
+
+        // The DC term only reflects overall brightness, so it is left out of the median
+        double[] acTerms = new double[frequencies.length - 1];
+        System.arraycopy(frequencies, 1, acTerms, 0, acTerms.length);
+        Arrays.sort(acTerms);
+        double median = (acTerms[acTerms.length / 2 - 1] + acTerms[acTerms.length / 2]) / 2;
+
+        long hash = 0;
+        for (int i = 0; i < frequencies.length; i++) {
+            if (frequencies[i] > median) {
+                hash |= 1L << i;
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long first, long second) {
+        return Long.bitCount(first ^ second);
+    }
+
+    private static double[][] grayscale(BufferedImage image) {
+        BufferedImage scaled = new BufferedImage(SAMPLE_SIZE, SAMPLE_SIZE, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, SAMPLE_SIZE, SAMPLE_SIZE, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        double[][] pixels = new double[SAMPLE_SIZE][SAMPLE_SIZE];
+        for (int y = 0; y < SAMPLE_SIZE; y++) {
+            for (int x = 0; x < SAMPLE_SIZE; x++) {
+                int rgb = scaled.getRGB(x, y);
+                pixels[y][x] = 0.299 * ((rgb >> 16) & 0xFF) + 0.587 * ((rgb >> 8) & 0xFF) + 0.114 * (rgb & 0xFF);
+            }
+        }
+        return pixels;
+    }
+}
@@ -0,0 +1,127 @@
+package com.tlam.backend.search;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.exception.CatalogUnavailableException;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for searching cards
+ * Matches free text against card names, set names, series, artists and rarities,
+ * and suggests card and set names as the user types
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/cards")
+@RequiredArgsConstructor
+@Tag(name = "Cards", description = "Operations related to Pokémon cards")
+public class CardSearchController {
+
+    private static final int MAX_QUERY_LENGTH = 100;
+    private static final int MAX_RESULTS_LIMIT = 100;
+
+    private final CardSearchService cardSearchService;
+    private final TypeaheadService typeaheadService;
+
+    @Operation(
+        summary = "Search cards",
+        description = "Returns the cards matching every word of the query, best match first. " +
+                     "Words match whole words, word prefixes and parts of words, and misspelled words match similar ones. " +
+                     "Matches in the card name rank above matches in the set name or artist, which rank above series and rarity."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Search results returned (possibly empty)",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = CardSearchResultDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Missing, blank or too long query")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<CardSearchResultDTO> searchCards(
+        @Parameter(description = "Words to search for (up to " + MAX_QUERY_LENGTH + " characters)", example = "charizard ex", required = true)
+        @RequestParam String q,
+        @Parameter(description = "Maximum number of results to return (1-" + MAX_RESULTS_LIMIT + ")", example = "20")
+        @RequestParam(defaultValue = "20") int limit
+    ) {
+        if (q.isBlank() || q.length() > MAX_QUERY_LENGTH) {
+            log.warn("Search request rejected, query is blank or longer than {} characters", MAX_QUERY_LENGTH);
+            return ResponseEntity.badRequest().build();
+        }
+
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_RESULTS_LIMIT));
+
+        try {
+            CardSearchResultDTO result = cardSearchService.search(q, boundedLimit);
+            log.info("Search for '{}' matched {} cards", q, result.getTotal());
+            return ResponseEntity.ok(result);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error searching cards for '{}'", q, e);
+            throw new RuntimeException("Failed to search cards");
+        }
+    }
+
+    @Operation(
+        summary = "Suggest card and set names",
+        description = "Returns card and set names starting with the prefix, or with a later word starting with it, " +
+                     "most collected first. Meant to be called on every keystroke, answered from memory."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Suggestions returned (possibly empty)",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = SuggestionDTO.class))
+            )
+        ),
+        @ApiResponse(responseCode = "400", description = "Missing or too long prefix")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<SuggestionDTO>> suggestNames(
+        @Parameter(description = "What the user has typed so far (up to " + MAX_QUERY_LENGTH + " characters)", example = "chari", required = true)
+        @RequestParam String q,
+        @Parameter(description = "Maximum number of suggestions to return (1-" + TypeaheadIndex.MAX_SUGGESTIONS + ")", example = "8")
+        @RequestParam(defaultValue = "8") int limit
+    ) {
+        if (q.length() > MAX_QUERY_LENGTH) {
+            log.warn("Autocomplete request rejected, prefix is longer than {} characters", MAX_QUERY_LENGTH);
+            return ResponseEntity.badRequest().build();
+        }
+
+        int boundedLimit = Math.max(1, Math.min(limit, TypeaheadIndex.MAX_SUGGESTIONS));
+
+        try {
+            // Logged at debug only, clients call this on every keystroke
+            List<SuggestionDTO> suggestions = typeaheadService.suggest(q, boundedLimit);
+            log.debug("Autocomplete for '{}' returned {} suggestions", q, suggestions.size());
+            return ResponseEntity.ok(suggestions);
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error suggesting names for '{}'", q, e);
+            throw new RuntimeException("Failed to suggest names");
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.tlam.backend.search;
+
+import com.tlam.backend.card.CardDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one card search result
+ * Score is only meaningful relative to the other results of the same query, higher is a better match
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardSearchHitDTO {
+    private CardDTO card;
+    private String setId;
+    private String setName;
+    private double score;
+}
@@ -0,0 +1,406 @@
+package com.tlam.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Immutable inverted index over the whole catalog, merged from per-set segments
+ *
+ * Documents are catalog ordinals. Every term has a postings array of (ordinal << 8) | field mask,
+ * and the sorted term dictionary is itself indexed by trigrams, so a query term is expanded to
+ * exact, prefix, infix and (when nothing else matches) misspelled terms before postings are scored.
+ * A card matches when every query term matches one of its terms.
+ */
+final class CardSearchIndex {
+
+    // Weights of the ways a query term can match an indexed term
+    private static final float EXACT = 1.0f;
+    private static final float PREFIX = 0.6f;
+    private static final float INFIX = 0.4f;
+    private static final float FUZZY = 0.5f;
+
+    // Minimum Dice coefficient of trigrams for a misspelled term to match
+    private static final float MIN_SIMILARITY = 0.5f;
+
+    // Upper bound on indexed terms a single query term expands to, the most frequent ones are kept
+    private static final int MAX_EXPANSIONS = 32;
+
+    record Hit(int ordinal, float score) {
+    }
+
+    record Result(int total, List<Hit> hits) {
+    }
+
+    private final int documentCount;
+    private final String[] terms;
+    private final int[][] postings;
+    private final Map<String, int[]> termsByTrigram;
+    private final byte[] nameLengths;
+
+    /**
+     * Per-card and per-term accumulators of one query, cleared again before search returns
+     * Sized to one index, so a scratch is only reused for searches of the index that created it.
+     */
+    static final class Scratch {
+        private final CardSearchIndex owner;
+
+        final float[] scores;
+        final float[] termScores;
+        final byte[] matchedTerms;
+        final int[] touched;
+        final int[] candidates;
+
+        // Weight of every dictionary term the current query term expanded to, 0 for the rest
+        final float[] expansionWeights;
+        final int[] expansions;
+        int expansionCount;
+
+        // Trigrams every dictionary term shares with the current query term
+        final int[] sharedTrigrams;
+        final int[] sharing;
+        final int[] pending;
+
+        private Scratch(CardSearchIndex owner, int documentCount, int termCount) {
+            this.owner = owner;
+            scores = new float[documentCount];
+            termScores = new float[documentCount];
+            matchedTerms = new byte[documentCount];
+            touched = new int[documentCount];
+            candidates = new int[documentCount];
+            expansionWeights = new float[termCount];
+            expansions = new int[MAX_EXPANSIONS];
+            sharedTrigrams = new int[termCount];
+            sharing = new int[termCount];
+            pending = new int[termCount];
+        }
+
+        void expand(int termId, float weight) {
+            expansionWeights[termId] = weight;
+            expansions[expansionCount++] = termId;
+        }
+
+        void clearExpansions() {
+            for (int i = 0; i < expansionCount; i++) {
+                expansionWeights[expansions[i]] = 0;
+            }
+            expansionCount = 0;
+        }
+    }
+
+    private CardSearchIndex(int documentCount, String[] terms, int[][] postings,
+                            Map<String, int[]> termsByTrigram, byte[] nameLengths) {
+        this.documentCount = documentCount;
+        this.terms = terms;
+        this.postings = postings;
+        this.termsByTrigram = termsByTrigram;
+        this.nameLengths = nameLengths;
+    }
+
+    static CardSearchIndex empty() {
+        return new CardSearchIndex(0, new String[0], new int[0][], Map.of(), new byte[0]);
+    }
+
+    /**
+     * Merges segments into one index
+     * Offsets are the ordinal of each segment's first card, segments must not overlap
+     */
+    static CardSearchIndex merge(int documentCount, Map<SearchSegment, Integer> offsets) {
+        // Ascending offsets keep every merged postings array sorted by ordinal
+        List<Map.Entry<SearchSegment, Integer>> ordered = new ArrayList<>(offsets.entrySet());
+        ordered.sort(Map.Entry.comparingByValue());
+
+        TreeMap<String, List<int[]>> chunks = new TreeMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        byte[] nameLengths = new byte[documentCount];
+        for (Map.Entry<SearchSegment, Integer> entry : ordered) {
+            SearchSegment segment = entry.getKey();
+            int offset = entry.getValue();
+            System.arraycopy(segment.nameLengths(), 0, nameLengths, offset, segment.nameLengths().length);
+            segment.postings().forEach((term, segmentPostings) -> {
+                int[] shifted = new int[segmentPostings.length];
+                for (int i = 0; i < segmentPostings.length; i++) {
+                    shifted[i] = segmentPostings[i] + (offset << 8);
+                }
+                chunks.computeIfAbsent(term, t -> new ArrayList<>()).add(shifted);
+                sizes.merge(term, shifted.length, Integer::sum);
+            });
+        }
+
+        String[] terms = new String[chunks.size()];
+        int[][] postings = new int[chunks.size()][];
+        Map<String, List<Integer>> trigrams = new HashMap<>();
+        int termId = 0;
+        for (Map.Entry<String, List<int[]>> entry : chunks.entrySet()) {
+            int[] merged = new int[sizes.get(entry.getKey())];
+            int position = 0;
+            for (int[] chunk : entry.getValue()) {
+                System.arraycopy(chunk, 0, merged, position, chunk.length);
+                position += chunk.length;
+            }
+            terms[termId] = entry.getKey();
+            postings[termId] = merged;
+            for (String trigram : SearchText.trigrams(entry.getKey())) {
+                trigrams.computeIfAbsent(trigram, t -> new ArrayList<>()).add(termId);
+            }
+            termId++;
+        }
+
+        Map<String, int[]> termsByTrigram = new HashMap<>();
+        trigrams.forEach((trigram, ids) -> termsByTrigram.put(trigram, ids.stream().mapToInt(Integer::intValue).toArray()));
+        return new CardSearchIndex(documentCount, terms, postings, Map.copyOf(termsByTrigram), nameLengths);
+    }
+
+    int documentCount() {
+        return documentCount;
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    Scratch newScratch() {
+        return new Scratch(this, documentCount, terms.length);
+    }
+
+    /**
+     * Returns the best scoring cards for the query, highest score first and newer cards first among equal scores
+     * The scratch must come from newScratch of this index and must not be used by another search at the same time.
+     */
+    Result search(String query, int limit, Scratch scratch) {
+        if (scratch.owner != this) {
+            throw new IllegalArgumentException("Scratch belongs to another index");
+        }
+        List<String> queryTerms = SearchText.terms(query);
+        if (queryTerms.isEmpty() || queryTerms.size() > Byte.MAX_VALUE || documentCount == 0) {
+            return new Result(0, List.of());
+        }
+
+        int candidateCount = 0;
+        try {
+            for (int q = 0; q < queryTerms.size(); q++) {
+                expand(queryTerms.get(q), scratch);
+                if (scratch.expansionCount == 0) {
+                    return new Result(0, List.of());
+                }
+
+                // Best match of this query term per card, only cards that matched every previous term count
+                int touchedCount = 0;
+                for (int e = 0; e < scratch.expansionCount; e++) {
+                    int termId = scratch.expansions[e];
+                    float matchWeight = scratch.expansionWeights[termId];
+                    for (int posting : postings[termId]) {
+                        int ordinal = posting >>> 8;
+                        if (scratch.matchedTerms[ordinal] != q) {
+                            continue;
+                        }
+                        float score = matchWeight * SearchField.weight(posting & 0xFF);
+                        if (scratch.termScores[ordinal] == 0) {
+                            scratch.touched[touchedCount++] = ordinal;
+                        }
+                        if (score > scratch.termScores[ordinal]) {
+                            scratch.termScores[ordinal] = score;
+                        }
+                    }
+                }
+
+                scratch.clearExpansions();
+
+                for (int i = 0; i < touchedCount; i++) {
+                    int ordinal = scratch.touched[i];
+                    scratch.scores[ordinal] += scratch.termScores[ordinal];
+                    scratch.termScores[ordinal] = 0;
+                    scratch.matchedTerms[ordinal]++;
+                }
+
+                // Later terms can only narrow the cards the first one matched
+                if (q == 0) {
+                    System.arraycopy(scratch.touched, 0, scratch.candidates, 0, touchedCount);
+                    candidateCount = touchedCount;
+                }
+            }
+
+            return topMatches(scratch, candidateCount, (byte) queryTerms.size(), limit);
+        } finally {
+            scratch.clearExpansions();
+            for (int i = 0; i < candidateCount; i++) {
+                scratch.scores[scratch.candidates[i]] = 0;
+                scratch.matchedTerms[scratch.candidates[i]] = 0;
+            }
+        }
+    }
+
+    // Keeps the best matches in a min-heap of limit entries instead of sorting every match
+    private Result topMatches(Scratch scratch, int candidateCount, byte required, int limit) {
+        long[] heap = new long[limit];
+        int heapSize = 0;
+        int total = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int ordinal = scratch.candidates[i];
+            if (scratch.matchedTerms[ordinal] != required) {
+                continue;
+            }
+            total++;
+
+            // Score and ordinal packed in one long, so comparing orders by score, then by newest card
+            float score = scratch.scores[ordinal] + 1.0f / (1 + nameLengths[ordinal]);
+            long match = ((long) Float.floatToIntBits(score) << 32) | ordinal;
+            if (heapSize < limit) {
+                heap[heapSize] = match;
+                siftUp(heap, heapSize++);
+            } else if (match > heap[0]) {
+                heap[0] = match;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        long[] matches = Arrays.copyOf(heap, heapSize);
+        Arrays.sort(matches);
+        List<Hit> hits = new ArrayList<>(heapSize);
+        for (int i = heapSize - 1; i >= 0; i--) {
+            hits.add(new Hit((int) matches[i], Float.intBitsToFloat((int) (matches[i] >>> 32))));
+        }
+        return new Result(total, hits);
+    }
+
+    private static void siftUp(long[] heap, int index) {
+        while (index > 0 && heap[(index - 1) / 2] > heap[index]) {
+            swap(heap, index, (index - 1) / 2);
+            index = (index - 1) / 2;
+        }
+    }
+
+    private static void siftDown(long[] heap, int size) {
+        int index = 0;
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap[left] < heap[smallest]) {
+                smallest = left;
+            }
+            if (right < size && heap[right] < heap[smallest]) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(heap, index, smallest);
+            index = smallest;
+        }
+    }
+
+    private static void swap(long[] heap, int a, int b) {
+        long value = heap[a];
+        heap[a] = heap[b];
+        heap[b] = value;
+    }
+
+    /**
+     * Collects the dictionary terms a query term matches, with the weight of each match, into the scratch
+     */
+    private void expand(String queryTerm, Scratch scratch) {
+        // Exact and prefix matches are one contiguous range of the sorted dictionary
+        int from = Arrays.binarySearch(terms, queryTerm);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        int prefixed = 0;
+        for (int termId = from; termId < terms.length && terms[termId].startsWith(queryTerm); termId++) {
+            if (terms[termId].length() == queryTerm.length()) {
+                scratch.expand(termId, EXACT);
+            } else {
+                scratch.pending[prefixed++] = termId;
+            }
+        }
+        prefixed = keepMostFrequent(scratch.pending, prefixed, MAX_EXPANSIONS - scratch.expansionCount);
+        for (int i = 0; i < prefixed; i++) {
+            int termId = scratch.pending[i];
+            // Completions that add little to the query are closer to an exact match
+            scratch.expand(termId, PREFIX + 0.3f * queryTerm.length() / terms[termId].length());
+        }
+
+        Set<String> queryTrigrams = SearchText.trigrams(queryTerm);
+        if (queryTrigrams.isEmpty() || scratch.expansionCount == MAX_EXPANSIONS) {
+            return;
+        }
+
+        // Count the trigrams every dictionary term shares with the query term
+        int sharingCount = 0;
+        for (String trigram : queryTrigrams) {
+            int[] termIds = termsByTrigram.get(trigram);
+            if (termIds == null) {
+                continue;
+            }
+            for (int termId : termIds) {
+                if (scratch.sharedTrigrams[termId]++ == 0) {
+                    scratch.sharing[sharingCount++] = termId;
+                }
+            }
+        }
+
+        try {
+            int infixes = 0;
+            for (int i = 0; i < sharingCount; i++) {
+                int termId = scratch.sharing[i];
+                if (scratch.sharedTrigrams[termId] == queryTrigrams.size() && scratch.expansionWeights[termId] == 0
+                        && terms[termId].contains(queryTerm)) {
+                    scratch.pending[infixes++] = termId;
+                }
+            }
+            infixes = keepMostFrequent(scratch.pending, infixes, MAX_EXPANSIONS - scratch.expansionCount);
+            for (int i = 0; i < infixes; i++) {
+                scratch.expand(scratch.pending[i], INFIX);
+            }
+
+            // Misspellings are only considered when the query term matched nothing as typed
+            if (scratch.expansionCount > 0 || queryTerm.length() < 4) {
+                return;
+            }
+            int similar = 0;
+            for (int i = 0; i < sharingCount; i++) {
+                if (similarity(scratch, queryTrigrams.size(), scratch.sharing[i]) >= MIN_SIMILARITY) {
+                    scratch.pending[similar++] = scratch.sharing[i];
+                }
+            }
+            similar = keepMostFrequent(scratch.pending, similar, MAX_EXPANSIONS);
+            for (int i = 0; i < similar; i++) {
+                int termId = scratch.pending[i];
+                scratch.expand(termId, FUZZY * similarity(scratch, queryTrigrams.size(), termId));
+            }
+        } finally {
+            for (int i = 0; i < sharingCount; i++) {
+                scratch.sharedTrigrams[scratch.sharing[i]] = 0;
+            }
+        }
+    }
+
+    // Dice coefficient of the trigrams of the query term and a dictionary term
+    private float similarity(Scratch scratch, int queryTrigrams, int termId) {
+        int termTrigrams = Math.max(terms[termId].length() - 2, 1);
+        return 2.0f * scratch.sharedTrigrams[termId] / (queryTrigrams + termTrigrams);
+    }
+
+    // Moves the terms with the longest postings to the front, returns how many are kept
+    private int keepMostFrequent(int[] termIds, int count, int keep) {
+        if (count <= keep) {
+            return count;
+        }
+        for (int i = 0; i < keep; i++) {
+            int best = i;
+            for (int j = i + 1; j < count; j++) {
+                if (postings[termIds[j]].length > postings[termIds[best]].length) {
+                    best = j;
+                }
+            }
+            int termId = termIds[i];
+            termIds[i] = termIds[best];
+            termIds[best] = termId;
+        }
+        return keep;
+    }
+}
@@ -0,0 +1,22 @@
+package com.tlam.backend.search;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for card search results
+ * Total counts every matching card, results holds the best of them up to the requested limit
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CardSearchResultDTO {
+    private String query;
+    private int total;
+    private List<CardSearchHitDTO> results;
+}
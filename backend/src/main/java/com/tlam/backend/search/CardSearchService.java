@@ -0,0 +1,143 @@
+package com.tlam.backend.search;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.stream.IntStream;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for full-text card search
+ * Keeps an inverted index of card names, set names, series, artists and rarities in memory.
+ * On every catalog reload only the sets that changed are re-analyzed, the rest of the index is reused.
+ */
+@Slf4j
+@Service
+public class CardSearchService {
+
+    private final CatalogService catalogService;
+
+    // Query buffers kept per index, one per core covers the searches that actually run in parallel
+    private static final int POOLED_SCRATCHES = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Index, the snapshot its ordinals refer to and the segments it was merged from, replaced as a whole on rebuild
+     * The scratch pool goes with the index, so the buffers of a replaced index are garbage as soon as its searches end.
+     */
+    record SearchState(CatalogSnapshot snapshot, Map<String, SearchSegment> segments, CardSearchIndex index,
+                       BlockingQueue<CardSearchIndex.Scratch> scratches) {
+        static final SearchState EMPTY = new SearchState(CatalogSnapshot.empty(), Map.of(), CardSearchIndex.empty());
+
+        SearchState(CatalogSnapshot snapshot, Map<String, SearchSegment> segments, CardSearchIndex index) {
+            this(snapshot, segments, index, new ArrayBlockingQueue<>(POOLED_SCRATCHES));
+        }
+
+        // Borrows a pooled scratch, searches beyond the pool size allocate one that is dropped if the pool is full again
+        CardSearchIndex.Result search(String query, int limit) {
+            CardSearchIndex.Scratch scratch = scratches.poll();
+            if (scratch == null) {
+                scratch = index.newScratch();
+            }
+            try {
+                return index.search(query, limit, scratch);
+            } finally {
+                scratches.offer(scratch);
+            }
+        }
+    }
+
+    private volatile SearchState state = SearchState.EMPTY;
+
+    public CardSearchService(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        state = rebuild(state, event.snapshot());
+    }
+
+    /**
+     * Finds the cards matching every term of the query, best match first
+     */
+    public CardSearchResultDTO search(String query, int limit) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        SearchState current = state;
+        long start = System.nanoTime();
+        CardSearchIndex.Result result = current.search(query, limit);
+        log.debug("Search for '{}' matched {} cards in {} µs",
+                query, result.total(), (System.nanoTime() - start) / 1_000);
+
+        return toResult(current.snapshot(), query, result);
+    }
+
+    static SearchState rebuild(SearchState previous, CatalogSnapshot snapshot) {
+        long start = System.nanoTime();
+        Map<String, SearchSegment> segments = new HashMap<>();
+        Map<SearchSegment, Integer> offsets = new HashMap<>();
+        int reused = 0;
+
+        for (CardView first : firstCardOfEachSet(snapshot)) {
+            List<CardView> cards = snapshot.getCardViewsBySet(first.setId());
+            CardSetView set = snapshot.getSet(first.setId()).orElse(null);
+
+            SearchSegment segment = previous.segments().get(first.setId());
+            if (segment != null && segment.isCurrent(set, cards)) {
+                reused++;
+            } else {
+                segment = SearchSegment.build(set, cards);
+            }
+            segments.put(first.setId(), segment);
+            offsets.put(segment, snapshot.getOrdinal(first.id()));
+        }
+
+        CardSearchIndex index = CardSearchIndex.merge(snapshot.getCards().size(), offsets);
+        log.info("Built card search index with {} terms over {} cards in {} ms ({} sets re-analyzed, {} reused)",
+                index.termCount(), index.documentCount(), (System.nanoTime() - start) / 1_000_000,
+                segments.size() - reused, reused);
+        return new SearchState(snapshot, Map.copyOf(segments), index);
+    }
+
+    static CardSearchResultDTO toResult(CatalogSnapshot snapshot, String query, CardSearchIndex.Result result) {
+        List<CardSearchHitDTO> hits = result.hits().stream()
+                .map(hit -> {
+                    CardView card = snapshot.getCardByOrdinal(hit.ordinal());
+                    return CardSearchHitDTO.builder()
+                            .card(snapshot.getCard(card.id()).orElseThrow())
+                            .setId(card.setId())
+                            .setName(snapshot.getSet(card.setId()).map(CardSetView::name).orElse(null))
+                            .score(hit.score())
+                            .build();
+                })
+                .toList();
+
+        return CardSearchResultDTO.builder()
+                .query(query)
+                .total(result.total())
+                .results(hits)
+                .build();
+    }
+
+    // Cards of a set have consecutive ordinals, so each set's segment starts at its first card
+    private static List<CardView> firstCardOfEachSet(CatalogSnapshot snapshot) {
+        List<CardView> cards = snapshot.getCards();
+        return IntStream.range(0, cards.size())
+                .filter(ordinal -> ordinal == 0 || !cards.get(ordinal).setId().equals(cards.get(ordinal - 1).setId()))
+                .mapToObj(cards::get)
+                .toList();
+    }
+}
@@ -0,0 +1,61 @@
+package com.tlam.backend.search;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+
+/**
+ * Card attributes covered by search, with the weight a match in each one contributes to the score
+ * Postings record the fields a term occurs in as a bit mask, one bit per field.
+ */
+enum SearchField {
+
+    NAME(4.0f),
+    SET_NAME(2.0f),
+    ARTIST(2.0f),
+    SERIES(1.0f),
+    RARITY(1.0f);
+
+    // Weight of every possible field mask, looked up per posting while scoring
+    private static final float[] MASK_WEIGHTS = maskWeights();
+
+    private final float weight;
+
+    SearchField(float weight) {
+        this.weight = weight;
+    }
+
+    int bit() {
+        return 1 << ordinal();
+    }
+
+    String valueOf(CardView card, CardSetView set) {
+        return switch (this) {
+            case NAME -> card.name();
+            case SET_NAME -> set != null ? set.name() : null;
+            case ARTIST -> card.artist();
+            case SERIES -> set != null ? set.series() : null;
+            case RARITY -> card.rarity();
+        };
+    }
+
+    static float weight(int mask) {
+        return MASK_WEIGHTS[mask];
+    }
+
+    // The best field counts fully, every other field the term also occurs in adds a tenth of its weight
+    private static float[] maskWeights() {
+        float[] weights = new float[1 << values().length];
+        for (int mask = 0; mask < weights.length; mask++) {
+            float best = 0;
+            float total = 0;
+            for (SearchField field : values()) {
+                if ((mask & field.bit()) != 0) {
+                    best = Math.max(best, field.weight);
+                    total += field.weight;
+                }
+            }
+            weights[mask] = best + (total - best) * 0.1f;
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,92 @@
+package com.tlam.backend.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+
+/**
+ * Analyzed postings of the cards of one set
+ * Analysis is the expensive part of indexing, so segments are kept across catalog reloads
+ * and only rebuilt for sets whose cards or set attributes changed.
+ */
+final class SearchSegment {
+
+    private final CardSetView set;
+    private final List<CardView> cards;
+
+    // Term to postings, each posting is (card position in the set << 8) | field mask, ascending by position
+    private final Map<String, int[]> postings;
+
+    // Number of terms in each card's name, used to favour short names
+    private final byte[] nameLengths;
+
+    private SearchSegment(CardSetView set, List<CardView> cards, Map<String, int[]> postings, byte[] nameLengths) {
+        this.set = set;
+        this.cards = cards;
+        this.postings = postings;
+        this.nameLengths = nameLengths;
+    }
+
+    static SearchSegment build(CardSetView set, List<CardView> cards) {
+        Map<String, int[]> postings = new HashMap<>();
+        Map<String, Integer> sizes = new HashMap<>();
+        byte[] nameLengths = new byte[cards.size()];
+
+        for (int position = 0; position < cards.size(); position++) {
+            CardView card = cards.get(position);
+            Map<String, Integer> masks = new HashMap<>();
+            for (SearchField field : SearchField.values()) {
+                List<String> terms = SearchText.terms(field.valueOf(card, set));
+                for (String term : terms) {
+                    masks.merge(term, field.bit(), (a, b) -> a | b);
+                }
+                if (field == SearchField.NAME) {
+                    nameLengths[position] = (byte) Math.min(terms.size(), Byte.MAX_VALUE);
+                }
+            }
+
+            for (Map.Entry<String, Integer> mask : masks.entrySet()) {
+                String term = mask.getKey();
+                int size = sizes.getOrDefault(term, 0);
+                int[] termPostings = postings.get(term);
+                if (termPostings == null || termPostings.length == size) {
+                    termPostings = termPostings == null ? new int[4] : Arrays.copyOf(termPostings, size * 2);
+                    postings.put(term, termPostings);
+                }
+                termPostings[size] = (position << 8) | mask.getValue();
+                sizes.put(term, size + 1);
+            }
+        }
+
+        postings.replaceAll((term, termPostings) -> Arrays.copyOf(termPostings, sizes.get(term)));
+        return new SearchSegment(set, List.copyOf(cards), Map.copyOf(postings), nameLengths);
+    }
+
+    /**
+     * Whether the segment was built from exactly these set attributes and cards
+     */
+    boolean isCurrent(CardSetView set, List<CardView> cards) {
+        return Objects.equals(this.set, set) && this.cards.equals(cards);
+    }
+
+    CardSetView set() {
+        return set;
+    }
+
+    List<CardView> cards() {
+        return cards;
+    }
+
+    Map<String, int[]> postings() {
+        return postings;
+    }
+
+    byte[] nameLengths() {
+        return nameLengths;
+    }
+}
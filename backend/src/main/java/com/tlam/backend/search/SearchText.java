@@ -0,0 +1,65 @@
+package com.tlam.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Text analysis shared by indexing and querying, so both sides produce the same terms
+ * Terms are lowercase ASCII letters and digits: "Pokémon" becomes "pokemon", "Farfetch'd" becomes "farfetchd",
+ * and hyphenated names are indexed both split and joined ("ho-oh" gives "ho", "oh" and "hooh").
+ */
+public final class SearchText {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern APOSTROPHES = Pattern.compile("['’]");
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9-]+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Splits text into distinct terms, in order of first appearance
+     */
+    public static List<String> terms(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : SEPARATORS.split(normalize(text))) {
+            String joined = word.replace("-", "");
+            if (joined.isEmpty()) {
+                continue;
+            }
+            for (String part : word.split("-")) {
+                if (!part.isEmpty()) {
+                    terms.add(part);
+                }
+            }
+            terms.add(joined);
+        }
+        return new ArrayList<>(terms);
+    }
+
+    /**
+     * Distinct trigrams of a term, empty for terms shorter than three characters
+     */
+    public static Set<String> trigrams(String term) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= term.length(); i++) {
+            trigrams.add(term.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = DIACRITICS.matcher(decomposed).replaceAll("");
+        return APOSTROPHES.matcher(stripped).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,22 @@
+package com.tlam.backend.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for typeahead suggestions
+ * Card suggestions stand for every printing of a name, cardCount is the number of printings.
+ * Set suggestions carry the set ID, cardCount is the number of cards in the set.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SuggestionDTO {
+    private String text;
+    private SuggestionType type;
+    private String setId;
+    private int cardCount;
+}
@@ -0,0 +1,11 @@
+package com.tlam.backend.search;
+
+/**
+ * What a typeahead suggestion completes to
+ */
+public enum SuggestionType {
+    // A card name, shared by every printing of the card
+    CARD,
+    // A set name
+    SET
+}
@@ -0,0 +1,272 @@
+package com.tlam.backend.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * Immutable prefix index answering search-as-you-type queries
+ *
+ * Keys are normalized names and every suffix of a name starting at a word ("charizard ex" and "ex"),
+ * stored in a ternary search tree kept as parallel arrays. Each node holds the best suggestions under
+ * its prefix, ranked once at build time, so a keystroke is a walk down the tree and a copy of that list.
+ */
+final class TypeaheadIndex {
+
+    // Suggestions ranked per node, the most a query can ask for
+    static final int MAX_SUGGESTIONS = 10;
+
+    private static final Pattern SEPARATORS = Pattern.compile("[^a-z0-9]+");
+
+    /**
+     * One suggestion before ranking, recency is higher for newer cards and sets
+     */
+    record Entry(String text, SuggestionType type, String setId, int cardCount, long popularity, int recency) {
+    }
+
+    private static final Comparator<Entry> RANKING = Comparator
+            .comparingLong(Entry::popularity).reversed()
+            .thenComparingInt(entry -> entry.text().length())
+            .thenComparing(Comparator.comparingInt(Entry::recency).reversed())
+            .thenComparing(Entry::text);
+
+    // Entries in ranking order, suggestion lists refer to positions in this array
+    private final Entry[] entries;
+
+    // Ternary search tree: split character and low, equal and high child of every node, -1 for none
+    private final char[] splitChars;
+    private final int[] lowChildren;
+    private final int[] equalChildren;
+    private final int[] highChildren;
+
+    // Suggestions of node n are suggestions[suggestionOffsets[n] .. + suggestionCounts[n]], nodes with equal lists share them
+    private final int[] suggestionOffsets;
+    private final byte[] suggestionCounts;
+    private final int[] suggestions;
+
+    private TypeaheadIndex(Entry[] entries, Tree tree, int[] suggestionOffsets, byte[] suggestionCounts, int[] suggestions) {
+        this.entries = entries;
+        this.splitChars = Arrays.copyOf(tree.splitChars, tree.size);
+        this.lowChildren = Arrays.copyOf(tree.lowChildren, tree.size);
+        this.equalChildren = Arrays.copyOf(tree.equalChildren, tree.size);
+        this.highChildren = Arrays.copyOf(tree.highChildren, tree.size);
+        this.suggestionOffsets = suggestionOffsets;
+        this.suggestionCounts = suggestionCounts;
+        this.suggestions = suggestions;
+    }
+
+    static TypeaheadIndex build(List<Entry> unranked) {
+        Entry[] entries = unranked.stream().sorted(RANKING).toArray(Entry[]::new);
+
+        // Keys of every entry, and the distinct keys sorted so the tree can be filled middle first and stay balanced
+        List<Set<String>> entryKeys = new ArrayList<>(entries.length);
+        TreeMap<String, Boolean> distinctKeys = new TreeMap<>();
+        for (Entry entry : entries) {
+            Set<String> keys = keys(entry.text());
+            entryKeys.add(keys);
+            keys.forEach(key -> distinctKeys.put(key, Boolean.TRUE));
+        }
+        String[] sortedKeys = distinctKeys.keySet().toArray(String[]::new);
+        Tree tree = new Tree();
+        tree.insertBalanced(sortedKeys, 0, sortedKeys.length);
+
+        // Entries are visited best first, so every node's list fills up with its best entries and is already ranked
+        int[] ranked = new int[tree.size * MAX_SUGGESTIONS];
+        byte[] counts = new byte[tree.size];
+        for (int entryId = 0; entryId < entries.length; entryId++) {
+            for (String key : entryKeys.get(entryId)) {
+                int node = 0;
+                int position = 0;
+                while (node != -1) {
+                    char c = key.charAt(position);
+                    if (c < tree.splitChars[node]) {
+                        node = tree.lowChildren[node];
+                    } else if (c > tree.splitChars[node]) {
+                        node = tree.highChildren[node];
+                    } else {
+                        add(ranked, counts, node, entryId);
+                        if (++position == key.length()) {
+                            break;
+                        }
+                        node = tree.equalChildren[node];
+                    }
+                }
+            }
+        }
+
+        // Children are created after their parents, so walking backwards compacts every equal child before its parent
+        int[] offsets = new int[tree.size];
+        int[] suggestions = new int[ranked.length];
+        int used = 0;
+        for (int node = tree.size - 1; node >= 0; node--) {
+            int child = tree.equalChildren[node];
+            if (child != -1 && counts[child] == counts[node]
+                    && Arrays.equals(ranked, node * MAX_SUGGESTIONS, node * MAX_SUGGESTIONS + counts[node],
+                            ranked, child * MAX_SUGGESTIONS, child * MAX_SUGGESTIONS + counts[child])) {
+                offsets[node] = offsets[child];
+            } else {
+                System.arraycopy(ranked, node * MAX_SUGGESTIONS, suggestions, used, counts[node]);
+                offsets[node] = used;
+                used += counts[node];
+            }
+        }
+
+        return new TypeaheadIndex(entries, tree, offsets, counts, Arrays.copyOf(suggestions, used));
+    }
+
+    static TypeaheadIndex empty() {
+        return build(List.of());
+    }
+
+    int nodeCount() {
+        return splitChars.length;
+    }
+
+    int suggestionSlots() {
+        return suggestions.length;
+    }
+
+    /**
+     * Best suggestions whose name, or a word of it onwards, starts with the prefix
+     */
+    List<Entry> complete(String prefix, int limit) {
+        String key = key(prefix);
+        if (key.isEmpty() || splitChars.length == 0) {
+            return List.of();
+        }
+
+        int node = 0;
+        int position = 0;
+        while (node != -1) {
+            char c = key.charAt(position);
+            if (c < splitChars[node]) {
+                node = lowChildren[node];
+            } else if (c > splitChars[node]) {
+                node = highChildren[node];
+            } else if (++position == key.length()) {
+                break;
+            } else {
+                node = equalChildren[node];
+            }
+        }
+        if (node == -1) {
+            return List.of();
+        }
+
+        int count = Math.min(suggestionCounts[node], limit);
+        List<Entry> completions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            completions.add(entries[suggestions[suggestionOffsets[node] + i]]);
+        }
+        return completions;
+    }
+
+    /**
+     * Lowercase ASCII letters and digits, words separated by single spaces
+     */
+    static String key(String text) {
+        if (text == null) {
+            return "";
+        }
+        return SEPARATORS.matcher(SearchText.normalize(text)).replaceAll(" ").trim();
+    }
+
+    // The whole name and the rest of it from every later word
+    private static Set<String> keys(String text) {
+        Set<String> keys = new LinkedHashSet<>();
+        String key = key(text);
+        if (!key.isEmpty()) {
+            keys.add(key);
+        }
+        for (int i = key.indexOf(' '); i != -1; i = key.indexOf(' ', i + 1)) {
+            keys.add(key.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private static void add(int[] ranked, byte[] counts, int node, int entryId) {
+        int start = node * MAX_SUGGESTIONS;
+        if (counts[node] == MAX_SUGGESTIONS) {
+            return;
+        }
+        // An entry reaches a node once per key sharing the prefix, keep it once
+        for (int i = 0; i < counts[node]; i++) {
+            if (ranked[start + i] == entryId) {
+                return;
+            }
+        }
+        ranked[start + counts[node]++] = entryId;
+    }
+
+    // Growable node arrays used while building
+    private static final class Tree {
+        char[] splitChars = new char[1024];
+        int[] lowChildren = new int[1024];
+        int[] equalChildren = new int[1024];
+        int[] highChildren = new int[1024];
+        int size;
+
+        void insertBalanced(String[] sortedKeys, int from, int to) {
+            if (from >= to) {
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            insert(sortedKeys[middle]);
+            insertBalanced(sortedKeys, from, middle);
+            insertBalanced(sortedKeys, middle + 1, to);
+        }
+
+        void insert(String key) {
+            if (size == 0) {
+                newNode(key.charAt(0));
+            }
+            int node = 0;
+            int position = 0;
+            while (true) {
+                // Children are linked after newNode returns, it may have replaced the arrays
+                char c = key.charAt(position);
+                if (c < splitChars[node]) {
+                    if (lowChildren[node] == -1) {
+                        int child = newNode(c);
+                        lowChildren[node] = child;
+                    }
+                    node = lowChildren[node];
+                } else if (c > splitChars[node]) {
+                    if (highChildren[node] == -1) {
+                        int child = newNode(c);
+                        highChildren[node] = child;
+                    }
+                    node = highChildren[node];
+                } else if (++position == key.length()) {
+                    return;
+                } else {
+                    if (equalChildren[node] == -1) {
+                        int child = newNode(key.charAt(position));
+                        equalChildren[node] = child;
+                    }
+                    node = equalChildren[node];
+                }
+            }
+        }
+
+        private int newNode(char c) {
+            if (size == splitChars.length) {
+                int capacity = size * 2;
+                splitChars = Arrays.copyOf(splitChars, capacity);
+                lowChildren = Arrays.copyOf(lowChildren, capacity);
+                equalChildren = Arrays.copyOf(equalChildren, capacity);
+                highChildren = Arrays.copyOf(highChildren, capacity);
+            }
+            splitChars[size] = c;
+            lowChildren[size] = -1;
+            equalChildren[size] = -1;
+            highChildren[size] = -1;
+            return size++;
+        }
+    }
+}
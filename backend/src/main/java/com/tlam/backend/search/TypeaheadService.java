@@ -0,0 +1,132 @@
+package com.tlam.backend.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogReloadedEvent;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.usercollection.CardPopularity;
+import com.tlam.backend.usercollection.CollectionEntryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service for search-as-you-type suggestions of card and set names
+ * Suggestions are ranked by how many users collect the cards behind them. The counts are taken on every catalog reload
+ * and refreshed on a fixed delay in between, so keystrokes are answered from memory without touching the database
+ * and rankings lag collection changes by at most catalog.popularity-refresh-interval.
+ */
+@Slf4j
+@Service
+public class TypeaheadService {
+
+    private final CatalogService catalogService;
+    private final CollectionEntryRepository collectionEntryRepository;
+
+    // Snapshot the index was last built from, null until the first catalog is loaded
+    private volatile CatalogSnapshot snapshot;
+    private volatile TypeaheadIndex index = TypeaheadIndex.empty();
+
+    public TypeaheadService(CatalogService catalogService, CollectionEntryRepository collectionEntryRepository) {
+        this.catalogService = catalogService;
+        this.collectionEntryRepository = collectionEntryRepository;
+    }
+
+    @EventListener
+    public void onCatalogReloaded(CatalogReloadedEvent event) {
+        snapshot = event.snapshot();
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "#{@catalogConfig.popularityRefreshInterval.toMillis()}",
+            initialDelayString = "#{@catalogConfig.popularityRefreshInterval.toMillis()}")
+    public void refreshPopularity() {
+        if (snapshot != null) {
+            rebuild();
+        }
+    }
+
+    // Synchronized so a refresh that started before a reload can't replace the index of the new catalog
+    private synchronized void rebuild() {
+        CatalogSnapshot current = snapshot;
+        long start = System.nanoTime();
+        Map<String, Long> collectors = new HashMap<>();
+        try {
+            for (CardPopularity popularity : collectionEntryRepository.countCollectorsByCard()) {
+                collectors.put(popularity.cardId(), popularity.collectors());
+            }
+        } catch (Exception e) {
+            // Suggestions still work without popularity, they are ranked by length and recency instead
+            log.warn("Failed to count collectors per card, ranking suggestions without popularity", e);
+        }
+
+        TypeaheadIndex rebuilt = TypeaheadIndex.build(entries(current, collectors));
+        index = rebuilt;
+        log.info("Built typeahead index with {} nodes and {} ranked suggestions in {} ms",
+                rebuilt.nodeCount(), rebuilt.suggestionSlots(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Suggests card and set names completing the prefix, most collected first
+     */
+    public List<SuggestionDTO> suggest(String prefix, int limit) {
+        // Fails with the usual error while the first catalog is still loading
+        catalogService.snapshot();
+
+        return index.complete(prefix, limit).stream()
+                .map(entry -> SuggestionDTO.builder()
+                        .text(entry.text())
+                        .type(entry.type())
+                        .setId(entry.setId())
+                        .cardCount(entry.cardCount())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * One card suggestion per distinct card name and one set suggestion per set
+     */
+    static List<TypeaheadIndex.Entry> entries(CatalogSnapshot snapshot, Map<String, Long> collectors) {
+        // Ordinals run from the oldest card to the newest, so the last printing seen is the newest
+        Map<String, long[]> cardNames = new LinkedHashMap<>();
+        Map<String, long[]> sets = new HashMap<>();
+        List<CardView> cards = snapshot.getCards();
+        for (int ordinal = 0; ordinal < cards.size(); ordinal++) {
+            CardView card = cards.get(ordinal);
+            long cardCollectors = collectors.getOrDefault(card.id(), 0L);
+            if (card.name() != null) {
+                accumulate(cardNames.computeIfAbsent(card.name(), name -> new long[3]), cardCollectors, ordinal);
+            }
+            accumulate(sets.computeIfAbsent(card.setId(), setId -> new long[3]), cardCollectors, ordinal);
+        }
+
+        List<TypeaheadIndex.Entry> entries = new ArrayList<>(cardNames.size() + snapshot.getSets().size());
+        cardNames.forEach((name, totals) -> entries.add(
+                new TypeaheadIndex.Entry(name, SuggestionType.CARD, null, (int) totals[0], totals[1], (int) totals[2])));
+        for (CardSetView set : snapshot.getSets()) {
+            if (set.name() == null) {
+                continue;
+            }
+            long[] totals = sets.getOrDefault(set.id(), new long[] {0, 0, -1});
+            entries.add(new TypeaheadIndex.Entry(set.name(), SuggestionType.SET, set.id(), (int) totals[0], totals[1], (int) totals[2]));
+        }
+        return entries;
+    }
+
+    // Totals are card count, collectors and newest ordinal
+    private static void accumulate(long[] totals, long collectors, int ordinal) {
+        totals[0]++;
+        totals[1] += collectors;
+        totals[2] = ordinal;
+    }
+}
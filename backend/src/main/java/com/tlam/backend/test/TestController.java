@@ -6,18 +6,18 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.tlam.backend.aws.S3ImageService;
 import com.tlam.backend.config.S3Config;
+import com.tlam.backend.image.ImageStore;
 
 @RestController
 @RequestMapping("/api/test")
 public class TestController {
 
-    private final S3ImageService s3ImageService;
+    private final ImageStore imageStore;
     private final S3Config s3Config;
 
-    public TestController(S3ImageService s3ImageService, S3Config s3Config) {
-        this.s3ImageService = s3ImageService;
+    public TestController(ImageStore imageStore, S3Config s3Config) {
+        this.imageStore = imageStore;
         this.s3Config = s3Config;
     }
 
@@ -34,7 +34,7 @@ public class TestController {
             String testContent = "Hello S3!";
             byte[] testData = testContent.getBytes();
             
-            String url = s3ImageService.uploadImage(testData, "test.txt", "text/plain");
+            String url = imageStore.uploadImage(testData, "test.txt", "text/plain");
             return "Successfully uploaded test file. URL: " + url;
             
         } catch (Exception e) {
@@ -0,0 +1,7 @@
+package com.tlam.backend.usercollection;
+
+/**
+ * Number of users who have a card in their collection
+ */
+public record CardPopularity(String cardId, long collectors) {
+}
@@ -13,9 +13,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.tlam.backend.card.Card;
 import com.tlam.backend.card.CardDTO;
 import com.tlam.backend.card.CardRepository;
+import com.tlam.backend.catalog.CatalogService;
 import com.tlam.backend.user.UserRepository;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -42,6 +42,7 @@ public class CollectionEntryController {
     private final CollectionEntryRepository collectionEntryRepository;
     private final CardRepository cardRepository;
     private final UserRepository userRepository;
+    private final CatalogService catalogService;
 
     @PostMapping("/add")
     @Operation(summary = "Add a card to user's collection", description = "Adds a card to the user's collection or updates the quantity if it already exists")
@@ -144,22 +145,13 @@ public class CollectionEntryController {
     }
 
     private CollectionEntryDTO convertToDTO(CollectionEntry entry) {
-        // Fetch card associated with the collection entry
-        Card card = cardRepository.findById(entry.getCardId())
+        // Look up the card associated with the collection entry in the in-memory catalog
+        CardDTO cardDTO = catalogService.snapshot().getCard(entry.getCardId())
         .orElseThrow(() -> {
             log.error("Card with ID {} not found for collection entry {}", 
                 entry.getCardId(), entry.getId());
             return new RuntimeException("Card not found: " + entry.getCardId());
         });
-
-        CardDTO cardDTO = CardDTO.builder()
-                .id(card.getId())
-                .name(card.getName())
-                .number(card.getNumber())
-                .rarity(card.getRarity())
-                .smallImageUrl(card.getSmallImageUrl())
-                .largeImageUrl(card.getLargeImageUrl())
-                .build();
         
         return CollectionEntryDTO.builder()
                 .id(entry.getId())
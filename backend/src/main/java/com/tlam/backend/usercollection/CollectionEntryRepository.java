@@ -15,8 +15,22 @@ public interface CollectionEntryRepository extends JpaRepository<CollectionEntry
     Optional<CollectionEntry> findByUserIdAndCardId(Long userId, String cardId);
 
     // Find all collections entries for a specific set
-    @Query("SELECT ce FROM CollectionEntry ce WHERE ce.userId = :userId AND ce.cardId LIKE CONCAT(:setId, '-%')")
-    List<CollectionEntry> findByUserIdAndCardSetId(@Param("userId") Long userId, @Param("setId") String setId);
+    default List<CollectionEntry> findByUserIdAndCardSetId(Long userId, String setId) {
+        return findByUserIdAndCardIdRange(userId, cardIdRangeStart(setId), cardIdRangeEnd(setId));
+    }
+
+    // Quantities of the cards a user owns in a set, an index-only range scan of idx_collection_entries_user_card_prefix
+    default List<OwnedQuantity> findQuantitiesByUserIdAndSetId(Long userId, String setId) {
+        return findQuantitiesByUserIdAndCardIdRange(userId, cardIdRangeStart(setId), cardIdRangeEnd(setId));
+    }
+
+    @Query(value = "SELECT ce.* FROM collection_entries ce " +
+                   "WHERE ce.user_id = :userId AND ce.card_id ~>=~ :start AND ce.card_id ~<~ :end", nativeQuery = true)
+    List<CollectionEntry> findByUserIdAndCardIdRange(@Param("userId") Long userId, @Param("start") String start, @Param("end") String end);
+
+    @Query(value = "SELECT ce.card_id AS cardId, ce.quantity AS quantity FROM collection_entries ce " +
+                   "WHERE ce.user_id = :userId AND ce.card_id ~>=~ :start AND ce.card_id ~<~ :end", nativeQuery = true)
+    List<OwnedQuantity> findQuantitiesByUserIdAndCardIdRange(@Param("userId") Long userId, @Param("start") String start, @Param("end") String end);
 
     // Delete a specific collection entry by userId and cardId
     void deleteByUserIdAndCardId(Long userId, String cardId);
@@ -30,6 +44,33 @@ public interface CollectionEntryRepository extends JpaRepository<CollectionEntry
     Long countTotalCardsByUserId(@Param("userId") Long userId);
 
     // Count unique cards in a user's collection for a specific set
-    @Query("SELECT COUNT(DISTINCT ce.cardId) FROM CollectionEntry ce WHERE ce.userId = :userId AND ce.cardId LIKE CONCAT(:setId, '-%')")
-    Long countUniqueCardsByUserIdAndSetId(@Param("userId") Long userId, @Param("setId") String setId);
+    default Long countUniqueCardsByUserIdAndSetId(Long userId, String setId) {
+        return countUniqueCardsByUserIdAndCardIdRange(userId, cardIdRangeStart(setId), cardIdRangeEnd(setId));
+    }
+
+    @Query(value = "SELECT COUNT(DISTINCT ce.card_id) FROM collection_entries ce " +
+                   "WHERE ce.user_id = :userId AND ce.card_id ~>=~ :start AND ce.card_id ~<~ :end", nativeQuery = true)
+    Long countUniqueCardsByUserIdAndCardIdRange(@Param("userId") Long userId, @Param("start") String start, @Param("end") String end);
+
+    /**
+     * First card ID of a set in byte-wise order (inclusive), every card ID of the set starts with it
+     * The set queries spell the range out with the text_pattern_ops operators of idx_collection_entries_user_card_prefix.
+     * A LIKE 'sv1-%' prefix only becomes an index range in a custom plan: once pgJDBC switches to a server-side
+     * prepared statement (after prepareThreshold executions), PostgreSQL may use a generic plan, where LIKE $1
+     * is a filter over all of the user's entries. Bound range operators stay an index range in both plans.
+     */
+    static String cardIdRangeStart(String setId) {
+        return setId + "-";
+    }
+
+    /**
+     * First card ID after the set in byte-wise order (exclusive), "." is the byte after "-"
+     */
+    static String cardIdRangeEnd(String setId) {
+        return setId + ".";
+    }
+
+    // Count the collectors of every collected card, entries are unique per user and card
+    @Query("SELECT new com.tlam.backend.usercollection.CardPopularity(ce.cardId, COUNT(ce)) FROM CollectionEntry ce GROUP BY ce.cardId")
+    List<CardPopularity> countCollectorsByCard();
 }
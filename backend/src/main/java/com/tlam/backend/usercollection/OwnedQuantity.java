@@ -0,0 +1,7 @@
+package com.tlam.backend.usercollection;
+
+/**
+ * Number of copies of a card in a user's collection
+ */
+public record OwnedQuantity(String cardId, int quantity) {
+}
@@ -0,0 +1,83 @@
+package com.tlam.backend.usercollection;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.tlam.backend.exception.CatalogUnavailableException;
+import com.tlam.backend.user.User;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * Controller for set pages
+ * Returns a set, its cards and the caller's owned quantities in one response, instead of a card list
+ * and the whole collection to be joined by the client
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/sets")
+@RequiredArgsConstructor
+@Tag(name = "Card Sets", description = "Operations related to Pokémon card sets")
+public class SetPageController {
+
+    private final SetPageService setPageService;
+
+    @Operation(
+        summary = "Get a set page",
+        description = "Returns the set, its cards in listing order, and the quantity the signed in user owns of each card they have."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Set page returned",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = SetPageDTO.class)
+            )
+        ),
+        @ApiResponse(responseCode = "401", description = "Not signed in"),
+        @ApiResponse(responseCode = "404", description = "No set with this ID")
+    })
+    @GetMapping("/{setID}/page")
+    public ResponseEntity<SetPageDTO> getSetPage(
+        @Parameter(description = "ID of the set", example = "sv1", required = true)
+        @PathVariable String setID,
+        @AuthenticationPrincipal User user
+    ) {
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        try {
+            Optional<SetPageDTO> page = setPageService.getSetPage(setID, user.getId());
+            if (page.isEmpty()) {
+                log.info("No set found with ID: {}", setID);
+                return ResponseEntity.notFound().build();
+            }
+
+            log.info("Returning set page of {} with {} of {} cards owned by user ID: {}",
+                    setID, page.get().getOwnedCount(), page.get().getCards().size(), user.getId());
+            return ResponseEntity.ok(page.get());
+        } catch (CatalogUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.error("Error retrieving set page of {} for user ID: {}", setID, user.getId(), e);
+            throw new RuntimeException("Failed to retrieve set page for set with ID: " + setID);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.tlam.backend.usercollection;
+
+import java.util.List;
+import java.util.Map;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.cardset.CardSetDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for everything needed to show a set: the set, its cards in order, and what the user owns of it
+ * Owned maps the ID of every card the user has to its quantity, in card order. Cards the user does not have are left out.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SetPageDTO {
+    private CardSetDTO set;
+    private List<CardDTO> cards;
+    private Map<String, Integer> owned;
+    private int ownedCount;
+}
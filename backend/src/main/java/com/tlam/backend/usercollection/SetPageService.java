@@ -0,0 +1,72 @@
+package com.tlam.backend.usercollection;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.catalog.CatalogService;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for set pages, combining a set from the catalog with the quantities a user owns of its cards
+ * The set and its cards come from the in-memory catalog, the quantities from one index range scan of the collection.
+ */
+@Service
+@RequiredArgsConstructor
+public class SetPageService {
+
+    private final CatalogService catalogService;
+    private final CollectionEntryRepository collectionEntryRepository;
+
+    /**
+     * Returns the set page for the user, or empty if there is no such set
+     */
+    public Optional<SetPageDTO> getSetPage(String setId, Long userId) {
+        CatalogSnapshot snapshot = catalogService.snapshot();
+        Optional<CardSetDTO> set = snapshot.getSetDTO(setId);
+        if (set.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<OwnedQuantity> quantities = collectionEntryRepository.findQuantitiesByUserIdAndSetId(userId, setId);
+        return Optional.of(toSetPage(snapshot, set.get(), quantities));
+    }
+
+    static SetPageDTO toSetPage(CatalogSnapshot snapshot, CardSetDTO set, List<OwnedQuantity> quantities) {
+        List<CardView> cards = snapshot.getCardViewsBySet(set.getId());
+
+        // Cards of a set have consecutive ordinals, so quantities line up with the cards by ordinal offset
+        int[] quantityByCard = new int[cards.size()];
+        if (!cards.isEmpty()) {
+            int first = snapshot.getOrdinal(cards.get(0).id());
+            for (OwnedQuantity quantity : quantities) {
+                int offset = snapshot.findOrdinal(quantity.cardId()) - first;
+                // Entries for cards that are no longer in the set are left out
+                if (offset >= 0 && offset < cards.size()) {
+                    quantityByCard[offset] = quantity.quantity();
+                }
+            }
+        }
+
+        Map<String, Integer> owned = new LinkedHashMap<>();
+        for (int i = 0; i < cards.size(); i++) {
+            if (quantityByCard[i] > 0) {
+                owned.put(cards.get(i).id(), quantityByCard[i]);
+            }
+        }
+
+        return SetPageDTO.builder()
+                .set(set)
+                .cards(snapshot.getCardsBySet(set.getId()))
+                .owned(owned)
+                .ownedCount(owned.size())
+                .build();
+    }
+}
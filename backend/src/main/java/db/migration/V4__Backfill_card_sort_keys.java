@@ -0,0 +1,85 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Locale;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Computes sort_key for cards ingested before it existed, then makes the column mandatory
+ * The key is a frozen copy of CardNumberSortKey as it was when this migration was written, so existing and newly
+ * seeded cards sort identically and the migration keeps producing the same keys if the application code changes.
+ */
+public class V4__Backfill_card_sort_keys extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement select = connection.createStatement();
+             ResultSet cards = select.executeQuery("SELECT id, number FROM cards WHERE sort_key IS NULL");
+             PreparedStatement update = connection.prepareStatement("UPDATE cards SET sort_key = ? WHERE id = ?")) {
+            int pending = 0;
+            while (cards.next()) {
+                update.setString(1, sortKey(cards.getString("number")));
+                update.setString(2, cards.getString("id"));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+
+        try (Statement alter = connection.createStatement()) {
+            alter.execute("ALTER TABLE cards ALTER COLUMN sort_key SET NOT NULL");
+        }
+    }
+
+    private static final int MAX_LENGTH = 64;
+    private static final int PREFIX_WIDTH = 8;
+    private static final int NUMBER_WIDTH = 9;
+
+    // Prefix, zero padded number and suffix, see CardNumberSortKey
+    private static String sortKey(String number) {
+        String normalized = number == null ? "" : number.trim().toUpperCase(Locale.ROOT);
+
+        int prefixEnd = 0;
+        while (prefixEnd < normalized.length() && !isDigit(normalized.charAt(prefixEnd))) {
+            prefixEnd++;
+        }
+        int numberEnd = prefixEnd;
+        while (numberEnd < normalized.length() && isDigit(normalized.charAt(numberEnd))) {
+            numberEnd++;
+        }
+
+        String prefix = normalized.substring(0, prefixEnd).replaceAll("[^A-Z0-9]", "");
+        String digits = normalized.substring(prefixEnd, numberEnd).replaceFirst("^0+(?=.)", "");
+        String suffix = normalized.substring(numberEnd).replaceAll("[^A-Z0-9]", "");
+
+        StringBuilder key = new StringBuilder(MAX_LENGTH);
+        key.append(prefix.isEmpty() ? '0' : '1');
+        String truncated = prefix.length() > PREFIX_WIDTH ? prefix.substring(0, PREFIX_WIDTH) : prefix;
+        key.append(truncated).append("0".repeat(PREFIX_WIDTH - truncated.length()));
+        if (digits.isEmpty() || digits.length() > NUMBER_WIDTH) {
+            key.append("9".repeat(NUMBER_WIDTH));
+        } else {
+            key.append("0".repeat(NUMBER_WIDTH - digits.length())).append(digits);
+        }
+        key.append(suffix);
+        return key.length() > MAX_LENGTH ? key.substring(0, MAX_LENGTH) : key.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,6 @@
+-- Format legality of a card ("Legal" or "Banned", null when the card is not allowed in the format).
+-- Used by the deck validator. Legalities change with every rotation and are refreshed on every seed.
+ALTER TABLE cards
+    ADD COLUMN standard_legality  VARCHAR(16),
+    ADD COLUMN expanded_legality  VARCHAR(16),
+    ADD COLUMN unlimited_legality VARCHAR(16);
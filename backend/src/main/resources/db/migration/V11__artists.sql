@@ -0,0 +1,20 @@
+-- Illustrators are dictionary-encoded: each name is stored once and cards refer to it by id.
+-- Listed and browsed through /api/artists.
+CREATE TABLE artists (
+    id   SERIAL       PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE
+);
+
+INSERT INTO artists (name)
+SELECT DISTINCT artist FROM cards WHERE artist IS NOT NULL AND artist <> '' ORDER BY artist;
+
+ALTER TABLE cards ADD COLUMN artist_id INTEGER REFERENCES artists (id);
+
+-- Moving the name to the dictionary does not change any card, so it is kept out of the catalog changelog
+ALTER TABLE cards DISABLE TRIGGER cards_changelog_update;
+UPDATE cards SET artist_id = artists.id FROM artists WHERE artists.name = cards.artist;
+ALTER TABLE cards ENABLE TRIGGER cards_changelog_update;
+
+ALTER TABLE cards DROP COLUMN artist;
+
+CREATE INDEX idx_cards_artist_id ON cards (artist_id);
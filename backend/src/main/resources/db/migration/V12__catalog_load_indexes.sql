@@ -0,0 +1,8 @@
+-- The catalog is loaded whole by CardRepository.findAllViews and CardSetRepository.findAllViews,
+-- the per-set and per-series repository queries named in V2 and V3 no longer exist.
+
+-- Still used: findAllViews reads cards in (set_id, sort_key, id) order, so the catalog load needs no sort step
+COMMENT ON INDEX idx_cards_set_sort_key IS 'CardRepository.findAllViews: whole catalog in set and card-number order';
+
+-- Sets are never looked up by series any more, so the index was only maintained on every seed
+DROP INDEX IF EXISTS idx_card_sets_series_release_date;
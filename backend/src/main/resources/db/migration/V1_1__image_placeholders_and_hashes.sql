@@ -0,0 +1,8 @@
+-- BlurHash placeholders of card images and set logos, and the perceptual hash of card images used for recognition.
+-- They predate migrations, so databases created by ddl-auto: update after they were added already have them.
+-- Runs before V2, which indexes the cards still missing a hash.
+ALTER TABLE card_sets ADD COLUMN IF NOT EXISTS logo_placeholder VARCHAR(64);
+
+ALTER TABLE cards
+    ADD COLUMN IF NOT EXISTS image_placeholder VARCHAR(64),
+    ADD COLUMN IF NOT EXISTS image_hash        BIGINT;
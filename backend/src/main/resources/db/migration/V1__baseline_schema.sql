@@ -0,0 +1,56 @@
+-- Baseline schema, matching what ddl-auto: update generated from the entities.
+-- Existing databases are baselined at this version, so this script only runs on empty databases.
+
+CREATE TABLE users (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name       VARCHAR(100) NOT NULL,
+    email      VARCHAR(100) NOT NULL UNIQUE,
+    password   VARCHAR(128) NOT NULL,
+    created_at TIMESTAMP(6),
+    updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE password_reset_codes (
+    id         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email      VARCHAR(100) NOT NULL,
+    code       VARCHAR(6)   NOT NULL,
+    is_used    BOOLEAN      NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6)
+);
+
+CREATE TABLE card_sets (
+    id            VARCHAR(255) PRIMARY KEY,
+    name          VARCHAR(255) NOT NULL,
+    series        VARCHAR(255) NOT NULL,
+    language      VARCHAR(255) NOT NULL CHECK (language IN ('ENGLISH', 'JAPANESE')),
+    symbol_url    VARCHAR(255),
+    logo_url      VARCHAR(255),
+    printed_total INTEGER      NOT NULL,
+    total_cards   INTEGER      NOT NULL,
+    release_date  DATE         NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6)
+);
+
+CREATE TABLE cards (
+    id              VARCHAR(255) PRIMARY KEY,
+    name            VARCHAR(255) NOT NULL,
+    number          VARCHAR(255) NOT NULL,
+    set_id          VARCHAR(255) NOT NULL,
+    rarity          VARCHAR(255) NOT NULL,
+    small_image_url VARCHAR(255),
+    large_image_url VARCHAR(255),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6)
+);
+
+CREATE TABLE collection_entries (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id       BIGINT       NOT NULL,
+    card_id       VARCHAR(255) NOT NULL,
+    quantity      INTEGER      NOT NULL,
+    acquired_date TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    CONSTRAINT uk_collection_entries_user_card UNIQUE (user_id, card_id)
+);
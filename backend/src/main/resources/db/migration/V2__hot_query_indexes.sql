@@ -0,0 +1,23 @@
+-- Indexes for every repository query that runs on a request path.
+-- Each index is named after the repository method it serves.
+
+-- CardRepository.findBySetId
+CREATE INDEX IF NOT EXISTS idx_cards_set_id ON cards (set_id);
+
+-- CardRepository.findByImageHashIsNull: only cards still waiting for a hash are indexed
+CREATE INDEX IF NOT EXISTS idx_cards_missing_image_hash ON cards (id) WHERE image_hash IS NULL;
+
+-- CardSetRepository.findBySeriesOrderByReleaseDateDesc: equality on series, already in result order
+CREATE INDEX IF NOT EXISTS idx_card_sets_series_release_date ON card_sets (series, release_date DESC);
+
+-- CollectionEntryRepository.findByUserIdAndCardSetId / countUniqueCardsByUserIdAndSetId:
+-- text_pattern_ops compares byte-wise, so "card_id LIKE 'sv1-%'" becomes an index range whatever the
+-- database collation is. Quantity is included so countTotalCardsByUserId is an index-only scan.
+-- findByUserIdAndCardId and deleteByUserIdAndCardId use the (user_id, card_id) unique constraint.
+CREATE INDEX IF NOT EXISTS idx_collection_entries_user_card_prefix
+    ON collection_entries (user_id, card_id text_pattern_ops) INCLUDE (quantity);
+
+-- PasswordResetCodeRepository.findByEmailAndCodeAndIsUsedFalseAndExpiresAtAfter / markAllCodesAsUsedForEmail:
+-- used codes are never looked up again, so they are left out of the index
+CREATE INDEX IF NOT EXISTS idx_password_reset_codes_unused
+    ON password_reset_codes (email, code, expires_at) WHERE is_used = false;
@@ -0,0 +1,7 @@
+-- Natural card-number sort key, computed at ingest by CardNumberSortKey.
+-- The key is designed for byte-wise comparison, so the column uses the "C" collation whatever the database default is.
+ALTER TABLE cards ADD COLUMN sort_key VARCHAR(64) COLLATE "C";
+
+-- Replaces idx_cards_set_id: serves CardRepository.findBySetIdOrderBySortKeyAscIdAsc without a sort step
+CREATE INDEX idx_cards_set_sort_key ON cards (set_id, sort_key, id);
+DROP INDEX IF EXISTS idx_cards_set_id;
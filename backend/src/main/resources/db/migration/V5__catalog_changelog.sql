@@ -0,0 +1,55 @@
+-- Versioned changelog of every insert, update and delete of sets and cards, read by GET /api/catalog/changes.
+-- Rows are written by triggers, so seeding, backfills and manual fixes are all recorded without touching the writers.
+CREATE TABLE catalog_changes (
+    version     BIGINT       PRIMARY KEY,
+    entity_type VARCHAR(8)   NOT NULL CHECK (entity_type IN ('SET', 'CARD')),
+    entity_id   VARCHAR(255) NOT NULL,
+    operation   VARCHAR(8)   NOT NULL CHECK (operation IN ('INSERT', 'UPDATE', 'DELETE')),
+    changed_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE SEQUENCE catalog_change_version;
+
+CREATE FUNCTION record_catalog_change() RETURNS trigger AS $$
+DECLARE
+    changed_id VARCHAR(255);
+BEGIN
+    -- Catalog writers queue here until commit, so versions become visible in the order they were handed out
+    -- and a client that synced up to version N can never miss a change committed later with a lower version
+    PERFORM pg_advisory_xact_lock(hashtext('catalog_changes'));
+
+    changed_id := CASE WHEN TG_OP = 'DELETE' THEN OLD.id ELSE NEW.id END;
+    INSERT INTO catalog_changes (version, entity_type, entity_id, operation, changed_at)
+    VALUES (nextval('catalog_change_version'), TG_ARGV[0], changed_id, TG_OP, now());
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER card_sets_changelog
+    AFTER INSERT OR DELETE ON card_sets
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_change('SET');
+
+CREATE TRIGGER card_sets_changelog_update
+    AFTER UPDATE ON card_sets
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE FUNCTION record_catalog_change('SET');
+
+CREATE TRIGGER cards_changelog
+    AFTER INSERT OR DELETE ON cards
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_change('CARD');
+
+CREATE TRIGGER cards_changelog_update
+    AFTER UPDATE ON cards
+    FOR EACH ROW WHEN (OLD.* IS DISTINCT FROM NEW.*) EXECUTE FUNCTION record_catalog_change('CARD');
+
+-- Everything already in the catalog is recorded as inserted, so a client syncing from version 0 gets the whole catalog
+INSERT INTO catalog_changes (version, entity_type, entity_id, operation, changed_at)
+SELECT nextval('catalog_change_version'), entity_type, id, 'INSERT', now()
+FROM (
+    SELECT entity_type, id
+    FROM (
+        SELECT 'SET' AS entity_type, id, 0 AS kind FROM card_sets
+        UNION ALL
+        SELECT 'CARD', id, 1 FROM cards
+    ) existing
+    ORDER BY kind, id
+) ordered;
@@ -0,0 +1,3 @@
+-- Illustrator credited on the card, searchable through /api/cards/search.
+-- Existing cards get it the next time their set is seeded.
+ALTER TABLE cards ADD COLUMN artist VARCHAR(255);
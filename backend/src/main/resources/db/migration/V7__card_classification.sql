@@ -0,0 +1,8 @@
+-- Gameplay classification of a card, used as facets by /api/cards/filter.
+-- Subtypes and energy types are lists (a card can be "Basic" and "V", or Fire and Dark).
+-- Existing cards get them the next time their set is seeded.
+ALTER TABLE cards
+    ADD COLUMN supertype       VARCHAR(32),
+    ADD COLUMN subtypes        VARCHAR(64)[],
+    ADD COLUMN types           VARCHAR(32)[],
+    ADD COLUMN regulation_mark VARCHAR(4);
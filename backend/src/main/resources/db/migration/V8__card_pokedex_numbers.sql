@@ -0,0 +1,5 @@
+-- National Pokédex numbers of the Pokémon on a card, used to list every printing of a Pokémon.
+-- Tag team cards carry several numbers, trainers and energies none.
+-- Existing cards get them the next time their set is seeded.
+ALTER TABLE cards
+    ADD COLUMN national_pokedex_numbers INTEGER[];
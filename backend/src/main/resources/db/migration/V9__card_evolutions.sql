@@ -0,0 +1,6 @@
+-- Names of the Pokémon a card evolves from and into, used to build evolution lines.
+-- Sized like card names, since they refer to them.
+-- Existing cards get them the next time their set is seeded.
+ALTER TABLE cards
+    ADD COLUMN evolves_from VARCHAR(255),
+    ADD COLUMN evolves_to   VARCHAR(255)[];
@@ -0,0 +1,212 @@
+package com.tlam.backend;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tlam.backend.usercollection.CollectionEntryRepository;
+
+/**
+ * Runs the migrations against a real PostgreSQL, loads a realistically sized catalog and checks with EXPLAIN
+ * that every hot repository query is answered from an index. The SQL mirrors what Hibernate generates for
+ * the repository methods named in each test.
+ * Skipped when Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryPlanTest {
+
+	@Container
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	private static final ObjectMapper objectMapper = new ObjectMapper();
+	private static final Pattern RANGE_START = Pattern.compile("card_id\\)?(::text)? ~>=~ ('set120-'|\\$2)");
+	private static final Pattern RANGE_END = Pattern.compile("card_id\\)?(::text)? ~<~ ('set120\\.'|\\$3)");
+
+	@BeforeAll
+	static void migrateAndSeed() throws SQLException {
+		Flyway.configure()
+				.dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+				.load()
+				.migrate();
+
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			// 500 sets in 20 series, 200 cards each, every 50th card still waiting for its image hash
+			statement.execute("""
+					INSERT INTO card_sets (id, name, series, language, printed_total, total_cards, release_date, created_at, updated_at)
+					SELECT 'set' || s, 'Set ' || s, 'Series ' || (s % 20), 'ENGLISH', 200, 200, DATE '2000-01-01' + s, now(), now()
+					FROM generate_series(1, 500) s""");
+			statement.execute("""
+					INSERT INTO cards (id, name, number, sort_key, set_id, rarity, image_hash, created_at, updated_at)
+					SELECT 'set' || s || '-' || n, 'Card ' || n, n::text, '000000000' || lpad(n::text, 9, '0'), 'set' || s, 'Common',
+					       CASE WHEN n % 50 = 0 THEN NULL ELSE s * 1000 + n END, now(), now()
+					FROM generate_series(1, 500) s, generate_series(1, 200) n""");
+			statement.execute("""
+					INSERT INTO users (name, email, password, created_at, updated_at)
+					SELECT 'User ' || u, 'user' || u || '@example.com', 'hash', now(), now()
+					FROM generate_series(1, 2000) u""");
+			statement.execute("""
+					INSERT INTO collection_entries (user_id, card_id, quantity, acquired_date, updated_at)
+					SELECT u, 'set' || ((u * 7 + k) % 500 + 1) || '-' || (k % 200 + 1), 1 + k % 3, now(), now()
+					FROM generate_series(1, 2000) u, generate_series(1, 50) k""");
+			statement.execute("""
+					INSERT INTO password_reset_codes (email, code, is_used, expires_at, created_at)
+					SELECT 'user' || (i % 2000) || '@example.com', lpad((i % 1000000)::text, 6, '0'), i % 10 <> 0,
+					       now() + interval '15 minutes', now()
+					FROM generate_series(1, 50000) i""");
+			statement.execute("ANALYZE");
+		}
+	}
+
+	@Test
+	void loadCatalogInSetAndNumberOrder() throws Exception {
+		// CardRepository.findAllViews: the whole catalog is read in index order instead of being sorted
+		String sql = """
+				select c1_0.id,c1_0.name,c1_0.number,c1_0.sort_key,c1_0.set_id,a1_0.name from cards c1_0 \
+				left join artists a1_0 on a1_0.id=c1_0.artist_id order by c1_0.set_id,c1_0.sort_key,c1_0.id""";
+		String plan = explain(sql);
+		List<String> nodeTypes = new ArrayList<>();
+		collectNodes(objectMapper.readTree(plan).get(0).get("Plan"), "Node Type", nodeTypes);
+		assertFalse(nodeTypes.contains("Sort"), () -> "Sort step for: " + sql + "\n" + plan);
+		assertTrue(plan.contains("\"idx_cards_set_sort_key\""), () -> "Catalog not read in index order: " + sql + "\n" + plan);
+	}
+
+	@Test
+	void findCardsWithoutImageHash() throws Exception {
+		assertIndexed("SELECT * FROM cards c WHERE c.image_hash IS NULL");
+	}
+
+	@Test
+	void findCollectionEntriesByUser() throws Exception {
+		assertIndexed("SELECT * FROM collection_entries ce WHERE ce.user_id = ?", 17L);
+		assertIndexed("SELECT * FROM collection_entries ce WHERE ce.user_id = ? AND ce.card_id = ?", 17L, "set120-18");
+		assertIndexed("SELECT coalesce(sum(ce.quantity), 0) FROM collection_entries ce WHERE ce.user_id = ?", 17L);
+		assertIndexed("SELECT count(DISTINCT ce.card_id) FROM collection_entries ce WHERE ce.user_id = ?", 17L);
+	}
+
+	@Test
+	void findCollectionEntriesByUserAndSetPrefix() throws Exception {
+		// The native SQL of the repository methods, the set prefix must be an index range rather than a filter
+		String start = CollectionEntryRepository.cardIdRangeStart("set120");
+		String end = CollectionEntryRepository.cardIdRangeEnd("set120");
+		assertIndexRange("""
+				SELECT ce.* FROM collection_entries ce \
+				WHERE ce.user_id = ? AND ce.card_id ~>=~ ? AND ce.card_id ~<~ ?""", 17L, start, end);
+		assertIndexRange("""
+				SELECT COUNT(DISTINCT ce.card_id) FROM collection_entries ce \
+				WHERE ce.user_id = ? AND ce.card_id ~>=~ ? AND ce.card_id ~<~ ?""", 17L, start, end);
+
+		// The set page reads quantities only, the INCLUDE column of the prefix index covers them
+		String quantities = """
+				SELECT ce.card_id AS cardId, ce.quantity AS quantity FROM collection_entries ce \
+				WHERE ce.user_id = ? AND ce.card_id ~>=~ ? AND ce.card_id ~<~ ?""";
+		assertIndexRange(quantities, 17L, start, end);
+		String plan = explain(quantities, 17L, start, end);
+		assertTrue(plan.contains("\"Index Only Scan\""), () -> "No index-only scan for: " + quantities + "\n" + plan);
+	}
+
+	@Test
+	void findUserByEmail() throws Exception {
+		assertIndexed("SELECT * FROM users u WHERE u.email = ?", "user17@example.com");
+	}
+
+	@Test
+	void findAndInvalidatePasswordResetCodes() throws Exception {
+		assertIndexed("SELECT * FROM password_reset_codes p WHERE p.email = ? AND p.code = ? AND p.is_used = false AND p.expires_at > ?",
+				"user17@example.com", "000017", Timestamp.valueOf(LocalDateTime.now()));
+		assertIndexed("UPDATE password_reset_codes SET is_used = true WHERE email = ? AND is_used = false", "user17@example.com");
+	}
+
+	private static void assertIndexed(String sql, Object... parameters) throws Exception {
+		String plan = explain(sql, parameters);
+		List<String> nodeTypes = new ArrayList<>();
+		collectNodes(objectMapper.readTree(plan).get(0).get("Plan"), "Node Type", nodeTypes);
+		assertFalse(nodeTypes.contains("Seq Scan"), () -> "Sequential scan for: " + sql + "\n" + plan);
+		assertTrue(nodeTypes.stream().anyMatch(type -> type.startsWith("Index") || type.startsWith("Bitmap")),
+				() -> "No index used for: " + sql + "\n" + plan);
+	}
+
+	/*
+	 * The card_id prefix must be an index range (~>=~ and ~<~ on the text_pattern_ops index), not a filter applied
+	 * after scanning all of the user's entries. That must hold both for the custom plan of a fresh statement and for
+	 * the generic plan PostgreSQL may switch to once pgJDBC prepares the statement on the server.
+	 */
+	private static void assertIndexRange(String sql, Object... parameters) throws Exception {
+		String custom = explain(sql, parameters);
+		String generic = explainGeneric(sql, parameters);
+		for (String plan : List.of(custom, generic)) {
+			List<String> indexConditions = new ArrayList<>();
+			collectNodes(objectMapper.readTree(plan).get(0).get("Plan"), "Index Cond", indexConditions);
+			assertTrue(indexConditions.stream().anyMatch(condition -> condition.contains("user_id =")
+							&& RANGE_START.matcher(condition).find() && RANGE_END.matcher(condition).find()),
+					() -> "No card_id range in the index condition for: " + sql + "\n" + plan);
+		}
+	}
+
+	private static String explain(String sql, Object... parameters) throws Exception {
+		try (Connection connection = connect();
+			 PreparedStatement statement = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + sql)) {
+			for (int i = 0; i < parameters.length; i++) {
+				statement.setObject(i + 1, parameters[i]);
+			}
+			try (ResultSet resultSet = statement.executeQuery()) {
+				resultSet.next();
+				return resultSet.getString(1);
+			}
+		}
+	}
+
+	// Plans the statement the way a server-side prepared statement with a generic plan is planned
+	private static String explainGeneric(String sql, Object... parameters) throws Exception {
+		StringBuilder prepared = new StringBuilder();
+		int parameter = 0;
+		for (char c : sql.toCharArray()) {
+			prepared.append(c == '?' ? "$" + ++parameter : String.valueOf(c));
+		}
+		// EXECUTE takes no bind parameters, the values are inlined since a generic plan does not depend on them
+		List<String> values = new ArrayList<>();
+		for (Object value : parameters) {
+			values.add(value instanceof String text ? "'" + text.replace("'", "''") + "'" : String.valueOf(value));
+		}
+		try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+			statement.execute("SET plan_cache_mode = force_generic_plan");
+			statement.execute("PREPARE hot_query AS " + prepared);
+			try (ResultSet resultSet = statement.executeQuery("EXPLAIN (FORMAT JSON) EXECUTE hot_query(" + String.join(", ", values) + ")")) {
+				resultSet.next();
+				return resultSet.getString(1);
+			}
+		}
+	}
+
+	private static void collectNodes(JsonNode node, String field, List<String> values) {
+		if (node.has(field)) {
+			values.add(node.get(field).asText());
+		}
+		if (node.has("Plans")) {
+			node.get("Plans").forEach(child -> collectNodes(child, field, values));
+		}
+	}
+
+	private static Connection connect() throws SQLException {
+		return DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+	}
+}
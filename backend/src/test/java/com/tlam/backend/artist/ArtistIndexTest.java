@@ -0,0 +1,94 @@
+package com.tlam.backend.artist;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.catalog.Cursors;
+import com.tlam.backend.exception.InvalidCursorException;
+
+class ArtistIndexTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("base1", "Series", LocalDate.of(1999, 1, 9)),
+					set("sv3", "Series", LocalDate.of(2023, 8, 11))),
+			List.of(cardBuilder("base1", "4").artist("Mitsuhiro Arita", 1).build(),
+					cardBuilder("base1", "58").artist("Mitsuhiro Arita", 1).build(),
+					cardBuilder("base1", "91").artist("Ken Sugimori", 2).build(),
+					cardBuilder("base1", "92").build(),
+					cardBuilder("sv3", "125").artist("Mitsuhiro Arita", 1).build(),
+					cardBuilder("sv3", "200").artist("aky CG Works", 3).build()));
+
+	@Test
+	void artistsAreSortedByNameWithTheirCardsNewestSetFirst() {
+		ArtistIndex index = ArtistIndex.build(CATALOG);
+
+		assertEquals(3, index.size());
+		assertEquals(List.of("aky CG Works", "Ken Sugimori", "Mitsuhiro Arita"),
+				index.page(null, 10).stream().map(ArtistIndex.Entry::name).toList());
+		assertEquals(List.of("sv3-125", "base1-4", "base1-58"), ids(index.get(1).ordinals()));
+		assertNull(index.get(4));
+	}
+
+	@Test
+	void artistPagesContinueAfterTheCursorArtist() {
+		ArtistIndex index = ArtistIndex.build(CATALOG);
+
+		assertEquals(List.of(2), index.page(3, 1).stream().map(ArtistIndex.Entry::id).toList());
+		assertEquals(List.of(), index.page(1, 10));
+		assertNull(index.page(4, 10));
+	}
+
+	@Test
+	void cardPagesFollowTheCursorCard() {
+		ArtistIndex.Entry arita = ArtistIndex.build(CATALOG).get(1);
+
+		ArtistCardsDTO first = ArtistService.page(CATALOG, arita, null, 2);
+		assertEquals(3, first.getTotal());
+		assertEquals(List.of("sv3-125", "base1-4"), first.getCards().stream().map(CardDTO::getId).toList());
+
+		ArtistCardsDTO second = ArtistService.page(CATALOG, arita, first.getNextCursor(), 2);
+		assertEquals(List.of("base1-58"), second.getCards().stream().map(CardDTO::getId).toList());
+		assertNull(second.getNextCursor());
+
+		// A card by someone else is not a position in this artist's cards
+		assertThrows(InvalidCursorException.class, () -> ArtistService.page(CATALOG, arita, Cursors.encode("base1-91"), 2));
+	}
+
+	@Test
+	void bundledCatalogArtistsCoverEveryCreditedCard() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		ArtistIndex index = ArtistIndex.build(catalog);
+
+		List<ArtistIndex.Entry> artists = new ArrayList<>(index.page(null, index.size()));
+		int credited = (int) catalog.getCards().stream().filter(card -> card.artistId() != null).count();
+		assertEquals(credited, artists.stream().mapToInt(artist -> artist.ordinals().length).sum());
+
+		ArtistIndex.Entry sugimori = artists.stream().filter(artist -> artist.name().equals("Ken Sugimori")).findFirst().orElseThrow();
+		assertTrue(sugimori.ordinals().length > 100);
+		for (int ordinal : sugimori.ordinals()) {
+			assertEquals("Ken Sugimori", catalog.getCardByOrdinal(ordinal).artist());
+		}
+	}
+
+	private static List<String> ids(int[] ordinals) {
+		List<String> ids = new ArrayList<>();
+		for (int ordinal : ordinals) {
+			ids.add(CATALOG.getCardByOrdinal(ordinal).id());
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,102 @@
+package com.tlam.backend.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tlam.backend.config.CatalogConfig;
+
+class CardDetailStoreTest {
+
+	@TempDir
+	Path directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void storedDetailsAreReadBackAfterARestart() throws Exception {
+		CardDetailDTO pineco = pineco();
+		store().write(List.of(pineco, detail("sv1-2", "Heracross")));
+
+		// A new store maps the file the previous one wrote
+		CardDetailStore restarted = store();
+		assertEquals(2, restarted.size());
+		assertEquals(pineco, objectMapper.readValue(restarted.get("sv1-1").orElseThrow(), CardDetailDTO.class));
+		assertEquals("Heracross", objectMapper.readValue(restarted.get("sv1-2").orElseThrow(), CardDetailDTO.class).getName());
+		assertFalse(restarted.get("sv1-3").isPresent());
+	}
+
+	@Test
+	void writeReplacesEveryStoredCard() throws Exception {
+		CardDetailStore store = store();
+		store.write(List.of(pineco(), detail("sv1-2", "Heracross")));
+		store.write(List.of(detail("sv1-2", "Heracross ex")));
+
+		assertEquals(1, store.size());
+		assertFalse(store.get("sv1-1").isPresent());
+		assertEquals("Heracross ex", objectMapper.readValue(store.get("sv1-2").orElseThrow(), CardDetailDTO.class).getName());
+		try (var files = Files.list(directory)) {
+			assertEquals(List.of("card-details.bin"), files.map(file -> file.getFileName().toString()).toList());
+		}
+	}
+
+	@Test
+	void unreadableFileLeavesTheStoreEmpty() throws Exception {
+		Files.writeString(directory.resolve("card-details.bin"), "not a card details file");
+
+		CardDetailStore store = store();
+		assertEquals(0, store.size());
+
+		store.write(List.of(pineco()));
+		assertTrue(store.get("sv1-1").isPresent());
+	}
+
+	@Test
+	void missingAttributesAreLeftOutOfTheJson() throws Exception {
+		CardDetailStore store = store();
+		store.write(List.of(detail("sv1-2", "Heracross")));
+
+		String json = new String(store.get("sv1-2").orElseThrow());
+		assertEquals("{\"id\":\"sv1-2\",\"name\":\"Heracross\",\"setId\":\"sv1\"}", json);
+	}
+
+	private CardDetailStore store() {
+		CatalogConfig config = new CatalogConfig();
+		config.setDetailsDirectory(directory.toString());
+		return new CardDetailStore(objectMapper, config);
+	}
+
+	private static CardDetailDTO pineco() {
+		return CardDetailDTO.builder()
+				.id("sv1-1")
+				.name("Pineco")
+				.setId("sv1")
+				.number("1")
+				.supertype("Pokémon")
+				.subtypes(List.of("Basic"))
+				.hp("60")
+				.types(List.of("Grass"))
+				.attacks(List.of(new CardDetailDTO.Attack(List.of("Colorless", "Colorless"), "Guard Press",
+						"During your opponent's next turn, this Pokémon takes 30 less damage from attacks.", "10", 2)))
+				.weaknesses(List.of(new CardDetailDTO.TypeModifier("Fire", "×2")))
+				.retreatCost(List.of("Colorless", "Colorless"))
+				.convertedRetreatCost(2)
+				.flavorText("It spits out a fluid that it uses to glue tree bark to its body.")
+				.nationalPokedexNumbers(List.of(204))
+				.legalities(new CardDetailDTO.Legalities("Legal", "Legal", "Legal"))
+				.regulationMark("G")
+				.build();
+	}
+
+	private static CardDetailDTO detail(String id, String name) {
+		return CardDetailDTO.builder().id(id).name(name).setId("sv1").build();
+	}
+}
@@ -0,0 +1,32 @@
+package com.tlam.backend.card;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class CardNumberSortKeyTest {
+
+	@Test
+	void sortsCardNumbersNaturally() {
+		List<String> expected = List.of("1", "2", "010", "10a", "100", "177", "177a", "?", "GG01", "GG70", "SV9", "SV107", "TG05");
+
+		List<String> sorted = expected.reversed().stream()
+				.sorted(Comparator.comparing(CardNumberSortKey::of))
+				.toList();
+
+		assertEquals(expected, sorted);
+	}
+
+	@Test
+	void keysAreAsciiAndBounded() {
+		String key = CardNumberSortKey.of("SWSH-" + "9".repeat(40) + "★ special edition".repeat(5));
+
+		assertTrue(key.length() <= CardNumberSortKey.MAX_LENGTH);
+		assertTrue(key.chars().allMatch(c -> (c >= '0' && c <= '9') || (c >= 'A' && c <= 'Z')));
+		assertEquals(CardNumberSortKey.of("h5"), CardNumberSortKey.of(" H5 "));
+	}
+}
@@ -0,0 +1,80 @@
+package com.tlam.backend.catalog;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tlam.backend.card.CardNumberSortKey;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.cardset.Language;
+
+/**
+ * The whole bundled English catalog (~19k cards) as a snapshot, for tests that need realistic data volumes
+ */
+public final class BundledCatalog {
+
+	private static final LocalDateTime SEEDED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+	private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
+
+	private BundledCatalog() {
+	}
+
+	// Builds the catalog the seeder would load from the bundled card data, read from the classpath like the seeder does
+	public static CatalogSnapshot load() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<CardSetView> sets = new ArrayList<>();
+		try (InputStream json = BundledCatalog.class.getResourceAsStream("/pokemon-tcg-data/sets/en.json")) {
+			for (JsonNode set : objectMapper.readTree(json)) {
+				sets.add(new CardSetView(set.path("id").asText(), set.path("name").asText(), set.path("series").asText(),
+						Language.ENGLISH, null, null, null, set.path("printedTotal").asInt(), set.path("total").asInt(),
+						LocalDate.parse(set.path("releaseDate").asText(), DATE_FORMATTER), SEEDED_AT));
+			}
+		}
+
+		List<CardView> cards = new ArrayList<>();
+		// Artist ids are handed out in the order artists are first seen, like the seeder's dictionary
+		Map<String, Integer> artistIds = new HashMap<>();
+		for (CardSetView set : sets) {
+			String setId = set.id();
+			try (InputStream json = BundledCatalog.class.getResourceAsStream("/pokemon-tcg-data/cards/en/" + setId + ".json")) {
+				if (json == null) {
+					continue;
+				}
+				StreamSupport.stream(objectMapper.readTree(json).spliterator(), false)
+						.map(card -> new CardView(card.path("id").asText(), card.path("name").asText(),
+								card.path("number").asText(), CardNumberSortKey.of(card.path("number").asText()), setId,
+								card.path("rarity").asText(null), card.path("artist").asText(null),
+								artistId(artistIds, card.path("artist").asText(null)),
+								card.path("supertype").asText(null), strings(card.path("subtypes")), strings(card.path("types")),
+								card.path("regulationMark").asText(null), integers(card.path("nationalPokedexNumbers")),
+								card.path("evolvesFrom").asText(null), strings(card.path("evolvesTo")),
+								card.path("legalities").path("standard").asText(null), card.path("legalities").path("expanded").asText(null),
+								card.path("legalities").path("unlimited").asText(null), null, null, null, null, SEEDED_AT))
+						.forEach(cards::add);
+			}
+		}
+		return CatalogSnapshot.build(1, 0, sets, cards);
+	}
+
+	private static Integer artistId(Map<String, Integer> artistIds, String artist) {
+		return artist != null ? artistIds.computeIfAbsent(artist, key -> artistIds.size() + 1) : null;
+	}
+
+	private static List<String> strings(JsonNode array) {
+		return StreamSupport.stream(array.spliterator(), false).map(JsonNode::asText).toList();
+	}
+
+	private static List<Integer> integers(JsonNode array) {
+		return StreamSupport.stream(array.spliterator(), false).map(JsonNode::asInt).toList();
+	}
+}
@@ -0,0 +1,73 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.catalog.CatalogChange.EntityType;
+import com.tlam.backend.catalog.CatalogChange.Operation;
+
+class CatalogChangeServiceTest {
+
+	@Test
+	void changesAreFoldedIntoTheCurrentStateOfEveryEntity() {
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("sv1", "1", "Pineco (Reverse Holo)", CatalogFixtures.SEEDED_AT),
+				CatalogFixtures.card("sv2", "1"));
+		CatalogSnapshot snapshot = CatalogSnapshot.build(2, 7, List.of(
+				CatalogFixtures.set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31)),
+				CatalogFixtures.set("sv2", "Scarlet & Violet", LocalDate.of(2023, 6, 9))), cards);
+
+		List<CatalogChange> changes = List.of(
+				change(3, EntityType.CARD, "sv1-1", Operation.UPDATE),
+				change(4, EntityType.CARD, "sv1-2", Operation.INSERT),
+				change(5, EntityType.SET, "sv2", Operation.INSERT),
+				change(6, EntityType.CARD, "sv2-1", Operation.INSERT),
+				change(7, EntityType.CARD, "sv1-2", Operation.DELETE));
+
+		CatalogChangesDTO sync = CatalogChangeService.collect(snapshot, 2, changes, false, false);
+
+		assertEquals(7, sync.getVersion());
+		assertEquals(List.of("sv2"), sync.getSets().stream().map(CardSetDTO::getId).toList());
+		assertEquals(List.of("sv1", "sv2"), List.copyOf(sync.getCardsBySet().keySet()));
+		assertEquals("Pineco (Reverse Holo)", sync.getCardsBySet().get("sv1").get(0).getName());
+		assertEquals(List.of("sv2-1"), sync.getCardsBySet().get("sv2").stream().map(CardDTO::getId).toList());
+		assertEquals(List.of("sv1-2"), sync.getDeletedCardIds());
+		assertTrue(sync.getDeletedSetIds().isEmpty());
+		assertFalse(sync.isHasMore());
+	}
+
+	@Test
+	void entitiesMissingFromTheSnapshotAreReportedAsDeleted() {
+		CatalogSnapshot snapshot = CatalogSnapshot.build(1, 4, List.of(), List.of());
+
+		CatalogChangesDTO sync = CatalogChangeService.collect(snapshot, 0, List.of(
+				change(1, EntityType.SET, "sv1", Operation.INSERT),
+				change(2, EntityType.CARD, "sv1-1", Operation.UPDATE)), true, false);
+
+		assertEquals(List.of("sv1"), sync.getDeletedSetIds());
+		assertEquals(List.of("sv1-1"), sync.getDeletedCardIds());
+		assertEquals(2, sync.getVersion());
+		assertTrue(sync.isHasMore());
+	}
+
+	@Test
+	void emptySyncAdvancesToTheSnapshotVersion() {
+		CatalogSnapshot snapshot = CatalogSnapshot.build(1, 9, List.of(), List.of());
+
+		assertEquals(9, CatalogChangeService.collect(snapshot, 5, List.of(), false, false).getVersion());
+		assertEquals(12, CatalogChangeService.collect(snapshot, 12, List.of(), false, false).getVersion());
+	}
+
+	private static CatalogChange change(long version, EntityType entityType, String entityId, Operation operation) {
+		return new CatalogChange(version, entityType, entityId, operation, CatalogFixtures.SEEDED_AT);
+	}
+}
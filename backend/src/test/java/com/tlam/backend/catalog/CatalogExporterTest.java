@@ -0,0 +1,83 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tlam.backend.catalog.CatalogExporter.CatalogExport;
+import com.tlam.backend.cardset.CardSetDTO;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.config.CatalogConfig;
+
+class CatalogExporterTest {
+
+	@TempDir
+	Path directory;
+
+	private final ObjectMapper objectMapper = new ObjectMapper()
+			.registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+	@Test
+	void exportContainsEverySetAndCardAtTheChangelogVersion() throws Exception {
+		CatalogExport export = exporter().export(catalog(1, 42, "Pineco"));
+
+		CatalogExportDTO content;
+		try (InputStream gzip = new GZIPInputStream(Files.newInputStream(export.file()))) {
+			content = objectMapper.readValue(gzip, CatalogExportDTO.class);
+		}
+
+		assertEquals(42, content.getVersion());
+		assertEquals(List.of("sv2", "sv1"), content.getSets().stream().map(CardSetDTO::getId).toList());
+		assertEquals("Pineco", content.getCardsBySet().get("sv1").get(0).getName());
+		assertEquals(Files.size(export.file()), export.size());
+		assertEquals(64, export.sha256().length());
+	}
+
+	@Test
+	void hashOnlyChangesWithTheCatalogAndOutdatedFilesAreRemoved() throws Exception {
+		CatalogExporter exporter = exporter();
+		CatalogExport first = exporter.export(catalog(1, 42, "Pineco"));
+		CatalogExport reloaded = exporter.export(catalog(2, 42, "Pineco"));
+		assertEquals(first.sha256(), reloaded.sha256());
+
+		CatalogExport changed = exporter.export(catalog(3, 43, "Pineco (Reverse Holo)"));
+		assertNotEquals(first.etag(), changed.etag());
+
+		CatalogExport latest = exporter.export(catalog(4, 44, "Forretress"));
+		// The previous export survives one more swap so running downloads can finish
+		assertTrue(Files.exists(changed.file()));
+		assertTrue(Files.exists(latest.file()));
+		assertFalse(Files.exists(first.file()));
+		assertEquals(latest, exporter.current().orElseThrow());
+	}
+
+	private CatalogExporter exporter() {
+		CatalogConfig catalogConfig = new CatalogConfig();
+		catalogConfig.setExportDirectory(directory.toString());
+		return new CatalogExporter(objectMapper, catalogConfig);
+	}
+
+	private static CatalogSnapshot catalog(long version, long changeVersion, String firstCardName) {
+		List<CardSetView> sets = List.of(
+				CatalogFixtures.set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31)),
+				CatalogFixtures.set("sv2", "Scarlet & Violet", LocalDate.of(2023, 6, 9)));
+		return CatalogSnapshot.build(version, changeVersion, sets, List.of(
+				CatalogFixtures.card("sv1", "1", firstCardName, CatalogFixtures.SEEDED_AT),
+				CatalogFixtures.card("sv2", "1")));
+	}
+}
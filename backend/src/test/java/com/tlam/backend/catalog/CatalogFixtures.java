@@ -0,0 +1,137 @@
+package com.tlam.backend.catalog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.tlam.backend.card.CardNumberSortKey;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.cardset.Language;
+
+/**
+ * Builders for the catalog projections used across tests
+ * Cards default to a common, legal Basic Colorless Pokémon, tests set only the fields they look at.
+ */
+public final class CatalogFixtures {
+
+	public static final LocalDateTime SEEDED_AT = LocalDateTime.of(2025, 6, 1, 12, 0);
+
+	private CatalogFixtures() {
+	}
+
+	public static CardSetView set(String id, String series, LocalDate releaseDate) {
+		return set(id, id.toUpperCase(), series, releaseDate);
+	}
+
+	public static CardSetView set(String id, String name, String series, LocalDate releaseDate) {
+		return new CardSetView(id, name, series, Language.ENGLISH, null, null, null, 200, 200, releaseDate, SEEDED_AT);
+	}
+
+	public static CardView card(String setId, String number, String name, LocalDateTime updatedAt) {
+		return cardBuilder(setId, number).name(name).updatedAt(updatedAt).build();
+	}
+
+	public static CardView card(String setId, String number) {
+		return cardBuilder(setId, number).build();
+	}
+
+	public static CardBuilder cardBuilder(String setId, String number) {
+		return new CardBuilder(setId, number);
+	}
+
+	public static final class CardBuilder {
+		private final String setId;
+		private final String number;
+		private String name;
+		private String rarity = "Common";
+		private String artist;
+		private Integer artistId;
+		private String supertype = "Pokémon";
+		private List<String> subtypes = List.of("Basic");
+		private List<String> types = List.of("Colorless");
+		private String regulationMark;
+		private List<Integer> nationalPokedexNumbers = List.of();
+		private String evolvesFrom;
+		private List<String> evolvesTo = List.of();
+		private String standardLegality = "Legal";
+		private String expandedLegality = "Legal";
+		private String unlimitedLegality = "Legal";
+		private LocalDateTime updatedAt = SEEDED_AT;
+
+		private CardBuilder(String setId, String number) {
+			this.setId = setId;
+			this.number = number;
+			this.name = "Card " + number;
+		}
+
+		public CardBuilder name(String name) {
+			this.name = name;
+			return this;
+		}
+
+		public CardBuilder rarity(String rarity) {
+			this.rarity = rarity;
+			return this;
+		}
+
+		public CardBuilder artist(String artist, Integer artistId) {
+			this.artist = artist;
+			this.artistId = artistId;
+			return this;
+		}
+
+		public CardBuilder supertype(String supertype) {
+			this.supertype = supertype;
+			return this;
+		}
+
+		public CardBuilder subtypes(String... subtypes) {
+			this.subtypes = List.of(subtypes);
+			return this;
+		}
+
+		public CardBuilder types(String... types) {
+			this.types = List.of(types);
+			return this;
+		}
+
+		public CardBuilder regulationMark(String regulationMark) {
+			this.regulationMark = regulationMark;
+			return this;
+		}
+
+		public CardBuilder nationalPokedexNumbers(Integer... nationalPokedexNumbers) {
+			this.nationalPokedexNumbers = List.of(nationalPokedexNumbers);
+			return this;
+		}
+
+		public CardBuilder evolvesFrom(String evolvesFrom) {
+			this.evolvesFrom = evolvesFrom;
+			return this;
+		}
+
+		public CardBuilder evolvesTo(String... evolvesTo) {
+			this.evolvesTo = List.of(evolvesTo);
+			return this;
+		}
+
+		public CardBuilder legality(String standard, String expanded, String unlimited) {
+			this.standardLegality = standard;
+			this.expandedLegality = expanded;
+			this.unlimitedLegality = unlimited;
+			return this;
+		}
+
+		public CardBuilder updatedAt(LocalDateTime updatedAt) {
+			this.updatedAt = updatedAt;
+			return this;
+		}
+
+		public CardView build() {
+			return new CardView(setId + "-" + number, name, number, CardNumberSortKey.of(number), setId, rarity, artist, artistId,
+					supertype, subtypes, types, regulationMark, nationalPokedexNumbers, evolvesFrom, evolvesTo,
+					standardLegality, expandedLegality, unlimitedLegality, null, null, null, null, updatedAt);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.tlam.backend.card.CardDTO;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares the payload size and serialization time of every catalog format for the largest bundled set
+ * (Sword & Shield Black Star Promos). Logs the numbers published in the README.
+ * Run with mvn test -Pbenchmarks.
+ */
+@Slf4j
+@Tag("benchmark")
+class CatalogFormatBenchmarkTest {
+
+	private static final String LARGEST_SET = "swshp";
+	private static final int WARMUP = 2000;
+	private static final int ITERATIONS = 2000;
+
+	@Test
+	void binaryFormatsAreSmallerThanJson() throws Exception {
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<CardDTO> cards = loadSet(objectMapper, LARGEST_SET);
+
+		Map<CatalogFormat, ObjectMapper> mappers = new EnumMap<>(Map.of(
+				CatalogFormat.JSON, objectMapper,
+				CatalogFormat.CBOR, objectMapper.copyWith(new CBORFactory()),
+				CatalogFormat.SMILE, objectMapper.copyWith(new SmileFactory())));
+
+		Map<CatalogFormat, Integer> sizes = new EnumMap<>(CatalogFormat.class);
+		log.info("{} cards of {}", cards.size(), LARGEST_SET);
+		for (CatalogFormat format : CatalogFormat.values()) {
+			ObjectMapper mapper = mappers.get(format);
+			byte[] body = mapper.writeValueAsBytes(cards);
+			sizes.put(format, body.length);
+			log.info("{}: {} bytes, {} gzipped, serialize p50 {} us",
+					format, body.length, gzip(body).length, p50Micros(mapper, cards));
+		}
+
+		assertTrue(sizes.get(CatalogFormat.CBOR) < sizes.get(CatalogFormat.JSON));
+		assertTrue(sizes.get(CatalogFormat.SMILE) < sizes.get(CatalogFormat.JSON));
+	}
+
+	private static long p50Micros(ObjectMapper mapper, Object body) throws IOException {
+		for (int i = 0; i < WARMUP; i++) {
+			mapper.writeValueAsBytes(body);
+		}
+		long[] latencies = new long[ITERATIONS];
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			mapper.writeValueAsBytes(body);
+			latencies[i] = System.nanoTime() - start;
+		}
+		Arrays.sort(latencies);
+		return latencies[ITERATIONS / 2] / 1_000;
+	}
+
+	private static byte[] gzip(byte[] body) throws IOException {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+			gzip.write(body);
+		}
+		return compressed.toByteArray();
+	}
+
+	// Builds the DTOs the catalog would serve for a set from the bundled card data
+	private static List<CardDTO> loadSet(ObjectMapper objectMapper, String setId) throws IOException {
+		try (InputStream json = CatalogFormatBenchmarkTest.class.getResourceAsStream("/pokemon-tcg-data/cards/en/" + setId + ".json")) {
+			JsonNode cards = objectMapper.readTree(json);
+			return StreamSupport.stream(cards.spliterator(), false)
+					.map(card -> CardDTO.builder()
+							.id(card.path("id").asText())
+							.name(card.path("name").asText())
+							.number(card.path("number").asText())
+							.rarity(card.path("rarity").asText(null))
+							.smallImageUrl(card.path("images").path("small").asText(null))
+							.largeImageUrl(card.path("images").path("large").asText(null))
+							.imagePlaceholder("LEHV6nWB2yk8pyo0adR*.7kCMdnj")
+							.build())
+					.toList();
+		}
+	}
+}
@@ -0,0 +1,133 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.tlam.backend.card.Card;
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.card.CardRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compares loading the catalog's cards as managed entities (then copied into DTOs) with the read-only
+ * constructor projection CatalogService loads on every reload. Logs the latency and allocation per load.
+ * Run with mvn test -Pbenchmarks, skipped when Docker is not available.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest
+@Testcontainers(disabledWithoutDocker = true)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogProjectionBenchmarkTest {
+
+	private static final int WARMUP = 10;
+	private static final int ITERATIONS = 30;
+
+	@Container
+	@ServiceConnection
+	static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@Autowired
+	private CardRepository cardRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void seed() {
+		jdbcTemplate.update("DELETE FROM cards");
+		jdbcTemplate.update("""
+				INSERT INTO cards (id, name, number, sort_key, set_id, rarity, small_image_url, large_image_url,
+				                   image_placeholder, image_hash, created_at, updated_at)
+				SELECT 'set' || s || '-' || n, 'Card ' || n, n::text, '000000000' || lpad(n::text, 9, '0'), 'set' || s, 'Common',
+				       'https://images.example.com/set' || s || '/' || n || '.png', 'https://images.example.com/set' || s || '/' || n || '_hires.png',
+				       'LEHV6nWB2yk8pyo0adR*.7kCMdnj', s * 1000 + n, now(), now()
+				FROM generate_series(1, 50) s, generate_series(1, 250) n""");
+		jdbcTemplate.update("ANALYZE cards");
+	}
+
+	@Test
+	void projectionAllocatesLessThanManagedEntities() {
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		// What loading the catalog cost before: managed entities in a read-write transaction, copied into DTOs
+		Result entities = measure(() -> readWrite.execute(status -> entityManager
+				.createQuery("SELECT c FROM Card c ORDER BY c.setId, c.sortKey, c.id", Card.class)
+				.getResultList().stream()
+				.map(CatalogProjectionBenchmarkTest::convertToDTO)
+				.toList()));
+		Result projection = measure(() -> readOnly.execute(status -> cardRepository.findAllViews()));
+
+		log.info("Managed entities + DTO copy: p50 {} us, {} bytes/load", entities.p50Micros(), entities.bytesPerRequest());
+		log.info("Read-only projection: p50 {} us, {} bytes/load", projection.p50Micros(), projection.bytesPerRequest());
+
+		assertEquals(12_500, cardRepository.findAllViews().size());
+		assertTrue(projection.bytesPerRequest() < entities.bytesPerRequest());
+	}
+
+	private record Result(long p50Micros, long bytesPerRequest) {
+	}
+
+	private static Result measure(Supplier<List<?>> request) {
+		for (int i = 0; i < WARMUP; i++) {
+			request.get();
+		}
+
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long[] latencies = new long[ITERATIONS];
+		long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+		for (int i = 0; i < ITERATIONS; i++) {
+			long start = System.nanoTime();
+			request.get();
+			latencies[i] = System.nanoTime() - start;
+		}
+		long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+		Arrays.sort(latencies);
+		return new Result(latencies[ITERATIONS / 2] / 1_000, allocated / ITERATIONS);
+	}
+
+	private static CardDTO convertToDTO(Card card) {
+		return CardDTO.builder()
+				.id(card.getId())
+				.name(card.getName())
+				.number(card.getNumber())
+				.rarity(card.getRarity())
+				.smallImageUrl(card.getSmallImageUrl())
+				.largeImageUrl(card.getLargeImageUrl())
+				.imagePlaceholder(card.getImagePlaceholder())
+				.build();
+	}
+}
@@ -0,0 +1,189 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+
+class CatalogResponseCacheTest {
+
+	// Counts serializations and slows them down so concurrent misses overlap
+	private static class CountingObjectMapper extends ObjectMapper {
+		final AtomicInteger writes = new AtomicInteger();
+
+		CountingObjectMapper() {
+			registerModule(new JavaTimeModule());
+		}
+
+		@Override
+		public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+			writes.incrementAndGet();
+			try {
+				Thread.sleep(50);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return super.writeValueAsBytes(value);
+		}
+
+		@Override
+		public ObjectMapper copyWith(JsonFactory factory) {
+			return new ObjectMapper(factory).registerModule(new JavaTimeModule());
+		}
+	}
+
+	@Test
+	void concurrentMissesForTheSameKeyShareOneBuild() throws Exception {
+		CountingObjectMapper objectMapper = new CountingObjectMapper();
+		CatalogResponseCache cache = new CatalogResponseCache(objectMapper);
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(1)));
+
+		int threads = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<SerializedResponse>> results = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return cache.getCardsBySet("sv1").orElseThrow().body(CatalogFormat.JSON);
+			}));
+		}
+		start.countDown();
+
+		SerializedResponse first = results.get(0).get();
+		for (Future<SerializedResponse> result : results) {
+			assertSame(first, result.get());
+		}
+		executor.shutdown();
+
+		assertEquals(1, objectMapper.writes.get());
+		try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+			assertArrayEquals(first.body(), gzip.readAllBytes());
+		}
+	}
+
+	@Test
+	void reloadDropsResponsesBuiltFromThePreviousSnapshot() {
+		CountingObjectMapper objectMapper = new CountingObjectMapper();
+		CatalogResponseCache cache = new CatalogResponseCache(objectMapper);
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(1)));
+
+		SerializedResponse before = cache.getSetsBySeries("Scarlet & Violet").orElseThrow().body(CatalogFormat.JSON);
+		assertSame(before, cache.getSetsBySeries("Scarlet & Violet").orElseThrow().body(CatalogFormat.JSON));
+
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(2)));
+		SerializedResponse after = cache.getSetsBySeries("Scarlet & Violet").orElseThrow().body(CatalogFormat.JSON);
+
+		assertEquals(2, objectMapper.writes.get());
+		assertNotSame(before, after);
+		assertTrue(cache.getCardsBySet("unknown").isEmpty());
+	}
+
+	@Test
+	void listingKeepsItsSnapshotWhenAReloadLandsBeforeSerialization() throws Exception {
+		CountingObjectMapper objectMapper = new CountingObjectMapper();
+		CatalogResponseCache cache = new CatalogResponseCache(objectMapper);
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(1, "Pineco")));
+
+		// The request revalidates against the first snapshot, then the catalog is reloaded before it serializes
+		CatalogResponseCache.Listing listing = cache.getCardsBySet("sv1").orElseThrow();
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(2, "Pineco (Reverse Holo)")));
+		SerializedResponse stale = listing.body(CatalogFormat.JSON);
+
+		assertEquals("Pineco", objectMapper.readTree(stale.body()).get(0).get("name").asText());
+		assertEquals(catalog(1, "Pineco").getCardsBySetValidator("sv1").orElseThrow(), listing.validator());
+
+		CatalogResponseCache.Listing reloaded = cache.getCardsBySet("sv1").orElseThrow();
+		assertEquals("Pineco (Reverse Holo)", objectMapper.readTree(reloaded.body(CatalogFormat.JSON).body()).get(0).get("name").asText());
+		assertNotEquals(listing.validator().etag(CatalogFormat.JSON, false), reloaded.validator().etag(CatalogFormat.JSON, false));
+	}
+
+	@Test
+	void everyFormatIsCachedSeparatelyAndCarriesTheSameCards() throws Exception {
+		CountingObjectMapper objectMapper = new CountingObjectMapper();
+		CatalogResponseCache cache = new CatalogResponseCache(objectMapper);
+		cache.onCatalogReloaded(new CatalogReloadedEvent(catalog(1)));
+
+		SerializedResponse json = cache.getCardsBySet("sv1").orElseThrow().body(CatalogFormat.JSON);
+		SerializedResponse cbor = cache.getCardsBySet("sv1").orElseThrow().body(CatalogFormat.CBOR);
+		SerializedResponse smile = cache.getCardsBySet("sv1").orElseThrow().body(CatalogFormat.SMILE);
+		assertSame(cbor, cache.getCardsBySet("sv1").orElseThrow().body(CatalogFormat.CBOR));
+
+		assertEquals(CatalogFormat.CBOR, cbor.format());
+		assertTrue(cbor.body().length < json.body().length);
+		assertTrue(smile.body().length < json.body().length);
+		assertEquals(objectMapper.readTree(json.body()), new ObjectMapper(new CBORFactory()).readTree(cbor.body()));
+		assertEquals(objectMapper.readTree(json.body()), new ObjectMapper(new SmileFactory()).readTree(smile.body()));
+	}
+
+	@Test
+	void formatIsNegotiatedFromTheAcceptHeader() {
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate(null));
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate("*/*"));
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate("application/json"));
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate("application/protobuf"));
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate("not a media type"));
+		assertEquals(CatalogFormat.CBOR, CatalogFormat.negotiate("application/cbor"));
+		assertEquals(CatalogFormat.CBOR, CatalogFormat.negotiate("application/cbor, */*;q=0.1"));
+		assertEquals(CatalogFormat.SMILE, CatalogFormat.negotiate("application/json;q=0.5, application/x-jackson-smile"));
+		assertEquals(CatalogFormat.JSON, CatalogFormat.negotiate("application/cbor;q=0, application/json"));
+	}
+
+	@Test
+	void gzipIsOnlyUsedWhenAccepted() {
+		assertTrue(SerializedResponse.acceptsGzip("gzip, deflate, br"));
+		assertTrue(SerializedResponse.acceptsGzip("br;q=1.0, GZIP;q=0.5"));
+		assertTrue(SerializedResponse.acceptsGzip("*"));
+		assertFalse(SerializedResponse.acceptsGzip("gzip;q=0"));
+		assertFalse(SerializedResponse.acceptsGzip("identity"));
+		assertFalse(SerializedResponse.acceptsGzip(null));
+	}
+
+	@Test
+	void explicitGzipTakesPrecedenceOverTheWildcard() {
+		assertTrue(SerializedResponse.acceptsGzip("*;q=0, gzip"));
+		assertTrue(SerializedResponse.acceptsGzip("*;q=0, gzip;q=0.1"));
+		assertFalse(SerializedResponse.acceptsGzip("gzip;q=0, *"));
+		assertFalse(SerializedResponse.acceptsGzip("*;q=0"));
+		assertTrue(SerializedResponse.acceptsGzip("br, *;q=0.5"));
+		assertFalse(SerializedResponse.acceptsGzip("gzip;q=0.000"));
+		assertFalse(SerializedResponse.acceptsGzip("gzip;q=nope"));
+	}
+
+	private static CatalogSnapshot catalog(long version) {
+		return catalog(version, "Pineco");
+	}
+
+	private static CatalogSnapshot catalog(long version, String firstCardName) {
+		CardSetView set = CatalogFixtures.set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31));
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("sv1", "1", firstCardName, CatalogFixtures.SEEDED_AT),
+				CatalogFixtures.card("sv1", "2", "Forretress ex", CatalogFixtures.SEEDED_AT));
+		return CatalogSnapshot.build(version, 0, List.of(set), cards);
+	}
+}
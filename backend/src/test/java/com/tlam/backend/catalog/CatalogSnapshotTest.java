@@ -0,0 +1,171 @@
+package com.tlam.backend.catalog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardBatchDTO;
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.cardset.SeriesDTO;
+import com.tlam.backend.exception.InvalidCursorException;
+
+class CatalogSnapshotTest {
+
+	private static final LocalDateTime SEEDED_AT = CatalogFixtures.SEEDED_AT;
+
+	@Test
+	void etagsSurviveReloadsThatDoNotChangeTheResponse() {
+		CatalogValidator before = snapshot(1, "Pineco", SEEDED_AT).getCardsBySetValidator("sv1").orElseThrow();
+		CatalogValidator after = snapshot(2, "Pineco", SEEDED_AT).getCardsBySetValidator("sv1").orElseThrow();
+
+		assertEquals(before.etag(CatalogFormat.JSON, false), after.etag(CatalogFormat.JSON, false));
+		assertNotEquals(before.etag(CatalogFormat.JSON, false), before.etag(CatalogFormat.JSON, true));
+		assertNotEquals(before.etag(CatalogFormat.JSON, true), before.etag(CatalogFormat.CBOR, true));
+		assertEquals("\"" + before.fingerprint() + "\"", before.etag(CatalogFormat.JSON, false));
+		assertEquals(SEEDED_AT.plusDays(1), after.lastModified().atZone(ZoneId.systemDefault()).toLocalDateTime());
+	}
+
+	@Test
+	void etagChangesWhenACardChanges() {
+		CatalogValidator before = snapshot(1, "Pineco", SEEDED_AT).getCardsBySetValidator("sv1").orElseThrow();
+		CatalogValidator renamed = snapshot(2, "Pineco (Reverse Holo)", SEEDED_AT).getCardsBySetValidator("sv1").orElseThrow();
+		CatalogValidator touched = snapshot(3, "Pineco", SEEDED_AT.plusHours(1)).getCardsBySetValidator("sv1").orElseThrow();
+
+		assertNotEquals(before.etag(CatalogFormat.JSON, false), renamed.etag(CatalogFormat.JSON, false));
+		assertNotEquals(before.etag(CatalogFormat.JSON, false), touched.etag(CatalogFormat.JSON, false));
+		assertTrue(snapshot(4, "Pineco", SEEDED_AT).getCardsBySetValidator("sv2").isEmpty());
+	}
+
+	@Test
+	void etagChangesWhenTheBodyChangesButItsHashCodeDoesNot() {
+		// "Aa" and "BB" have the same String hashCode, so the DTOs have the same Lombok hashCode too
+		CatalogSnapshot before = snapshot(1, "Aa", SEEDED_AT);
+		CatalogSnapshot after = snapshot(2, "BB", SEEDED_AT);
+		assertEquals(before.getCardsBySet("sv1").get(0).hashCode(), after.getCardsBySet("sv1").get(0).hashCode());
+
+		assertNotEquals(before.getCardsBySetValidator("sv1").orElseThrow().fingerprint(),
+				after.getCardsBySetValidator("sv1").orElseThrow().fingerprint());
+	}
+
+	@Test
+	void pagesWalkTheSetInCardNumberOrder() {
+		List<CardView> cards = new ArrayList<>();
+		for (int number = 250; number >= 1; number--) {
+			cards.add(CatalogFixtures.card("sv1", String.valueOf(number)));
+		}
+		cards.add(CatalogFixtures.card("sv1", "TG01"));
+		CatalogSnapshot catalog = CatalogSnapshot.build(1, 0, List.of(set()), cards);
+
+		List<String> numbers = new ArrayList<>();
+		String cursor = null;
+		int pages = 0;
+		do {
+			PageDTO<CardDTO> page = catalog.getCardsBySetPage("sv1", cursor, 100);
+			page.getItems().forEach(card -> numbers.add(card.getNumber()));
+			cursor = page.getNextCursor();
+			pages++;
+		} while (cursor != null);
+
+		assertEquals(3, pages);
+		assertEquals(251, numbers.size());
+		assertEquals(List.of("1", "2", "3"), numbers.subList(0, 3));
+		assertEquals("10", numbers.get(9));
+		assertEquals("TG01", numbers.get(250));
+	}
+
+	@Test
+	void cursorsSurviveCatalogChangesAndRejectGarbage() {
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("sv1", "1"),
+				CatalogFixtures.card("sv1", "2"),
+				CatalogFixtures.card("sv1", "4"));
+		String cursor = CatalogSnapshot.build(1, 0, List.of(set()), cards).getCardsBySetPage("sv1", null, 2).getNextCursor();
+
+		// Card 2 (the cursor position) is removed and card 3 is added before the next page is requested
+		List<CardView> reseeded = List.of(cards.get(0), cards.get(2), CatalogFixtures.card("sv1", "3"));
+		PageDTO<CardDTO> next = CatalogSnapshot.build(2, 0, List.of(set()), reseeded).getCardsBySetPage("sv1", cursor, 2);
+
+		assertEquals(List.of("3", "4"), next.getItems().stream().map(CardDTO::getNumber).toList());
+		assertNull(next.getNextCursor());
+		assertThrows(InvalidCursorException.class, () -> CatalogSnapshot.build(3, 0, List.of(set()), cards).getCardsBySetPage("sv1", "not a cursor!", 2));
+	}
+
+	@Test
+	void batchLookupKeepsRequestOrderAndReportsMisses() {
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("sv1", "1"),
+				CatalogFixtures.card("sv1", "2"),
+				CatalogFixtures.card("sv1", "3"));
+		CatalogSnapshot catalog = CatalogSnapshot.build(1, 0, List.of(set()), cards);
+
+		CardBatchDTO batch = catalog.getCards(List.of("sv1-3", "sv9-1", "sv1-1", "sv1-3", "sv1-99"));
+
+		assertEquals(List.of("sv1-3", "sv1-1"), batch.getCards().stream().map(CardDTO::getId).toList());
+		assertEquals(List.of("sv9-1", "sv1-99"), batch.getMissing());
+	}
+
+	@Test
+	void seriesAggregateTheirSetsNewestFirst() {
+		List<CardSetView> sets = List.of(
+				CatalogFixtures.set("base1", "Base", LocalDate.of(1999, 1, 9)),
+				CatalogFixtures.set("base2", "Base", LocalDate.of(1999, 6, 16)),
+				set());
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("base1", "1"),
+				CatalogFixtures.card("base1", "2"),
+				CatalogFixtures.card("base2", "1"),
+				CatalogFixtures.card("sv1", "1"));
+		CatalogSnapshot catalog = CatalogSnapshot.build(1, 0, sets, cards);
+
+		List<SeriesDTO> series = catalog.getSeries();
+		assertEquals(List.of("Scarlet & Violet", "Base"), series.stream().map(SeriesDTO::getName).toList());
+		assertEquals(2, series.get(1).getSetCount());
+		assertEquals(3, series.get(1).getCardCount());
+		assertEquals(LocalDate.of(1999, 1, 9), series.get(1).getFirstReleaseDate());
+		assertEquals(LocalDate.of(1999, 6, 16), series.get(1).getLatestReleaseDate());
+
+		// The ETag only moves when a set or card of the listing changes
+		CatalogValidator before = catalog.getSeriesValidator().orElseThrow();
+		CatalogValidator after = CatalogSnapshot.build(2, 0, sets, cards).getSeriesValidator().orElseThrow();
+		assertEquals(before.etag(CatalogFormat.JSON, false), after.etag(CatalogFormat.JSON, false));
+		assertTrue(CatalogSnapshot.build(3, 0, List.of(), List.of()).getSeriesValidator().isEmpty());
+	}
+
+	@Test
+	void seriesEtagFollowsTheAggregates() {
+		List<CardView> cards = List.of(CatalogFixtures.card("sv1", "1"));
+		CatalogValidator before = CatalogSnapshot.build(1, 0, List.of(CatalogFixtures.set("sv1", "Aa", LocalDate.of(2023, 3, 31))), cards)
+				.getSeriesValidator().orElseThrow();
+		// Same Lombok hashCode as "Aa"
+		CatalogValidator renamed = CatalogSnapshot.build(2, 0, List.of(CatalogFixtures.set("sv1", "BB", LocalDate.of(2023, 3, 31))), cards)
+				.getSeriesValidator().orElseThrow();
+		CatalogValidator grown = CatalogSnapshot.build(3, 0, List.of(CatalogFixtures.set("sv1", "Aa", LocalDate.of(2023, 3, 31))),
+				List.of(cards.get(0), CatalogFixtures.card("sv1", "2"))).getSeriesValidator().orElseThrow();
+
+		assertNotEquals(before.fingerprint(), renamed.fingerprint());
+		assertNotEquals(before.fingerprint(), grown.fingerprint());
+	}
+
+	private static CardSetView set() {
+		return CatalogFixtures.set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31));
+	}
+
+	private static CatalogSnapshot snapshot(long version, String firstCardName, LocalDateTime firstCardUpdatedAt) {
+		List<CardView> cards = List.of(
+				CatalogFixtures.card("sv1", "1", firstCardName, firstCardUpdatedAt),
+				CatalogFixtures.card("sv1", "2", "Forretress ex", SEEDED_AT.plusDays(1)));
+		return CatalogSnapshot.build(version, 0, List.of(set()), cards);
+	}
+}
@@ -0,0 +1,137 @@
+package com.tlam.backend.deck;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class DeckLegalityIndexTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("sm7", "Series", LocalDate.of(2018, 5, 4)),
+					set("sv3", "Series", LocalDate.of(2023, 8, 11))),
+			List.of(cardBuilder("sm7", "1").name("Lunala").legality(null, "Legal", "Legal").subtypes("Basic", "Prism Star").build(),
+					cardBuilder("sm7", "2").name("Lysandre's Trump Card").supertype("Trainer").legality(null, "Banned", "Legal").subtypes("Item").build(),
+					cardBuilder("sv3", "1").name("Pidgey").subtypes("Basic").build(),
+					cardBuilder("sv3", "2").name("Pidgey").subtypes("Basic").build(),
+					cardBuilder("sv3", "3").name("Pidgeot ex").subtypes("Stage 2", "ex").build(),
+					cardBuilder("sv3", "4").name("Radiant Charizard").subtypes("Basic", "Radiant").build(),
+					cardBuilder("sv3", "5").name("Radiant Greninja").subtypes("Basic", "Radiant").build(),
+					cardBuilder("sv3", "6").name("Master Ball").supertype("Trainer").subtypes("Item", "ACE SPEC").build(),
+					cardBuilder("sv3", "7").name("Nest Ball").supertype("Trainer").subtypes("Item").build(),
+					cardBuilder("sv3", "8").name("Fire Energy").supertype("Energy").subtypes("Basic").build(),
+					cardBuilder("sv3", "9").name("Double Turbo Energy").supertype("Energy").subtypes("Special").build()));
+
+	@Test
+	void legalDeckHasNoProblems() {
+		DeckValidationDTO result = validate(DeckFormat.STANDARD, deck("sv3-1", 4, "sv3-3", 3, "sv3-4", 1, "sv3-6", 1,
+				"sv3-7", 4, "sv3-9", 4, "sv3-8", 43));
+
+		assertTrue(result.isLegal(), result.getProblems().toString());
+		assertEquals(60, result.getCardCount());
+		assertEquals("standard", result.getFormat());
+	}
+
+	@Test
+	void copyLimitCountsEveryPrintingOfAName() {
+		DeckValidationDTO result = validate(DeckFormat.STANDARD, deck("sv3-1", 3, "sv3-2", 2, "sv3-8", 55));
+
+		assertEquals(List.of(DeckRule.COPY_LIMIT), rules(result));
+		assertEquals("Pidgey", result.getProblems().get(0).getCardName());
+	}
+
+	@Test
+	void formatLegalityAndBansComeFromTheFormat() {
+		DeckDTO deck = deck("sm7-1", 1, "sm7-2", 1, "sv3-1", 4, "sv3-8", 54);
+
+		assertEquals(List.of(DeckRule.NOT_LEGAL, DeckRule.NOT_LEGAL), rules(validate(DeckFormat.STANDARD, deck)));
+		assertEquals(List.of(DeckRule.BANNED), rules(validate(DeckFormat.EXPANDED, deck)));
+		assertTrue(validate(DeckFormat.UNLIMITED, deck).isLegal());
+	}
+
+	@Test
+	void deckWideRulesAreCheckedAfterTheList() {
+		DeckValidationDTO result = validate(DeckFormat.STANDARD, deck("sv3-3", 2, "sv3-6", 2, "sm7-1", 2, "sv3-4", 1,
+				"sv3-5", 1, "nope-1", 1, "sv3-7", 0, "sv3-8", 10));
+
+		assertEquals(List.of(DeckRule.NOT_LEGAL, DeckRule.UNKNOWN_CARD, DeckRule.INVALID_COUNT, DeckRule.COPY_LIMIT,
+				DeckRule.DECK_SIZE, DeckRule.ACE_SPEC_LIMIT, DeckRule.RADIANT_LIMIT), rules(result));
+		assertEquals(18, result.getCardCount());
+
+		assertEquals(List.of(DeckRule.DECK_SIZE, DeckRule.NO_BASIC_POKEMON),
+				rules(validate(DeckFormat.STANDARD, deck("sv3-8", 20))));
+	}
+
+	@Test
+	void bundledCatalogValidatesThousandsOfDecksPerSecond() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		DeckLegalityIndex index = DeckLegalityIndex.build(catalog);
+
+		// A standard legal Basic Pokémon and 13 other names at 4 copies, filled up with basic energy
+		List<DeckEntryDTO> entries = new ArrayList<>();
+		List<String> names = new ArrayList<>();
+		String energy = null;
+		for (CardView card : catalog.getCards()) {
+			List<String> subtypes = card.subtypes();
+			if (!"Legal".equals(card.standardLegality()) || names.contains(card.name())
+					|| subtypes.contains("ACE SPEC") || subtypes.contains("Radiant")) {
+				continue;
+			}
+			boolean basicPokemon = "Pokémon".equals(card.supertype()) && subtypes.contains("Basic");
+			if ("Energy".equals(card.supertype()) && subtypes.contains("Basic")) {
+				energy = energy != null ? energy : card.id();
+			} else if (entries.size() < 14 && (basicPokemon || !entries.isEmpty())) {
+				entries.add(new DeckEntryDTO(card.id(), 4));
+				names.add(card.name());
+			}
+		}
+		entries.add(new DeckEntryDTO(energy, 60 - 4 * 14));
+		DeckDTO deck = new DeckDTO("bundled", entries);
+
+		DeckValidationDTO result = index.validate(catalog, DeckFormat.STANDARD, deck);
+		assertEquals(60, result.getCardCount());
+		assertTrue(result.isLegal(), result.getProblems().toString());
+		assertFalse(index.validate(catalog, DeckFormat.UNLIMITED, deck).getProblems().stream()
+				.anyMatch(problem -> problem.getRule() == DeckRule.NOT_LEGAL));
+
+		for (int i = 0; i < 20_000; i++) {
+			index.validate(catalog, DeckFormat.STANDARD, deck);
+		}
+		int decks = 20_000;
+		long start = System.nanoTime();
+		for (int i = 0; i < decks; i++) {
+			index.validate(catalog, DeckFormat.EXPANDED, deck);
+		}
+		double perSecond = decks / ((System.nanoTime() - start) / 1e9);
+		assertTrue(perSecond > 5_000, "Validated " + (long) perSecond + " decks per second");
+	}
+
+	private static DeckValidationDTO validate(DeckFormat format, DeckDTO deck) {
+		return DeckLegalityIndex.build(CATALOG).validate(CATALOG, format, deck);
+	}
+
+	private static List<DeckRule> rules(DeckValidationDTO result) {
+		return result.getProblems().stream().map(DeckProblemDTO::getRule).toList();
+	}
+
+	// Alternating card IDs and copy counts
+	private static DeckDTO deck(Object... idsAndCounts) {
+		List<DeckEntryDTO> entries = new ArrayList<>();
+		for (int i = 0; i < idsAndCounts.length; i += 2) {
+			entries.add(new DeckEntryDTO((String) idsAndCounts[i], (Integer) idsAndCounts[i + 1]));
+		}
+		return new DeckDTO("test", entries);
+	}
+}
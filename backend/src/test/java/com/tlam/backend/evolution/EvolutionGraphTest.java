@@ -0,0 +1,85 @@
+package com.tlam.backend.evolution;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class EvolutionGraphTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("base1", "Series", LocalDate.of(1999, 1, 9)),
+					set("sv3", "Series", LocalDate.of(2023, 8, 11))),
+			List.of(cardBuilder("base1", "4").name("Charizard").evolvesFrom("Charmeleon").build(),
+					cardBuilder("base1", "24").name("Charmeleon").evolvesFrom("Charmander").evolvesTo("Charizard").build(),
+					cardBuilder("base1", "46").name("Charmander").evolvesTo("Charmeleon").build(),
+					cardBuilder("base1", "91").name("Bill").build(),
+					cardBuilder("sv3", "26").name("Charmander").evolvesTo("Charmeleon").build(),
+					cardBuilder("sv3", "125").name("Charizard ex").evolvesFrom("Charmeleon").build(),
+					cardBuilder("sv3", "130").name("Eevee").evolvesTo("Vaporeon", "Jolteon").build(),
+					cardBuilder("sv3", "131").name("Vaporeon").evolvesFrom("Eevee").build(),
+					cardBuilder("sv3", "132").name("Jolteon").evolvesFrom("Eevee").build()));
+
+	@Test
+	void lineGoesUpToTheBasicAndDownEveryBranch() {
+		EvolutionGraph graph = EvolutionGraph.build(CATALOG);
+
+		EvolutionGraph.Line line = graph.line(CATALOG.getOrdinal("sv3-125"));
+		assertEquals(List.of("Charmander", "Charmeleon", "Charizard", "Charizard ex"), names(graph, line));
+		assertEquals(List.of(0, 1, 2, 2), Arrays.stream(line.stages()).boxed().toList());
+
+		// The same line from any Pokémon in it
+		assertEquals(names(graph, line), names(graph, graph.line(CATALOG.getOrdinal("base1-46"))));
+	}
+
+	@Test
+	void branchesIncludeEverySibling() {
+		EvolutionGraph graph = EvolutionGraph.build(CATALOG);
+
+		EvolutionGraph.Line line = graph.line(CATALOG.getOrdinal("sv3-131"));
+		assertEquals(List.of("Eevee", "Jolteon", "Vaporeon"), names(graph, line));
+		assertEquals(List.of("Eevee"), Arrays.stream(graph.parents(line.nodes()[2])).mapToObj(graph::name).toList());
+	}
+
+	@Test
+	void printingsAreNewestFirstAndCardsWithoutEvolutionsStandAlone() {
+		EvolutionGraph graph = EvolutionGraph.build(CATALOG);
+
+		int charmander = graph.nodeOf(CATALOG.getOrdinal("base1-46"));
+		assertEquals(2, graph.printingCount(charmander));
+		assertEquals(List.of("sv3-26", "base1-46"), Arrays.stream(graph.printings(charmander, 10))
+				.mapToObj(ordinal -> CATALOG.getCardByOrdinal(ordinal).id()).toList());
+		assertEquals(1, graph.printings(charmander, 1).length);
+
+		EvolutionGraph.Line bill = graph.line(CATALOG.getOrdinal("base1-91"));
+		assertEquals(List.of("Bill"), names(graph, bill));
+	}
+
+	@Test
+	void bundledCatalogLines() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		EvolutionGraph graph = EvolutionGraph.build(catalog);
+
+		List<String> eevee = names(graph, graph.line(catalog.getOrdinal("base2-51")));
+		assertTrue(eevee.containsAll(List.of("Eevee", "Vaporeon", "Jolteon", "Flareon", "Espeon", "Umbreon", "Sylveon")), eevee.toString());
+
+		EvolutionGraph.Line line = graph.line(catalog.getOrdinal("base1-4"));
+		List<String> charizard = names(graph, line);
+		assertEquals(0, line.stages()[charizard.indexOf("Charmander")]);
+		assertTrue(charizard.containsAll(List.of("Charmeleon", "Charizard", "Charizard ex")), charizard.toString());
+	}
+
+	private static List<String> names(EvolutionGraph graph, EvolutionGraph.Line line) {
+		return Arrays.stream(line.nodes()).mapToObj(graph::name).toList();
+	}
+}
@@ -0,0 +1,65 @@
+package com.tlam.backend.filter;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Latency of a filter with facet counts and its first page over the bundled catalog
+ * Run with mvn test -Pbenchmarks, correctness is covered by FacetIndexTest.
+ */
+@Slf4j
+@Tag("benchmark")
+class FacetIndexBenchmarkTest {
+
+	private static final int ROUNDS = 200;
+
+	@Test
+	void filtersTheFullCatalogWithinMilliseconds() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		FacetIndex index = FacetIndex.build(catalog);
+
+		List<Map<CardFacet, Set<String>>> filters = List.of(
+				Map.of(),
+				Map.of(CardFacet.TYPE, Set.of("Fire")),
+				Map.of(CardFacet.TYPE, Set.of("Fire", "Water"), CardFacet.SUPERTYPE, Set.of("Pokémon")),
+				Map.of(CardFacet.SERIES, Set.of("Scarlet & Violet"), CardFacet.RARITY, Set.of("Illustration Rare", "Special Illustration Rare")),
+				Map.of(CardFacet.REGULATION_MARK, Set.of("G", "H"), CardFacet.SUBTYPE, Set.of("ex"), CardFacet.TYPE, Set.of("Dark")),
+				Map.of(CardFacet.SET, Set.of("base1", "base2", "base3"), CardFacet.SUPERTYPE, Set.of("Trainer")));
+
+		// Warm up the JIT before measuring
+		for (int i = 0; i < 2_000; i++) {
+			for (Map<CardFacet, Set<String>> selected : filters) {
+				CardFilterService.page(catalog, index.filter(selected), null, 100);
+			}
+		}
+
+		long[] latencies = new long[ROUNDS * filters.size()];
+		int measured = 0;
+		for (int i = 0; i < ROUNDS; i++) {
+			for (Map<CardFacet, Set<String>> selected : filters) {
+				long start = System.nanoTime();
+				CardFilterService.page(catalog, index.filter(selected), null, 100);
+				latencies[measured++] = System.nanoTime() - start;
+			}
+		}
+
+		Arrays.sort(latencies);
+		log.info("Facet index over {} cards: filter with counts and first page p50 {} us, p99 {} us",
+				catalog.getCards().size(), latencies[latencies.length / 2] / 1_000, latencies[latencies.length * 99 / 100] / 1_000);
+
+		assertTrue(latencies[latencies.length * 99 / 100] < 5_000_000, "p99 filter latency should stay below 5 ms");
+	}
+}
@@ -0,0 +1,109 @@
+package com.tlam.backend.filter;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+import com.tlam.backend.exception.InvalidCursorException;
+
+class FacetIndexTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("base1", "Base", LocalDate.of(1999, 1, 9)),
+					set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31)),
+					set("sv2", "Scarlet & Violet", LocalDate.of(2023, 6, 9))),
+			List.of(cardBuilder("base1", "4").rarity("Rare Holo").subtypes("Stage 2").types("Fire").build(),
+					cardBuilder("base1", "46").rarity("Common").subtypes("Basic").types("Fire").build(),
+					cardBuilder("base1", "91").rarity("Common").supertype("Trainer").subtypes().types().build(),
+					cardBuilder("sv1", "1").rarity("Common").subtypes("Basic").types("Grass").regulationMark("G").build(),
+					cardBuilder("sv1", "2").rarity("Double Rare").subtypes("Basic", "ex").types("Fire", "Dark").regulationMark("G").build(),
+					cardBuilder("sv2", "1").rarity("Common").subtypes("Basic").types("Water").regulationMark("G").build(),
+					cardBuilder("sv2", "2").rarity("Uncommon").supertype("Trainer").subtypes("Item").types().regulationMark("G").build()));
+
+	@Test
+	void combinesValuesWithOrAndFacetsWithAnd() {
+		FacetIndex index = FacetIndex.build(CATALOG);
+
+		assertEquals(List.of("sv1-2", "base1-46", "base1-4"), ids(filter(index, Map.of(CardFacet.TYPE, Set.of("Fire")))));
+		assertEquals(List.of("sv2-1", "sv1-2", "base1-46", "base1-4"),
+				ids(filter(index, Map.of(CardFacet.TYPE, Set.of("Fire", "Water")))));
+		assertEquals(List.of("sv2-1", "sv1-2"),
+				ids(filter(index, Map.of(CardFacet.TYPE, Set.of("fire", "water"), CardFacet.SERIES, Set.of("Scarlet & Violet")))));
+		assertEquals(List.of(), ids(filter(index, Map.of(CardFacet.RARITY, Set.of("Secret Rare")))));
+		assertEquals(7, filter(index, Map.of()).getTotal());
+	}
+
+	@Test
+	void countsEachFacetUnderTheOtherFacetsSelections() {
+		FacetIndex index = FacetIndex.build(CATALOG);
+
+		CardFilterResultDTO result = filter(index, Map.of(CardFacet.SUPERTYPE, Set.of("Pokémon"), CardFacet.SET, Set.of("sv1")));
+
+		assertEquals(2, result.getTotal());
+		// Other sets stay selectable, counted under the supertype selection only
+		assertEquals(List.of("base1=2 ", "sv1=2 selected", "sv2=1 "), counts(result, CardFacet.SET));
+		assertEquals(List.of("Pokémon=2 selected"), counts(result, CardFacet.SUPERTYPE));
+		assertEquals(List.of("Basic=2 ", "ex=1 "), counts(result, CardFacet.SUBTYPE));
+		assertEquals(List.of("Dark=1 ", "Fire=1 ", "Grass=1 "), counts(result, CardFacet.TYPE));
+		assertEquals(List.of("G=2 "), counts(result, CardFacet.REGULATION_MARK));
+	}
+
+	@Test
+	void pagesNewestFirstWithCursors() {
+		FacetIndex index = FacetIndex.build(CATALOG);
+		FacetIndex.Result result = index.filter(Map.of(CardFacet.SUPERTYPE, Set.of("Pokémon")));
+
+		CardFilterResultDTO first = CardFilterService.page(CATALOG, result, null, 2);
+		CardFilterResultDTO second = CardFilterService.page(CATALOG, result, first.getNextCursor(), 2);
+		CardFilterResultDTO last = CardFilterService.page(CATALOG, result, second.getNextCursor(), 2);
+
+		assertEquals(List.of("sv2-1", "sv1-2"), ids(first));
+		assertEquals(List.of("sv1-1", "base1-46"), ids(second));
+		assertEquals(List.of("base1-4"), ids(last));
+		assertNull(last.getNextCursor());
+		assertEquals(5, last.getTotal());
+
+		assertThrows(InvalidCursorException.class, () -> CardFilterService.page(CATALOG, result, "not a cursor", 2));
+	}
+
+	@Test
+	void bundledCatalogFacetsCountEveryMatch() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		FacetIndex index = FacetIndex.build(catalog);
+
+		FacetIndex.Result fire = index.filter(Map.of(CardFacet.TYPE, Set.of("Fire")));
+		long expected = catalog.getCards().stream().filter(card -> card.types() != null && card.types().contains("Fire")).count();
+		assertTrue(expected > 1_000);
+		assertEquals(expected, fire.matches().getCardinality());
+		assertEquals(expected, CardFilterService.page(catalog, fire, null, 100).getTotal());
+	}
+
+	private static CardFilterResultDTO filter(FacetIndex index, Map<CardFacet, Set<String>> selected) {
+		return CardFilterService.page(CATALOG, index.filter(selected), null, 100);
+	}
+
+	private static List<String> ids(CardFilterResultDTO result) {
+		return result.getCards().stream().map(CardDTO::getId).toList();
+	}
+
+	private static List<String> counts(CardFilterResultDTO result, CardFacet facet) {
+		return result.getFacets().get(facet.parameter()).stream()
+				.map(count -> count.getValue() + "=" + count.getCount() + " " + (count.isSelected() ? "selected" : ""))
+				.sorted()
+				.toList();
+	}
+}
@@ -0,0 +1,95 @@
+package com.tlam.backend.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+class BlurHashEncoderTest {
+
+	// Hashes of the images below from the reference encoder (woltapp/blurhash)
+	private static final String GRADIENT_4X3 = "LsGuUU2@wxozqlR-jte=g0fjfQfj";
+	private static final String SPLIT_4X3 = "L~LjfL|T$0Jsw$sRjsa~fQfQfQfQ";
+	private static final String SPLIT_3X4 = "T~LjfL|T$0w$sRjsfQfQfQw$sRjs";
+
+	@Test
+	void matchesTheReferenceEncoder() {
+		assertEquals(GRADIENT_4X3, BlurHashEncoder.encode(gradient(16, 12), 4, 3));
+		assertEquals(SPLIT_4X3, BlurHashEncoder.encode(split(16, 12), 4, 3));
+		assertEquals(SPLIT_3X4, BlurHashEncoder.encode(split(16, 12), 3, 4));
+	}
+
+	@Test
+	void hashLengthAndSizeFlagFollowTheComponentCount() {
+		for (int componentsX = 1; componentsX <= 9; componentsX++) {
+			for (int componentsY = 1; componentsY <= 9; componentsY++) {
+				String hash = BlurHashEncoder.encode(gradient(16, 12), componentsX, componentsY);
+
+				assertEquals(4 + 2 * componentsX * componentsY, hash.length());
+				int sizeFlag = decodeBase83(hash.substring(0, 1));
+				assertEquals(componentsX, sizeFlag % 9 + 1);
+				assertEquals(componentsY, sizeFlag / 9 + 1);
+			}
+		}
+		assertThrows(IllegalArgumentException.class, () -> BlurHashEncoder.encode(gradient(16, 12), 0, 3));
+		assertThrows(IllegalArgumentException.class, () -> BlurHashEncoder.encode(gradient(16, 12), 4, 10));
+	}
+
+	@Test
+	void encodedImagesGetComponentsByOrientation() throws IOException {
+		// Logos are landscape (4x3 components), cards portrait (3x4)
+		String logo = BlurHashEncoder.encode(png(gradient(64, 48)));
+		String card = BlurHashEncoder.encode(png(gradient(48, 64)));
+
+		assertEquals(28, logo.length());
+		assertEquals(3 + 2 * 9, decodeBase83(logo.substring(0, 1)));
+		assertEquals(28, card.length());
+		assertEquals(2 + 3 * 9, decodeBase83(card.substring(0, 1)));
+
+		assertNull(BlurHashEncoder.encode(new byte[] { 1, 2, 3 }));
+		assertNull(BlurHashEncoder.encode(new byte[0]));
+	}
+
+	private static BufferedImage gradient(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, (x * 256 / width) << 16 | (y * 240 / height) << 8 | 128);
+			}
+		}
+		return image;
+	}
+
+	// Left half red, right half blue
+	private static BufferedImage split(int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		for (int y = 0; y < height; y++) {
+			for (int x = 0; x < width; x++) {
+				image.setRGB(x, y, x < width / 2 ? 0xFF0000 : 0x0000FF);
+			}
+		}
+		return image;
+	}
+
+	private static byte[] png(BufferedImage image) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", bytes);
+		return bytes.toByteArray();
+	}
+
+	private static int decodeBase83(String value) {
+		String characters = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz#$%*+,-.:;=?@[]^_{|}~";
+		int result = 0;
+		for (char c : value.toCharArray()) {
+			result = result * 83 + characters.indexOf(c);
+		}
+		return result;
+	}
+}
@@ -0,0 +1,107 @@
+package com.tlam.backend.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.tlam.backend.image.DiskLruImageCache.CachedImage;
+import com.tlam.backend.image.DiskLruImageCache.Lease;
+
+class DiskLruImageCacheTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void evictsLeastRecentlyUsedImageWhenOverCapacity() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 250);
+		CachedImage first = cache.put("sv1/1.png", new byte[100]);
+		cache.put("sv1/2.png", new byte[100]);
+
+		// Touch the first image so the second one becomes the eviction candidate
+		cache.get("sv1/1.png");
+		cache.put("sv1/3.png", new byte[100]);
+
+		assertTrue(cache.get("sv1/1.png").isPresent());
+		assertFalse(cache.get("sv1/2.png").isPresent());
+		assertTrue(cache.get("sv1/3.png").isPresent());
+		assertEquals(200, cache.size());
+		assertTrue(Files.exists(first.file()));
+	}
+
+	@Test
+	void rebuildsIndexFromDiskAfterRestart() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 1000);
+		CachedImage stored = cache.put("base1/logo.png", new byte[] { 1, 2, 3 });
+
+		DiskLruImageCache reopened = new DiskLruImageCache(directory, 1000);
+
+		assertEquals(1, reopened.count());
+		assertEquals(stored.etag(), reopened.get("base1/logo.png").orElseThrow().etag());
+	}
+
+	@Test
+	void replacingAnImageKeepsOnlyTheNewFile() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 1000, Duration.ZERO);
+		CachedImage original = cache.put("sv1/1.png", new byte[] { 1 });
+		CachedImage replacement = cache.put("sv1/1.png", new byte[] { 2, 2 });
+
+		assertFalse(Files.exists(original.file()));
+		assertTrue(Files.exists(replacement.file()));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	void leasedFilesSurviveEvictionUntilReleased() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 150, Duration.ZERO);
+		cache.put("sv1/1.png", new byte[100]);
+
+		try (Lease lease = cache.acquire("sv1/1.png").orElseThrow()) {
+			// A concurrent miss evicts the leased image while it is being served
+			cache.put("sv1/2.png", new byte[100]);
+
+			assertFalse(cache.get("sv1/1.png").isPresent());
+			assertTrue(Files.exists(lease.image().file()));
+			assertEquals(100, Files.size(lease.image().file()));
+
+			lease.close();
+			assertFalse(Files.exists(lease.image().file()));
+		}
+		assertTrue(cache.acquire("sv1/1.png").isEmpty());
+	}
+
+	@Test
+	void evictedFilesAreKeptForTheGracePeriod() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 150, Duration.ofHours(1));
+		CachedImage first = cache.put("sv1/1.png", new byte[100]);
+		cache.put("sv1/2.png", new byte[100]);
+
+		// Evicted, but a response may still be about to open it (sendfile)
+		assertFalse(cache.get("sv1/1.png").isPresent());
+		assertTrue(Files.exists(first.file()));
+		assertEquals(100, cache.size());
+	}
+
+	@Test
+	void restartDropsFilesReplacedBeforeIt() throws Exception {
+		DiskLruImageCache cache = new DiskLruImageCache(directory, 1000, Duration.ofHours(1));
+		CachedImage original = cache.put("sv1/1.png", new byte[] { 1 });
+		Files.setLastModifiedTime(original.file(), FileTime.fromMillis(0));
+		CachedImage replacement = cache.put("sv1/1.png", new byte[] { 2, 2 });
+
+		DiskLruImageCache reopened = new DiskLruImageCache(directory, 1000);
+
+		assertEquals(1, reopened.count());
+		assertEquals(2, reopened.size());
+		assertEquals(replacement.etag(), reopened.get("sv1/1.png").orElseThrow().etag());
+		assertFalse(Files.exists(original.file()));
+	}
+}
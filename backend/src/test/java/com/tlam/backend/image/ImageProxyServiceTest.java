@@ -0,0 +1,79 @@
+package com.tlam.backend.image;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.ExpectedCount.once;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import com.tlam.backend.config.ImageProxyConfig;
+import com.tlam.backend.config.ImageStoreConfig;
+import com.tlam.backend.image.DiskLruImageCache.Lease;
+
+class ImageProxyServiceTest {
+
+	@TempDir
+	Path directory;
+
+	private final ImageProxyConfig config = new ImageProxyConfig();
+	private final RestTemplate restTemplate = new RestTemplate();
+	private MockRestServiceServer origin;
+
+	@BeforeEach
+	void setUp() {
+		config.setCacheDirectory(directory.toString());
+		origin = MockRestServiceServer.bindTo(restTemplate).build();
+	}
+
+	@Test
+	void fetchesAnImageOnceAndServesItFromTheCache() throws Exception {
+		origin.expect(once(), requestTo("https://images.pokemontcg.io/sv1/1.png"))
+				.andRespond(withSuccess(new byte[] { 1, 2, 3 }, MediaType.IMAGE_PNG));
+		ImageProxyService service = new ImageProxyService(config, new ImageStoreConfig(), restTemplate);
+
+		for (int i = 0; i < 3; i++) {
+			try (Lease lease = service.getImage("sv1/1.png").orElseThrow()) {
+				assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(lease.image().file()));
+			}
+		}
+		origin.verify();
+	}
+
+	@Test
+	void remembersImagesTheOriginDoesNotHave() {
+		origin.expect(once(), requestTo("https://images.pokemontcg.io/sv1/999.png"))
+				.andRespond(withStatus(HttpStatus.NOT_FOUND));
+		ImageProxyService service = new ImageProxyService(config, new ImageStoreConfig(), restTemplate);
+
+		assertTrue(service.getImage("sv1/999.png").isEmpty());
+		assertTrue(service.getImage("sv1/999.png").isEmpty());
+		origin.verify();
+	}
+
+	@Test
+	void asksTheOriginAgainOnceTheMissExpires() {
+		config.setNotFoundTtl(Duration.ZERO);
+		origin.expect(once(), requestTo("https://images.pokemontcg.io/sv1/999.png"))
+				.andRespond(withStatus(HttpStatus.NOT_FOUND));
+		origin.expect(once(), requestTo("https://images.pokemontcg.io/sv1/999.png"))
+				.andRespond(withSuccess(new byte[] { 4 }, MediaType.IMAGE_PNG));
+		ImageProxyService service = new ImageProxyService(config, new ImageStoreConfig(), restTemplate);
+
+		assertTrue(service.getImage("sv1/999.png").isEmpty());
+		assertTrue(service.getImage("sv1/999.png").isPresent());
+		origin.verify();
+	}
+}
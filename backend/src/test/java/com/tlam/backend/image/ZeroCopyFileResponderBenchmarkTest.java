@@ -0,0 +1,103 @@
+package com.tlam.backend.image;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Throughput of serving a large card image, in full and as ranges, without the sendfile connector
+ * Run with mvn test -Pbenchmarks, results are logged.
+ */
+@Slf4j
+@Tag("benchmark")
+class ZeroCopyFileResponderBenchmarkTest {
+
+	// Size of a large card image
+	private static final int IMAGE_SIZE = 200 * 1024;
+	private static final int WARMUP_REQUESTS = 2_000;
+	private static final int REQUESTS = 10_000;
+
+	@TempDir
+	Path directory;
+
+	private final ZeroCopyFileResponder responder = new ZeroCopyFileResponder();
+
+	@Test
+	void servesImages() throws Exception {
+		byte[] content = new byte[IMAGE_SIZE];
+		new Random(42).nextBytes(content);
+		Path file = directory.resolve("image.png");
+		Files.write(file, content);
+
+		measure("full", file, null, IMAGE_SIZE);
+		measure("range", file, "bytes=0-16383", 16 * 1024);
+	}
+
+	private void measure(String name, Path file, String range, int expectedLength) throws Exception {
+		for (int i = 0; i < WARMUP_REQUESTS; i++) {
+			serve(file, range, expectedLength);
+		}
+
+		long start = System.nanoTime();
+		for (int i = 0; i < REQUESTS; i++) {
+			serve(file, range, expectedLength);
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		log.info("{} responses of {} bytes: {} requests/s, {} MB/s", name, expectedLength,
+				Math.round(REQUESTS / seconds), Math.round((double) REQUESTS * expectedLength / seconds / (1024 * 1024)));
+	}
+
+	private void serve(Path file, String range, int expectedLength) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		if (range != null) {
+			request.addHeader(HttpHeaders.RANGE, range);
+		}
+		CountingResponse response = new CountingResponse();
+		responder.serve(file, MediaType.IMAGE_PNG, CacheControl.noCache(), request, response);
+		assertEquals(expectedLength, response.written);
+	}
+
+	// Discards the body, so the benchmark measures the responder rather than a growing buffer
+	private static final class CountingResponse extends MockHttpServletResponse {
+		private long written;
+
+		@Override
+		public ServletOutputStream getOutputStream() {
+			return new ServletOutputStream() {
+				@Override
+				public void write(int b) {
+					written++;
+				}
+
+				@Override
+				public void write(byte[] b, int off, int len) {
+					written += len;
+				}
+
+				@Override
+				public boolean isReady() {
+					return true;
+				}
+
+				@Override
+				public void setWriteListener(WriteListener writeListener) {
+				}
+			};
+		}
+	}
+}
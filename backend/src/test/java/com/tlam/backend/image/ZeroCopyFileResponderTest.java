@@ -0,0 +1,142 @@
+package com.tlam.backend.image;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ZeroCopyFileResponderTest {
+
+	@TempDir
+	Path directory;
+
+	private final ZeroCopyFileResponder responder = new ZeroCopyFileResponder();
+	private Path file;
+	private byte[] content;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		content = new byte[1000];
+		for (int i = 0; i < content.length; i++) {
+			content[i] = (byte) i;
+		}
+		file = directory.resolve("image.png");
+		Files.write(file, content);
+	}
+
+	@Test
+	void servesFullFileWithEtag() throws Exception {
+		MockHttpServletResponse response = serve(new MockHttpServletRequest("GET", "/"));
+
+		assertEquals(200, response.getStatus());
+		assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void answersMatchingIfNoneMatchWithNotModified() throws Exception {
+		String etag = serve(new MockHttpServletRequest("GET", "/")).getHeader(HttpHeaders.ETAG);
+
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void servesSingleByteRange() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=100-199");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes 100-199/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertArrayEquals(Arrays.copyOfRange(content, 100, 200), response.getContentAsByteArray());
+	}
+
+	@Test
+	void servesSuffixRange() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=-10");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(206, response.getStatus());
+		assertArrayEquals(Arrays.copyOfRange(content, 990, 1000), response.getContentAsByteArray());
+	}
+
+	@Test
+	void rejectsRangeBeyondEndOfFile() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=5000-");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void rejectsValidRangeStartingPastEndOfFile() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=1000-1999");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void ignoresInvalidRanges() throws Exception {
+		// RFC 9110 says an invalid Range header is ignored, the full file is sent
+		for (String range : List.of("bytes=5-3", "bytes=-", "bytes=a-9", "bytes=+1-9", "bytes=1--9")) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+			request.addHeader(HttpHeaders.RANGE, range);
+			MockHttpServletResponse response = serve(request);
+
+			assertEquals(200, response.getStatus(), range);
+			assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE), range);
+			assertArrayEquals(content, response.getContentAsByteArray(), range);
+		}
+	}
+
+	@Test
+	void clampsRangeEndToEndOfFile() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=990-99999999999999999999");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes 990-999/1000", response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void ignoresRangeWhenIfRangeDoesNotMatch() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+		request.addHeader(HttpHeaders.IF_RANGE, "\"stale\"");
+		MockHttpServletResponse response = serve(request);
+
+		assertEquals(200, response.getStatus());
+		assertEquals(1000, response.getContentAsByteArray().length);
+	}
+
+	private MockHttpServletResponse serve(MockHttpServletRequest request) throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		responder.serve(file, MediaType.IMAGE_PNG, CacheControl.noCache(), request, response);
+		return response;
+	}
+}
@@ -0,0 +1,40 @@
+package com.tlam.backend.pokemontcgapi;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.Card;
+import com.tlam.backend.cardset.CardSet;
+
+class CardAttributesTest {
+
+	@Test
+	void cardsSeededBeforePlaceholdersGetOne() {
+		Card existing = Card.builder().id("sv1-1").standardLegality("Legal").build();
+		Card seeded = Card.builder().id("sv1-1").imagePlaceholder("LEHV6nWB2yk8pyo0adR*.7kCMdnj").standardLegality("Legal").build();
+
+		assertTrue(CardAttributes.fillMissing(existing, seeded));
+		assertEquals("LEHV6nWB2yk8pyo0adR*.7kCMdnj", existing.getImagePlaceholder());
+
+		// A placeholder that is already stored is kept, and a failed encode never clears it
+		seeded.setImagePlaceholder(null);
+		assertFalse(CardAttributes.fillMissing(existing, seeded));
+		assertEquals("LEHV6nWB2yk8pyo0adR*.7kCMdnj", existing.getImagePlaceholder());
+	}
+
+	@Test
+	void setsSeededBeforePlaceholdersGetOne() {
+		CardSet existing = CardSet.builder().id("sv1").build();
+		CardSet seeded = CardSet.builder().id("sv1").logoPlaceholder("L6PZfSi_.AyE_3t7t7R**0o#DgR4").build();
+
+		assertTrue(CardAttributes.fillMissing(existing, seeded));
+		assertEquals("L6PZfSi_.AyE_3t7t7R**0o#DgR4", existing.getLogoPlaceholder());
+
+		seeded.setLogoPlaceholder("LKO2?U%2Tw=w]~RBVZRi};RPxuwH");
+		assertFalse(CardAttributes.fillMissing(existing, seeded));
+		assertEquals("L6PZfSi_.AyE_3t7t7R**0o#DgR4", existing.getLogoPlaceholder());
+	}
+}
@@ -0,0 +1,90 @@
+package com.tlam.backend.printing;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class CrossPrintIndexTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("base1", "Series", LocalDate.of(1999, 1, 9)),
+					set("sm10", "Series", LocalDate.of(2019, 5, 3)),
+					set("sv3", "Series", LocalDate.of(2023, 8, 11))),
+			List.of(cardBuilder("base1", "4").name("Charizard").nationalPokedexNumbers(6).build(),
+					cardBuilder("base1", "91").name("Bill").supertype("Trainer").subtypes("Supporter").build(),
+					cardBuilder("sm10", "20").name("Charizard & Braixen-GX").nationalPokedexNumbers(6, 654).build(),
+					cardBuilder("sm10", "22").name("Charizard & Braixen-GX").nationalPokedexNumbers(6, 654).build(),
+					cardBuilder("sm10", "147").name("Bill's Analysis").supertype("Trainer").subtypes("Supporter").build(),
+					cardBuilder("sv3", "125").name("Charizard ex").nationalPokedexNumbers(6).build(),
+					cardBuilder("sv3", "54").name("Dark Charizard").nationalPokedexNumbers(6).build(),
+					cardBuilder("sv3", "200").name("Bill").supertype("Trainer").subtypes("Supporter").build()));
+
+	@Test
+	void findsEveryPrintingOfAPokemonNewestSetFirst() {
+		CrossPrintIndex index = CrossPrintIndex.build(CATALOG);
+
+		assertEquals(List.of("sv3-54", "sv3-125", "sm10-20", "sm10-22", "base1-4"), ids(index.byPokedexNumber(6)));
+		assertEquals(List.of("sm10-20", "sm10-22"), ids(index.byPokedexNumber(654)));
+		assertEquals(List.of(), ids(index.byPokedexNumber(25)));
+	}
+
+	@Test
+	void namesResolveToThePokemonTheyShow() {
+		CrossPrintIndex index = CrossPrintIndex.build(CATALOG);
+
+		CrossPrintIndex.Printings charizard = index.byName("charizard");
+		assertEquals(List.of(6), charizard.pokedexNumbers());
+		assertEquals(5, charizard.ordinals().length);
+		assertEquals(ids(charizard), ids(index.byName("Charizard ex")));
+
+		// Trainers have no Pokédex number and only match their own name
+		CrossPrintIndex.Printings bill = index.byName("BILL");
+		assertTrue(bill.pokedexNumbers().isEmpty());
+		assertEquals(List.of("sv3-200", "base1-91"), ids(bill));
+		assertEquals(List.of(), ids(index.byName("Professor Oak")));
+	}
+
+	@Test
+	void tagTeamsOnlyMatchTheSameTagTeam() {
+		CrossPrintIndex index = CrossPrintIndex.build(CATALOG);
+
+		CrossPrintIndex.Printings tagTeam = index.ofCard(CATALOG.getOrdinal("sm10-22"));
+		assertEquals(List.of(6, 654), tagTeam.pokedexNumbers());
+		assertEquals(List.of("sm10-20", "sm10-22"), ids(tagTeam));
+		assertEquals(5, index.ofCard(CATALOG.getOrdinal("base1-4")).ordinals().length);
+	}
+
+	@Test
+	void bundledCatalogPrintingsFollowReleaseDates() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+		CrossPrintIndex index = CrossPrintIndex.build(catalog);
+
+		CrossPrintIndex.Printings charizard = index.byPokedexNumber(6);
+		assertTrue(charizard.ordinals().length > 50);
+		List<String> names = Arrays.stream(charizard.ordinals()).mapToObj(o -> catalog.getCardByOrdinal(o).name()).toList();
+		assertTrue(names.containsAll(List.of("Charizard", "Dark Charizard", "Charizard ex")));
+
+		LocalDate previous = LocalDate.MAX;
+		for (int ordinal : charizard.ordinals()) {
+			LocalDate releaseDate = catalog.getSet(catalog.getCardByOrdinal(ordinal).setId()).orElseThrow().releaseDate();
+			assertFalse(releaseDate.isAfter(previous));
+			previous = releaseDate;
+		}
+	}
+
+	private static List<String> ids(CrossPrintIndex.Printings printings) {
+		return Arrays.stream(printings.ordinals()).mapToObj(ordinal -> CATALOG.getCardByOrdinal(ordinal).id()).toList();
+	}
+}
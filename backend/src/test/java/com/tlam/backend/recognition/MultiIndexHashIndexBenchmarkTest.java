@@ -0,0 +1,62 @@
+package com.tlam.backend.recognition;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query latency of the recognition index over a catalog sized index (~20k cards)
+ * Queries are catalog hashes with a few flipped bits, like a photo of a card would produce.
+ * Run with mvn test -Pbenchmarks, correctness is covered by MultiIndexHashIndexTest.
+ */
+@Slf4j
+@Tag("benchmark")
+class MultiIndexHashIndexBenchmarkTest {
+
+	private static final int CATALOG_SIZE = 20_000;
+	private static final int QUERIES = 2_000;
+	private static final int MAX_DISTANCE = 10;
+
+	@Test
+	void findsNoisyCatalogHashesWithinMilliseconds() {
+		Random random = new Random(42);
+		long[] catalog = MultiIndexHashIndexFixtures.catalog(CATALOG_SIZE, random);
+		MultiIndexHashIndex index = new MultiIndexHashIndex(catalog);
+
+		// Warm up the JIT before measuring
+		for (int i = 0; i < QUERIES; i++) {
+			index.search(MultiIndexHashIndexFixtures.flipBits(catalog[i], 3, random), MAX_DISTANCE);
+			MultiIndexHashIndexFixtures.bruteForce(catalog, catalog[i], MAX_DISTANCE);
+		}
+
+		long[] indexLatencies = new long[QUERIES];
+		long[] scanLatencies = new long[QUERIES];
+		for (int i = 0; i < QUERIES; i++) {
+			long query = MultiIndexHashIndexFixtures.flipBits(catalog[random.nextInt(CATALOG_SIZE)],
+					random.nextInt(MAX_DISTANCE + 1), random);
+
+			long start = System.nanoTime();
+			index.search(query, MAX_DISTANCE);
+			indexLatencies[i] = System.nanoTime() - start;
+
+			start = System.nanoTime();
+			MultiIndexHashIndexFixtures.bruteForce(catalog, query, MAX_DISTANCE);
+			scanLatencies[i] = System.nanoTime() - start;
+		}
+
+		Arrays.sort(indexLatencies);
+		Arrays.sort(scanLatencies);
+		log.info("Recognition index over {} hashes, radius {}: p50 {} us, p99 {} us (linear scan p50 {} us, p99 {} us)",
+				CATALOG_SIZE, MAX_DISTANCE,
+				indexLatencies[QUERIES / 2] / 1_000, indexLatencies[QUERIES * 99 / 100] / 1_000,
+				scanLatencies[QUERIES / 2] / 1_000, scanLatencies[QUERIES * 99 / 100] / 1_000);
+
+		assertTrue(indexLatencies[QUERIES * 99 / 100] < 5_000_000, "p99 query latency should stay below 5 ms");
+	}
+}
@@ -0,0 +1,44 @@
+package com.tlam.backend.recognition;
+
+import java.util.Random;
+
+/**
+ * Random catalog hashes and noisy queries for the recognition index tests
+ */
+final class MultiIndexHashIndexFixtures {
+
+	private MultiIndexHashIndexFixtures() {
+	}
+
+	static long[] catalog(int size, Random random) {
+		long[] catalog = new long[size];
+		for (int i = 0; i < size; i++) {
+			catalog[i] = random.nextLong();
+		}
+		return catalog;
+	}
+
+	// Flips exactly count distinct bits, like a photo of a card would produce
+	static long flipBits(long hash, int count, Random random) {
+		long flipped = hash;
+		int flippedCount = 0;
+		while (flippedCount < count) {
+			long bit = 1L << random.nextInt(Long.SIZE);
+			if ((flipped & bit) == (hash & bit)) {
+				flipped ^= bit;
+				flippedCount++;
+			}
+		}
+		return flipped;
+	}
+
+	static int bruteForce(long[] catalog, long query, int maxDistance) {
+		int count = 0;
+		for (long hash : catalog) {
+			if (PerceptualHash.distance(hash, query) <= maxDistance) {
+				count++;
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,34 @@
+package com.tlam.backend.recognition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MultiIndexHashIndexTest {
+
+	private static final int CATALOG_SIZE = 20_000;
+	private static final int QUERIES = 500;
+	private static final int MAX_DISTANCE = 10;
+
+	@Test
+	void findsNoisyCatalogHashesLikeALinearScan() {
+		Random random = new Random(42);
+		long[] catalog = MultiIndexHashIndexFixtures.catalog(CATALOG_SIZE, random);
+		MultiIndexHashIndex index = new MultiIndexHashIndex(catalog);
+
+		for (int i = 0; i < QUERIES; i++) {
+			int expected = random.nextInt(CATALOG_SIZE);
+			long query = MultiIndexHashIndexFixtures.flipBits(catalog[expected], random.nextInt(MAX_DISTANCE + 1), random);
+
+			List<MultiIndexHashIndex.Match> matches = index.search(query, MAX_DISTANCE);
+
+			assertTrue(matches.stream().anyMatch(match -> match.position() == expected));
+			assertEquals(MultiIndexHashIndexFixtures.bruteForce(catalog, query, MAX_DISTANCE), matches.size());
+			assertTrue(matches.stream().allMatch(match -> PerceptualHash.distance(catalog[match.position()], query) <= MAX_DISTANCE));
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.tlam.backend.recognition;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+
+class PerceptualHashTest {
+
+	@Test
+	void rescaledAndRecompressedImageStaysClose() throws Exception {
+		BufferedImage original = randomShapes(new Random(1), 734, 1024);
+		BufferedImage photo = resize(original, 300, 418);
+
+		long originalHash = PerceptualHash.compute(original);
+		long photoHash = PerceptualHash.compute(encode(photo, "jpg"));
+
+		assertTrue(PerceptualHash.distance(originalHash, photoHash) <= 6);
+	}
+
+	@Test
+	void differentImagesAreFarApart() {
+		long first = PerceptualHash.compute(randomShapes(new Random(1), 734, 1024));
+		long second = PerceptualHash.compute(randomShapes(new Random(2), 734, 1024));
+
+		assertTrue(PerceptualHash.distance(first, second) > 12);
+	}
+
+	@Test
+	void unreadableBytesHaveNoHash() {
+		assertNull(PerceptualHash.compute(new byte[] { 1, 2, 3 }));
+	}
+
+	private static BufferedImage randomShapes(Random random, int width, int height) {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = image.createGraphics();
+		for (int i = 0; i < 40; i++) {
+			graphics.setColor(new Color(random.nextInt(0xFFFFFF)));
+			graphics.fillOval(random.nextInt(width), random.nextInt(height), 50 + random.nextInt(300), 50 + random.nextInt(300));
+		}
+		graphics.dispose();
+		return image;
+	}
+
+	private static BufferedImage resize(BufferedImage source, int width, int height) {
+		BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = resized.createGraphics();
+		graphics.drawImage(source, 0, 0, width, height, null);
+		graphics.dispose();
+		return resized;
+	}
+
+	private static byte[] encode(BufferedImage image, String format) throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		ImageIO.write(image, format, output);
+		return output.toByteArray();
+	}
+}
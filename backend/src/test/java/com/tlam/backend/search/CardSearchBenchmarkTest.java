@@ -0,0 +1,74 @@
+package com.tlam.backend.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Query latency of the search index over the whole bundled English catalog
+ * The query mix covers exact names, prefixes as typed in a search box, multi-field queries and misspellings.
+ * Run with mvn test -Pbenchmarks, correctness is covered by CardSearchIndexTest.
+ */
+@Slf4j
+@Tag("benchmark")
+class CardSearchBenchmarkTest {
+
+	private static final List<String> QUERIES = List.of(
+			"pikachu", "charizard ex", "char", "p", "mew", "umbreon vmax", "arita", "ken sugimori", "base", "energy",
+			"trainer", "professor", "rare holo", "illustration rare", "pikachu 151", "charzard", "gyarados", "lugia v",
+			"scarlet violet", "sword shield", "black star promo", "eevee", "eeveelution", "ho-oh", "hooh", "flabebe",
+			"farfetchd", "mewtwo gx", "secret", "zz", "rayquaza", "pika", "dark", "team rocket", "psychic energy", "s");
+
+	private static final int WARMUP_ROUNDS = 1000;
+	private static final int ROUNDS = 100;
+
+	@Test
+	void searchesTheFullCatalogWithinMilliseconds() throws IOException {
+		CatalogSnapshot catalog = BundledCatalog.load();
+
+		long start = System.nanoTime();
+		CardSearchService.SearchState state = CardSearchService.rebuild(CardSearchService.SearchState.EMPTY, catalog);
+		long buildMillis = (System.nanoTime() - start) / 1_000_000;
+
+		start = System.nanoTime();
+		CardSearchService.SearchState reused = CardSearchService.rebuild(state, catalog);
+		long rebuildMillis = (System.nanoTime() - start) / 1_000_000;
+		assertEquals(state.index().termCount(), reused.index().termCount());
+
+		// Warm up the JIT before measuring
+		for (int round = 0; round < WARMUP_ROUNDS; round++) {
+			for (String query : QUERIES) {
+				state.search(query, 20);
+			}
+		}
+
+		long[] latencies = new long[ROUNDS * QUERIES.size()];
+		int measured = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			for (String query : QUERIES) {
+				start = System.nanoTime();
+				state.search(query, 20);
+				latencies[measured++] = System.nanoTime() - start;
+			}
+		}
+
+		Arrays.sort(latencies);
+		log.info("Search index over {} cards, {} terms: built in {} ms, rebuilt unchanged in {} ms, p50 {} us, p99 {} us",
+				state.index().documentCount(), state.index().termCount(), buildMillis, rebuildMillis,
+				latencies[latencies.length / 2] / 1_000, latencies[latencies.length * 99 / 100] / 1_000);
+
+		assertTrue(state.search("charizard", 20).total() > 50);
+		assertTrue(latencies[latencies.length * 99 / 100] < 5_000_000, "p99 query latency should stay below 5 ms");
+	}
+}
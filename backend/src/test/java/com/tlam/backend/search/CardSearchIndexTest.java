@@ -0,0 +1,128 @@
+package com.tlam.backend.search;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardView;
+import com.tlam.backend.cardset.CardSetView;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class CardSearchIndexTest {
+
+	private static final List<CardSetView> SETS = List.of(
+			set("base1", "Base", "Base", LocalDate.of(1999, 1, 9)),
+			set("sv3pt5", "151", "Scarlet & Violet", LocalDate.of(2023, 9, 22)));
+
+	private static final List<CardView> CARDS = List.of(
+			cardBuilder("base1", "4").name("Charizard").rarity("Rare Holo").artist("Mitsuhiro Arita", null).build(),
+			cardBuilder("base1", "46").name("Charmander").artist("Mitsuhiro Arita", null).build(),
+			cardBuilder("base1", "58").name("Pikachu").artist("Mitsuhiro Arita", null).build(),
+			cardBuilder("sv3pt5", "6").name("Charizard ex").rarity("Double Rare").artist("PLANETA Mochizuki", null).build(),
+			cardBuilder("sv3pt5", "25").name("Pikachu").artist("Kagemaru Himeno", null).build(),
+			cardBuilder("sv3pt5", "83").name("Farfetch'd").artist("Sanosuke Sakuma", null).build(),
+			cardBuilder("sv3pt5", "202").name("Flabébé").artist("Kagemaru Himeno", null).build());
+
+	@Test
+	void ranksNameMatchesFirstAndNewerCardsAmongEqualMatches() {
+		CardSearchService.SearchState state = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+
+		CardSearchResultDTO result = search(state, "charizard");
+
+		assertEquals(2, result.getTotal());
+		// The shorter name is the closer match, "ex" is a second name term
+		assertEquals("base1-4", result.getResults().get(0).getCard().getId());
+		assertEquals("sv3pt5-6", result.getResults().get(1).getCard().getId());
+
+		List<CardSearchHitDTO> pikachus = search(state, "pikachu").getResults();
+		assertEquals(List.of("sv3pt5-25", "base1-58"), pikachus.stream().map(hit -> hit.getCard().getId()).toList());
+		assertEquals("151", pikachus.get(0).getSetName());
+	}
+
+	@Test
+	void matchesEveryQueryTermAcrossFields() {
+		CardSearchService.SearchState state = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+
+		assertEquals(List.of("base1-58"), ids(search(state, "pikachu base")));
+		assertEquals(List.of("base1-4", "base1-46", "base1-58"), sorted(ids(search(state, "arita"))));
+		assertEquals(List.of("sv3pt5-6"), ids(search(state, "charizard double rare")));
+		assertEquals(0, search(state, "charizard kagemaru").getTotal());
+	}
+
+	@Test
+	void matchesPrefixesInfixesAndMisspellings() {
+		CardSearchService.SearchState state = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+
+		// Completions that add the least rank first, then shorter names
+		assertEquals(List.of("base1-4", "base1-46", "sv3pt5-6"), ids(search(state, "char")));
+		assertEquals(List.of("base1-46"), ids(search(state, "mander")));
+		assertEquals(List.of("base1-4", "sv3pt5-6"), ids(search(state, "charzard")));
+		assertEquals(0, search(state, "xyzzy").getTotal());
+	}
+
+	@Test
+	void ignoresCaseDiacriticsAndPunctuation() {
+		CardSearchService.SearchState state = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+
+		assertEquals(List.of("sv3pt5-202"), ids(search(state, "FLABEBE")));
+		assertEquals(List.of("sv3pt5-83"), ids(search(state, "farfetchd")));
+		assertEquals(List.of("sv3pt5-83"), ids(search(state, "Farfetch’d")));
+		assertEquals(0, search(state, "  ,;  ").getTotal());
+	}
+
+	@Test
+	void reusesSegmentsOfUnchangedSets() {
+		CardSearchService.SearchState first = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+
+		List<CardView> renamed = CARDS.stream()
+				.map(card -> card.id().equals("sv3pt5-83")
+						? cardBuilder("sv3pt5", "83").name("Farfetch'd ex").artist("Sanosuke Sakuma", null).build()
+						: card)
+				.toList();
+		CardSearchService.SearchState second = rebuild(first, renamed);
+
+		assertSame(first.segments().get("base1"), second.segments().get("base1"));
+		assertTrue(first.segments().get("sv3pt5") != second.segments().get("sv3pt5"));
+		assertEquals(List.of("sv3pt5-6", "sv3pt5-83"), sorted(ids(search(second, "ex"))));
+		assertEquals(List.of("base1-58"), ids(search(second, "pikachu base")));
+	}
+
+	@Test
+	void scratchesAreClearedForTheNextSearchAndBoundToTheirIndex() {
+		CardSearchService.SearchState state = rebuild(CardSearchService.SearchState.EMPTY, CARDS);
+		CardSearchIndex.Scratch scratch = state.index().newScratch();
+
+		// A query that stops at a term without matches must not leave scores behind
+		assertEquals(0, state.index().search("charizard xyzzy", 10, scratch).total());
+		CardSearchIndex.Result again = state.index().search("charizard", 10, scratch);
+		assertEquals(2, again.total());
+		assertEquals(again.hits(), state.index().search("charizard", 10, state.index().newScratch()).hits());
+
+		CardSearchIndex other = rebuild(CardSearchService.SearchState.EMPTY, CARDS).index();
+		assertThrows(IllegalArgumentException.class, () -> other.search("charizard", 10, scratch));
+	}
+
+	private static CardSearchService.SearchState rebuild(CardSearchService.SearchState previous, List<CardView> cards) {
+		return CardSearchService.rebuild(previous, CatalogSnapshot.build(1, 0, SETS, cards));
+	}
+
+	private static CardSearchResultDTO search(CardSearchService.SearchState state, String query) {
+		return CardSearchService.toResult(state.snapshot(), query, state.search(query, 10));
+	}
+
+	private static List<String> ids(CardSearchResultDTO result) {
+		return result.getResults().stream().map(hit -> hit.getCard().getId()).toList();
+	}
+
+	private static List<String> sorted(List<String> ids) {
+		return ids.stream().sorted().toList();
+	}
+}
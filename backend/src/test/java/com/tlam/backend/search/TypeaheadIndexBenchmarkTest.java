@@ -0,0 +1,56 @@
+package com.tlam.backend.search;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Completion latency of the typeahead index over the bundled catalog, for prefixes of one to seven characters
+ * Run with mvn test -Pbenchmarks, correctness is covered by TypeaheadIndexTest.
+ */
+@Slf4j
+@Tag("benchmark")
+class TypeaheadIndexBenchmarkTest {
+
+	private static final int ROUNDS = 200;
+
+	@Test
+	void completesEveryPrefixOfTheFullCatalogWithinMicroseconds() throws IOException {
+		TypeaheadIndex index = TypeaheadIndex.build(TypeaheadService.entries(BundledCatalog.load(), Map.of()));
+
+		List<String> prefixes = List.of("p", "pi", "pik", "pika", "pikac", "c", "ch", "cha", "char", "chari", "m", "me", "mew",
+				"mewt", "u", "um", "umb", "s", "sc", "sca", "scar", "e", "ee", "eev", "ex", "v", "vm", "ho", "ho o", "dark ch");
+		// Warm up the JIT before measuring
+		for (int round = 0; round < 2_000; round++) {
+			for (String prefix : prefixes) {
+				index.complete(prefix, TypeaheadIndex.MAX_SUGGESTIONS);
+			}
+		}
+
+		long[] latencies = new long[ROUNDS * prefixes.size()];
+		int measured = 0;
+		for (int round = 0; round < ROUNDS; round++) {
+			for (String prefix : prefixes) {
+				long start = System.nanoTime();
+				index.complete(prefix, TypeaheadIndex.MAX_SUGGESTIONS);
+				latencies[measured++] = System.nanoTime() - start;
+			}
+		}
+
+		Arrays.sort(latencies);
+		log.info("Typeahead index with {} nodes and {} ranked suggestions: p50 {} ns, p99 {} ns",
+				index.nodeCount(), index.suggestionSlots(), latencies[latencies.length / 2], latencies[latencies.length * 99 / 100]);
+
+		assertTrue(latencies[latencies.length * 99 / 100] < 1_000_000, "p99 completion latency should stay below 1 ms");
+	}
+}
@@ -0,0 +1,87 @@
+package com.tlam.backend.search;
+
+import static com.tlam.backend.catalog.CatalogFixtures.cardBuilder;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.catalog.BundledCatalog;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class TypeaheadIndexTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("base1", "Base", "Base", LocalDate.of(1999, 1, 9)),
+					set("sv3pt5", "151", "Scarlet & Violet", LocalDate.of(2023, 9, 22)),
+					set("sv4", "Paradox Rift", "Scarlet & Violet", LocalDate.of(2023, 11, 3))),
+			List.of(cardBuilder("base1", "4").name("Charizard").rarity("Rare Holo").build(),
+					cardBuilder("base1", "46").name("Charmander").build(),
+					cardBuilder("base1", "58").name("Pikachu").build(),
+					cardBuilder("sv3pt5", "6").name("Charizard ex").rarity("Double Rare").build(),
+					cardBuilder("sv3pt5", "25").name("Pikachu").build(),
+					cardBuilder("sv3pt5", "83").name("Farfetch'd").build(),
+					cardBuilder("sv4", "1").name("Dark Charizard").rarity("Rare").build(),
+					cardBuilder("sv4", "2").name("Ho-Oh").rarity("Rare").build()));
+
+	@Test
+	void ranksCompletionsByCollectors() {
+		TypeaheadIndex index = TypeaheadIndex.build(TypeaheadService.entries(CATALOG,
+				Map.of("sv3pt5-6", 5L, "base1-46", 3L, "base1-4", 1L)));
+
+		assertEquals(List.of("Charizard ex", "Charmander", "Charizard", "Dark Charizard"), texts(index.complete("char", 10)));
+		assertEquals(List.of("Charizard ex", "Charmander"), texts(index.complete("Char", 2)));
+		assertEquals(List.of("Charizard ex", "Charizard", "Dark Charizard"), texts(index.complete("chariz", 10)));
+	}
+
+	@Test
+	void ranksEqualPopularityByLengthThenRecency() {
+		TypeaheadIndex index = TypeaheadIndex.build(TypeaheadService.entries(CATALOG, Map.of()));
+
+		assertEquals(List.of("Charizard", "Charmander", "Charizard ex", "Dark Charizard"), texts(index.complete("char", 10)));
+
+		// One suggestion per name, covering every printing
+		List<TypeaheadIndex.Entry> pikachu = index.complete("pi", 10);
+		assertEquals(1, pikachu.size());
+		assertEquals(2, pikachu.get(0).cardCount());
+	}
+
+	@Test
+	void completesLaterWordsSetsAndNormalizedText() {
+		TypeaheadIndex index = TypeaheadIndex.build(TypeaheadService.entries(CATALOG, Map.of()));
+
+		assertEquals(List.of("Charizard ex"), texts(index.complete("ex", 10)));
+		assertEquals(List.of("Dark Charizard"), texts(index.complete("dark ch", 10)));
+		assertEquals(List.of("Farfetch'd"), texts(index.complete("FARFETCHD", 10)));
+		assertEquals(List.of("Ho-Oh"), texts(index.complete("ho o", 10)));
+
+		List<TypeaheadIndex.Entry> sets = index.complete("rift", 10);
+		assertEquals(SuggestionType.SET, sets.get(0).type());
+		assertEquals("sv4", sets.get(0).setId());
+		assertEquals(List.of("Paradox Rift"), texts(index.complete("para", 10)));
+		assertEquals(List.of("151"), texts(index.complete("15", 10)));
+
+		assertEquals(List.of(), index.complete("charx", 10));
+		assertEquals(List.of(), index.complete("  ", 10));
+		assertEquals(List.of(), TypeaheadIndex.empty().complete("char", 10));
+	}
+
+	@Test
+	void bundledCatalogFillsEverySuggestionSlot() throws IOException {
+		TypeaheadIndex index = TypeaheadIndex.build(TypeaheadService.entries(BundledCatalog.load(), Map.of()));
+
+		List<TypeaheadIndex.Entry> pikachu = index.complete("pika", TypeaheadIndex.MAX_SUGGESTIONS);
+		assertEquals(TypeaheadIndex.MAX_SUGGESTIONS, pikachu.size());
+		assertTrue(texts(pikachu).contains("Pikachu"), texts(pikachu).toString());
+	}
+
+	private static List<String> texts(List<TypeaheadIndex.Entry> entries) {
+		return entries.stream().map(TypeaheadIndex.Entry::text).toList();
+	}
+}
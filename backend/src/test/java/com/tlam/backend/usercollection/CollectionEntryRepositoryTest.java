@@ -0,0 +1,30 @@
+package com.tlam.backend.usercollection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class CollectionEntryRepositoryTest {
+
+	@Test
+	void cardIdRangeHoldsExactlyTheCardsOfTheSet() {
+		assertEquals("sv1-", CollectionEntryRepository.cardIdRangeStart("sv1"));
+		assertEquals("sv1.", CollectionEntryRepository.cardIdRangeEnd("sv1"));
+
+		// Card IDs are ASCII, so String order is the byte-wise order of the text_pattern_ops operators
+		assertTrue(inRange("sv1", "sv1-1"));
+		assertTrue(inRange("sv1", "sv1-TG05"));
+		assertTrue(inRange("sv_1", "sv_1-1"));
+		assertFalse(inRange("sv1", "sv10-1"));
+		assertFalse(inRange("sv1", "sv1a-1"));
+		assertFalse(inRange("sv1", "sv1"));
+		assertFalse(inRange("sv_1", "svx1-1"));
+	}
+
+	private static boolean inRange(String setId, String cardId) {
+		return cardId.compareTo(CollectionEntryRepository.cardIdRangeStart(setId)) >= 0
+				&& cardId.compareTo(CollectionEntryRepository.cardIdRangeEnd(setId)) < 0;
+	}
+}
@@ -0,0 +1,45 @@
+package com.tlam.backend.usercollection;
+
+import static com.tlam.backend.catalog.CatalogFixtures.card;
+import static com.tlam.backend.catalog.CatalogFixtures.set;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.tlam.backend.card.CardDTO;
+import com.tlam.backend.catalog.CatalogSnapshot;
+
+class SetPageServiceTest {
+
+	private static final CatalogSnapshot CATALOG = CatalogSnapshot.build(1, 0,
+			List.of(set("sv1", "Scarlet & Violet", LocalDate.of(2023, 3, 31)),
+					set("sv2", "Scarlet & Violet", LocalDate.of(2023, 6, 9))),
+			List.of(card("sv1", "1"), card("sv1", "10"), card("sv1", "2"),
+					card("sv2", "1"), card("sv2", "2")));
+
+	@Test
+	void ownedQuantitiesFollowTheCardOrder() {
+		SetPageDTO page = SetPageService.toSetPage(CATALOG, CATALOG.getSetDTO("sv1").orElseThrow(),
+				List.of(new OwnedQuantity("sv1-10", 3), new OwnedQuantity("sv1-1", 1)));
+
+		assertEquals("sv1", page.getSet().getId());
+		assertEquals(List.of("sv1-1", "sv1-2", "sv1-10"), page.getCards().stream().map(CardDTO::getId).toList());
+		assertEquals(List.of("sv1-1", "sv1-10"), new ArrayList<>(page.getOwned().keySet()));
+		assertEquals(Map.of("sv1-1", 1, "sv1-10", 3), page.getOwned());
+		assertEquals(2, page.getOwnedCount());
+	}
+
+	@Test
+	void entriesOutsideTheSetAreLeftOut() {
+		SetPageDTO page = SetPageService.toSetPage(CATALOG, CATALOG.getSetDTO("sv2").orElseThrow(),
+				List.of(new OwnedQuantity("sv2-99", 2), new OwnedQuantity("sv1-1", 1), new OwnedQuantity("sv2-2", 4)));
+
+		assertEquals(Map.of("sv2-2", 4), page.getOwned());
+		assertEquals(0, SetPageService.toSetPage(CATALOG, CATALOG.getSetDTO("sv2").orElseThrow(), List.of()).getOwnedCount());
+	}
+}
@@ -26,6 +26,9 @@ final class NetworkService: NetworkServiceProtocol {
         let configuration = URLSessionConfiguration.default
         configuration.timeoutIntervalForRequest = Config.API.timeout
         configuration.timeoutIntervalForResource = Config.API.timeout
+        // Catalog responses carry ETags, keep them on disk so repeat requests revalidate with a 304
+        configuration.urlCache = URLCache(memoryCapacity: 8 * 1024 * 1024, diskCapacity: 64 * 1024 * 1024)
+        configuration.requestCachePolicy = .useProtocolCachePolicy
         configuration.httpAdditionalHeaders = [
             "Content-Type": "application/json",
             "Accept": "application/json"